@@ -0,0 +1,65 @@
+package com.recyclestudy.common;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NullValidatorBenchmark {
+
+    @Param({"1000", "100000"})
+    private int validationCount;
+
+    private Object first;
+    private Object second;
+    private Object third;
+
+    @Setup
+    public void setUp() {
+        first = "member@example.com";
+        second = 1L;
+        third = new Object();
+    }
+
+    @Benchmark
+    public void builderWithSingleTarget() {
+        for (int i = 0; i < validationCount; i++) {
+            NullValidator.builder()
+                    .add("first", first)
+                    .validate();
+        }
+    }
+
+    @Benchmark
+    public void builderWithThreeTargets() {
+        for (int i = 0; i < validationCount; i++) {
+            NullValidator.builder()
+                    .add("first", first)
+                    .add("second", second)
+                    .add("third", third)
+                    .validate();
+        }
+    }
+
+    @Benchmark
+    public void staticWithSingleTarget() {
+        for (int i = 0; i < validationCount; i++) {
+            NullValidator.validate("first", first);
+        }
+    }
+
+    @Benchmark
+    public void staticWithThreeTargets() {
+        for (int i = 0; i < validationCount; i++) {
+            NullValidator.validate("first", first, "second", second, "third", third);
+        }
+    }
+}
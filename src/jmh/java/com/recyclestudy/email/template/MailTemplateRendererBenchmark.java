@@ -0,0 +1,60 @@
+package com.recyclestudy.email.template;
+
+import com.recyclestudy.review.domain.ReviewURL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MailTemplateRendererBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int urlCount;
+
+    private TemplateEngine templateEngine;
+    private MailTemplateRenderer mailTemplateRenderer;
+    private List<ReviewURL> targetUrls;
+
+    @Setup
+    public void setUp() {
+        final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        targetUrls = IntStream.range(0, urlCount)
+                .mapToObj(i -> ReviewURL.from("https://example.com/posts/%d?ref=mail&page=%d".formatted(i, i)))
+                .toList();
+    }
+
+    @Benchmark
+    public String templateEngine() {
+        final Context context = new Context();
+        context.setVariable("targetUrls", targetUrls);
+        return templateEngine.process("review_email", context);
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return mailTemplateRenderer.renderReviewEmail(targetUrls);
+    }
+}
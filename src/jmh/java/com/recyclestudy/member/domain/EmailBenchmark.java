@@ -0,0 +1,50 @@
+package com.recyclestudy.member.domain;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailBenchmark {
+
+    @Param({"1000", "100000"})
+    private int emailCount;
+
+    private List<String> values;
+    private List<Email> emails;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, emailCount)
+                .mapToObj(i -> "member.%d+tag@study%d.example.com".formatted(i, i % 100))
+                .toList();
+        emails = values.stream()
+                .map(Email::from)
+                .toList();
+    }
+
+    @Benchmark
+    public void from(final Blackhole blackhole) {
+        for (final String value : values) {
+            blackhole.consume(Email.from(value));
+        }
+    }
+
+    @Benchmark
+    public void toMaskedValue(final Blackhole blackhole) {
+        for (final Email email : emails) {
+            blackhole.consume(email.toMaskedValue());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.recyclestudy.member.domain;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailFormatValidatorBenchmark {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
+    );
+
+    @Param({"VALID", "INVALID_TOP_LEVEL_DOMAIN", "PATHOLOGICAL"})
+    private InputType inputType;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = inputType.value;
+    }
+
+    @Benchmark
+    public boolean legacyPattern() {
+        return LEGACY_PATTERN.matcher(input).matches();
+    }
+
+    @Benchmark
+    public boolean formatValidator() {
+        return EmailFormatValidator.isValid(input);
+    }
+
+    public enum InputType {
+        VALID("first.last+tag@mail.example.co.kr"),
+        INVALID_TOP_LEVEL_DOMAIN("first.last+tag@mail.example.c0m"),
+        PATHOLOGICAL("a.".repeat(100) + "a@" + "a-a.".repeat(35) + "a1"),
+        ;
+
+        private final String value;
+
+        InputType(final String value) {
+            this.value = value;
+        }
+    }
+}
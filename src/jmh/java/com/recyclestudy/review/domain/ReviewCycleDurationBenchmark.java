@@ -0,0 +1,41 @@
+package com.recyclestudy.review.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewCycleDurationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int reviewCount;
+
+    private List<LocalDate> targets;
+
+    @Setup
+    public void setUp() {
+        final LocalDate base = LocalDate.of(2025, 1, 1);
+        targets = IntStream.range(0, reviewCount)
+                .mapToObj(i -> base.plusDays(i % 365))
+                .toList();
+    }
+
+    @Benchmark
+    public void calculate(final Blackhole blackhole) {
+        for (final LocalDate target : targets) {
+            blackhole.consume(ReviewCycleDuration.calculate(target));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.recyclestudy.review.service.output;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.review.domain.Review;
+import com.recyclestudy.review.domain.ReviewCycle;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReviewSendOutputBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int cycleCount;
+
+    @Param({"10", "1000", "100000"})
+    private int memberCount;
+
+    private List<ReviewCycle> reviewCycles;
+    private List<ReviewCycleSendTarget> sendTargets;
+
+    @Setup
+    public void setUp() {
+        final int members = Math.min(memberCount, cycleCount);
+        final List<Member> memberPool = IntStream.range(0, members)
+                .mapToObj(i -> Member.withoutId(Email.from("member%d@example.com".formatted(i))))
+                .toList();
+        final LocalDateTime scheduledAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        reviewCycles = IntStream.range(0, cycleCount)
+                .mapToObj(i -> {
+                    final Member member = memberPool.get(i % members);
+                    final Review review = Review.withoutId(member, ReviewURL.from("https://example.com/posts/%d".formatted(i)));
+                    return ReviewCycle.withoutId(review, scheduledAt);
+                })
+                .toList();
+        sendTargets = IntStream.range(0, cycleCount)
+                .mapToObj(i -> {
+                    final int memberIndex = i % members;
+                    return new ReviewCycleSendTarget(
+                            (long) i,
+                            (long) memberIndex,
+                            memberPool.get(memberIndex).getEmail(),
+                            ReviewURL.from("https://example.com/posts/%d".formatted(i))
+                    );
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public ReviewSendOutput from() {
+        return ReviewSendOutput.from(reviewCycles);
+    }
+
+    @Benchmark
+    public ReviewSendOutput fromSendTargets() {
+        return ReviewSendOutput.fromSendTargets(sendTargets);
+    }
+}
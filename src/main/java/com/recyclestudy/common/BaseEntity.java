@@ -1,57 +1,19 @@
 package com.recyclestudy.common;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
-import java.time.LocalDateTime;
-import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.Hibernate;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 @MappedSuperclass
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public abstract class BaseEntity {
+public abstract class BaseEntity extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     protected Long id;
-
-    @Column(name = "created_at", nullable = false)
-    @CreationTimestamp
-    protected LocalDateTime createdAt;
-
-    @Column(name = "modified_at")
-    @UpdateTimestamp
-    protected LocalDateTime modifiedAt;
-
-    @Override
-    public final boolean equals(final Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null) {
-            return false;
-        }
-
-        if (Hibernate.getClass(this) != Hibernate.getClass(o)) {
-            return false;
-        }
-        final BaseEntity that = (BaseEntity) o;
-        return id != null && id.equals(that.id);
-    }
-
-    @Override
-    public int hashCode() {
-        if (id == null) {
-            throw new IllegalStateException("hashCode() called on entity without ID");
-        }
-        return Objects.hash(id);
-    }
 }
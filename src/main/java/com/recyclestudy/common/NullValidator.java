@@ -8,6 +8,37 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class NullValidator {
 
+    private static final String NULL_MESSAGE_FORMAT = "null이 될 수 없습니다: %s";
+
+    public static void validate(final String name, final Object target) {
+        if (target == null) {
+            throw new IllegalArgumentException(NULL_MESSAGE_FORMAT.formatted(name));
+        }
+    }
+
+    public static void validate(
+            final String firstName,
+            final Object firstTarget,
+            final String secondName,
+            final Object secondTarget
+    ) {
+        validate(firstName, firstTarget);
+        validate(secondName, secondTarget);
+    }
+
+    public static void validate(
+            final String firstName,
+            final Object firstTarget,
+            final String secondName,
+            final Object secondTarget,
+            final String thirdName,
+            final Object thirdTarget
+    ) {
+        validate(firstName, firstTarget);
+        validate(secondName, secondTarget);
+        validate(thirdName, thirdTarget);
+    }
+
     public static ValidatorBuilder builder() {
         return new ValidatorBuilder();
     }
@@ -23,9 +54,7 @@ public final class NullValidator {
 
         public void validate() {
             for (final ValidationElement element : this.elements) {
-                if (element.target() == null) {
-                    throw new IllegalArgumentException("null이 될 수 없습니다: %s".formatted(element.name));
-                }
+                NullValidator.validate(element.name(), element.target());
             }
         }
 
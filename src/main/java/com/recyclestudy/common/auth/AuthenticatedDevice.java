@@ -0,0 +1,12 @@
+package com.recyclestudy.common.auth;
+
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+
+public record AuthenticatedDevice(Long deviceId, Long memberId, Email email, DeviceIdentifier identifier) {
+
+    public static AuthenticatedDevice of(final DeviceIdentifier identifier, final DeviceAuthInfo authInfo) {
+        return new AuthenticatedDevice(authInfo.deviceId(), authInfo.memberId(), authInfo.email(), identifier);
+    }
+}
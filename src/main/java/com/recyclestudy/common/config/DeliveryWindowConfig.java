@@ -0,0 +1,20 @@
+package com.recyclestudy.common.config;
+
+import com.recyclestudy.review.domain.DeliveryWindow;
+import java.time.Duration;
+import java.time.LocalTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DeliveryWindowConfig {
+
+    @Bean
+    public DeliveryWindow deliveryWindow(
+            @Value("${review.dispatch.window.start:08:00}") final String start,
+            @Value("${review.dispatch.window.length:12h}") final Duration length
+    ) {
+        return DeliveryWindow.of(LocalTime.parse(start), length);
+    }
+}
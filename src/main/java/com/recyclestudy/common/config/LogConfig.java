@@ -0,0 +1,10 @@
+package com.recyclestudy.common.config;
+
+import com.recyclestudy.common.log.RequestLogProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class LogConfig {
+}
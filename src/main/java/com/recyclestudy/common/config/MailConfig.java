@@ -0,0 +1,43 @@
+package com.recyclestudy.common.config;
+
+import com.recyclestudy.email.transport.PooledJavaMailSender;
+import java.time.Duration;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Bean
+    public PooledJavaMailSender javaMailSender(
+            final MailProperties mailProperties,
+            @Value("${mail.pool.max-size:8}") final int maxSize,
+            @Value("${mail.pool.max-messages-per-connection:100}") final int maxMessagesPerConnection,
+            @Value("${mail.pool.validation-interval:30s}") final Duration validationInterval,
+            @Value("${mail.pool.borrow-timeout:30s}") final Duration borrowTimeout
+    ) {
+        final PooledJavaMailSender sender = new PooledJavaMailSender(
+                maxSize, maxMessagesPerConnection, validationInterval, borrowTimeout);
+
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        final Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
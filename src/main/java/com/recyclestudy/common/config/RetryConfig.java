@@ -0,0 +1,28 @@
+package com.recyclestudy.common.config;
+
+import com.recyclestudy.common.retry.ExponentialBackoff;
+import java.time.Duration;
+import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RetryConfig {
+
+    @Bean
+    public ExponentialBackoff notificationRetryBackoff(
+            @Value("${review.retry.base-delay:1m}") final Duration baseDelay,
+            @Value("${review.retry.max-delay:1h}") final Duration maxDelay
+    ) {
+        return new ExponentialBackoff(baseDelay, maxDelay, new Random());
+    }
+
+    @Bean
+    public ExponentialBackoff deviceAuthMailRetryBackoff(
+            @Value("${auth.mail.outbox.base-delay:30s}") final Duration baseDelay,
+            @Value("${auth.mail.outbox.max-delay:30m}") final Duration maxDelay
+    ) {
+        return new ExponentialBackoff(baseDelay, maxDelay, new Random());
+    }
+}
@@ -0,0 +1,39 @@
+package com.recyclestudy.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    public static final String AUTH_MAIL_SCHEDULER = "authMailTaskScheduler";
+    public static final String MAINTENANCE_SCHEDULER = "maintenanceTaskScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${spring.task.scheduling.pool.size:4}") final int poolSize
+    ) {
+        return createScheduler(poolSize, "scheduling-");
+    }
+
+    @Bean(AUTH_MAIL_SCHEDULER)
+    public ThreadPoolTaskScheduler authMailTaskScheduler() {
+        return createScheduler(1, "auth-mail-scheduling-");
+    }
+
+    @Bean(MAINTENANCE_SCHEDULER)
+    public ThreadPoolTaskScheduler maintenanceTaskScheduler() {
+        return createScheduler(1, "maintenance-scheduling-");
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(final int poolSize, final String threadNamePrefix) {
+        final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
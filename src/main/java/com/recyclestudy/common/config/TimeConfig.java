@@ -1,14 +1,25 @@
 package com.recyclestudy.common.config;
 
+import jakarta.annotation.PostConstruct;
 import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class TimeConfig {
 
+    private static final ZoneId PERSISTENCE_ZONE = ZoneOffset.UTC;
+
+    @PostConstruct
+    public void setDefaultTimeZone() {
+        TimeZone.setDefault(TimeZone.getTimeZone(PERSISTENCE_ZONE));
+    }
+
     @Bean
     public Clock clock() {
-        return Clock.systemDefaultZone();
+        return Clock.system(PERSISTENCE_ZONE);
     }
 }
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
@@ -24,10 +25,13 @@ import static com.recyclestudy.common.log.MDCKey.USER_AGENT;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ApiLogFilter implements Filter {
 
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
 
+    private final RequestLogSampler requestLogSampler;
+
     @Override
     public void doFilter(
             final ServletRequest servletRequest,
@@ -44,8 +48,11 @@ public class ApiLogFilter implements Filter {
         populateMDC(traceId, request);
         response.setHeader(REQUEST_ID_HEADER, traceId);
 
+        final boolean sampled = log.isInfoEnabled() && requestLogSampler.isSampled(request);
         final long startTime = System.currentTimeMillis();
-        logRequest(request);
+        if (sampled) {
+            logRequest(request);
+        }
 
         int statusForLog = 200;
         try {
@@ -55,7 +62,9 @@ public class ApiLogFilter implements Filter {
             statusForLog = 500;
             throw ex;
         } finally {
-            logResponse(response, startTime, statusForLog);
+            if (sampled) {
+                logResponse(response, startTime, statusForLog);
+            }
             MDC.clear();
         }
     }
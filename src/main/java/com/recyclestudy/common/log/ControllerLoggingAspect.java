@@ -1,8 +1,8 @@
 package com.recyclestudy.common.log;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Arrays;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -15,18 +15,24 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @Aspect
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class ControllerLoggingAspect {
 
-    private static final int MAX_LOG_LENGTH = 500;
+    private final RequestLogSampler requestLogSampler;
+    private final RequestLogProperties requestLogProperties;
 
     @Around("LoggingPointcuts.controllerLayer()")
     public Object logController(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final HttpServletRequest request = getCurrentHttpRequest();
+        if (!log.isInfoEnabled() || !requestLogSampler.isSampled(request)) {
+            return joinPoint.proceed();
+        }
+
         final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         final String className = signature.getDeclaringType().getSimpleName();
         final String methodName = signature.getName();
         final Object[] args = joinPoint.getArgs();
 
-        final HttpServletRequest request = getCurrentHttpRequest();
         final String httpMethod = request != null ? request.getMethod() : "N/A";
         final String uri = request != null ? request.getRequestURI() : "N/A";
 
@@ -47,7 +53,7 @@ public class ControllerLoggingAspect {
             final Object[] args
     ) {
         log.info("[REQ] layer=controller | method={}.{} | httpMethod={} | uri={} | args={}",
-                className, methodName, httpMethod, uri, Arrays.toString(args));
+                className, methodName, httpMethod, uri, TruncatedLogValue.of(args, requestLogProperties.maxLength()));
     }
 
     private void logResponse(
@@ -59,10 +65,10 @@ public class ControllerLoggingAspect {
             final long startTime
     ) {
         final long duration = System.currentTimeMillis() - startTime;
-        final String resultStr = formatResult(result);
+        final TruncatedLogValue resultValue = TruncatedLogValue.of(result, requestLogProperties.maxLength());
 
         log.info("[RES] layer=controller | method={}.{} | httpMethod={} | uri={} | duration={}ms | result={}",
-                className, methodName, httpMethod, uri, duration, resultStr);
+                className, methodName, httpMethod, uri, duration, resultValue);
     }
 
     private HttpServletRequest getCurrentHttpRequest() {
@@ -72,12 +78,4 @@ public class ControllerLoggingAspect {
                 .map(ServletRequestAttributes::getRequest)
                 .orElse(null);
     }
-
-    private String formatResult(final Object result) {
-        if (result == null) {
-            return "null";
-        }
-        final String resultStr = result.toString();
-        return resultStr.length() <= MAX_LOG_LENGTH ? resultStr : resultStr.substring(0, MAX_LOG_LENGTH) + "...";
-    }
 }
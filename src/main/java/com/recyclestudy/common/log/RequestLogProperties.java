@@ -0,0 +1,32 @@
+package com.recyclestudy.common.log;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("api-log")
+public record RequestLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1.0") double defaultSampleRate,
+        @DefaultValue("500") int maxLength,
+        Map<String, Double> sampleRates
+) {
+
+    public RequestLogProperties {
+        validateSampleRate(defaultSampleRate);
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("로그 최대 길이는 0보다 커야 합니다: %d".formatted(maxLength));
+        }
+        if (sampleRates == null) {
+            sampleRates = Map.of();
+        }
+        sampleRates.values().forEach(RequestLogProperties::validateSampleRate);
+        sampleRates = Map.copyOf(sampleRates);
+    }
+
+    private static void validateSampleRate(final Double sampleRate) {
+        if (sampleRate == null || sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("샘플링 비율은 0 이상 1 이하여야 합니다: %s".formatted(sampleRate));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.recyclestudy.common.log;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+@Component
+public class RequestLogSampler {
+
+    private static final String SAMPLED_ATTRIBUTE = RequestLogSampler.class.getName() + ".SAMPLED";
+
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final List<SampleRule> rules;
+
+    public RequestLogSampler(final RequestLogProperties properties) {
+        this.enabled = properties.enabled();
+        this.defaultSampleRate = properties.defaultSampleRate();
+        this.rules = properties.sampleRates().entrySet().stream()
+                .map(entry -> new SampleRule(PathPatternParser.defaultInstance.parse(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparing(SampleRule::pattern, PathPattern.SPECIFICITY_COMPARATOR))
+                .toList();
+    }
+
+    public boolean isSampled(final HttpServletRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        if (request == null) {
+            return sample(defaultSampleRate);
+        }
+        if (request.getAttribute(SAMPLED_ATTRIBUTE) instanceof Boolean sampled) {
+            return sampled;
+        }
+
+        final boolean sampled = sample(findSampleRate(request.getRequestURI()));
+        request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        return sampled;
+    }
+
+    private double findSampleRate(final String uri) {
+        if (rules.isEmpty()) {
+            return defaultSampleRate;
+        }
+
+        final PathContainer path = PathContainer.parsePath(uri);
+        for (final SampleRule rule : rules) {
+            if (rule.pattern().matches(path)) {
+                return rule.sampleRate();
+            }
+        }
+        return defaultSampleRate;
+    }
+
+    private boolean sample(final double sampleRate) {
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        if (sampleRate <= 0.0) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private record SampleRule(PathPattern pattern, double sampleRate) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.recyclestudy.common.log;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+
+public final class TruncatedLogValue {
+
+    private static final String ELLIPSIS = "...";
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Object value;
+    private final int maxLength;
+
+    private TruncatedLogValue(final Object value, final int maxLength) {
+        this.value = value;
+        this.maxLength = maxLength;
+    }
+
+    public static TruncatedLogValue of(final Object value, final int maxLength) {
+        return new TruncatedLogValue(value, maxLength);
+    }
+
+    @Override
+    public String toString() {
+        final BoundedBuffer out = new BoundedBuffer(maxLength);
+        return out.finish(out.appendValue(value));
+    }
+
+    private static final class BoundedBuffer {
+
+        private final StringBuilder out;
+        private final int maxLength;
+
+        private BoundedBuffer(final int maxLength) {
+            this.out = new StringBuilder(Math.min(maxLength, INITIAL_CAPACITY));
+            this.maxLength = maxLength;
+        }
+
+        private boolean appendValue(final Object target) {
+            if (target == null) {
+                return append("null");
+            }
+            if (target instanceof CharSequence text) {
+                return append(text);
+            }
+            if (target instanceof Object[] elements) {
+                return appendElements(Arrays.asList(elements).iterator());
+            }
+            if (target instanceof Iterable<?> elements) {
+                return appendElements(elements.iterator());
+            }
+            if (target instanceof Map<?, ?> map) {
+                return appendEntries(map);
+            }
+            if (target instanceof ResponseEntity<?> entity) {
+                return appendResponseEntity(entity);
+            }
+            if (target instanceof Record record) {
+                return appendRecord(record);
+            }
+            return append(String.valueOf(target));
+        }
+
+        private boolean appendElements(final Iterator<?> elements) {
+            if (!append("[")) {
+                return false;
+            }
+            boolean first = true;
+            while (elements.hasNext()) {
+                if (!first && !append(", ")) {
+                    return false;
+                }
+                if (!appendValue(elements.next())) {
+                    return false;
+                }
+                first = false;
+            }
+            return append("]");
+        }
+
+        private boolean appendEntries(final Map<?, ?> map) {
+            if (!append("{")) {
+                return false;
+            }
+            boolean first = true;
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first && !append(", ")) {
+                    return false;
+                }
+                if (!appendValue(entry.getKey()) || !append("=") || !appendValue(entry.getValue())) {
+                    return false;
+                }
+                first = false;
+            }
+            return append("}");
+        }
+
+        private boolean appendResponseEntity(final ResponseEntity<?> entity) {
+            return append("<")
+                    && append(entity.getStatusCode().toString())
+                    && append(",")
+                    && appendValue(entity.getBody())
+                    && append(",")
+                    && append(entity.getHeaders().toString())
+                    && append(">");
+        }
+
+        private boolean appendRecord(final Record record) {
+            final RecordComponent[] components = record.getClass().getRecordComponents();
+            final Object[] values = new Object[components.length];
+            try {
+                for (int i = 0; i < components.length; i++) {
+                    final Method accessor = components[i].getAccessor();
+                    accessor.setAccessible(true);
+                    values[i] = accessor.invoke(record);
+                }
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return append(String.valueOf(record));
+            }
+
+            if (!append(record.getClass().getSimpleName()) || !append("[")) {
+                return false;
+            }
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0 && !append(", ")) {
+                    return false;
+                }
+                if (!append(components[i].getName()) || !append("=") || !appendValue(values[i])) {
+                    return false;
+                }
+            }
+            return append("]");
+        }
+
+        private boolean append(final CharSequence text) {
+            final int remaining = maxLength - out.length();
+            if (text.length() <= remaining) {
+                out.append(text);
+                return true;
+            }
+            out.append(text, 0, remaining);
+            return false;
+        }
+
+        private String finish(final boolean complete) {
+            if (!complete) {
+                out.append(ELLIPSIS);
+            }
+            return out.toString();
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.recyclestudy.common.resolver;
 
 import com.recyclestudy.common.annotation.AuthDevice;
+import com.recyclestudy.common.auth.AuthenticatedDevice;
 import com.recyclestudy.exception.UnauthorizedException;
-import com.recyclestudy.member.domain.Device;
 import com.recyclestudy.member.domain.DeviceIdentifier;
-import com.recyclestudy.member.repository.DeviceRepository;
+import com.recyclestudy.member.service.DeviceAuthenticator;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -18,7 +18,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class DeviceAuthArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final DeviceRepository deviceRepository;
+    private final DeviceAuthenticator deviceAuthenticator;
 
     @Override
     public boolean supportsParameter(final MethodParameter parameter) {
@@ -36,13 +36,11 @@ public class DeviceAuthArgumentResolver implements HandlerMethodArgumentResolver
                 .orElseThrow(() -> new UnauthorizedException("디바이스 인증 헤더가 누락되었습니다"));
 
         final DeviceIdentifier identifier = DeviceIdentifier.from(headerIdentifier);
-        final Device device = deviceRepository.findByIdentifier(identifier)
-                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 디바이스입니다"));
+        final AuthenticatedDevice device = deviceAuthenticator.authenticate(identifier);
 
-        if (!device.isActive()) {
-            throw new UnauthorizedException("인증되지 않은 디바이스입니다");
+        if (parameter.getParameterType().equals(AuthenticatedDevice.class)) {
+            return device;
         }
-
         return identifier;
     }
 }
@@ -0,0 +1,38 @@
+package com.recyclestudy.common.retry;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+public class ExponentialBackoff {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final RandomGenerator random;
+
+    public ExponentialBackoff(final Duration baseDelay, final Duration maxDelay, final RandomGenerator random) {
+        if (baseDelay.isNegative() || baseDelay.isZero()) {
+            throw new IllegalArgumentException("기본 대기 시간은 0보다 커야 합니다: %s".formatted(baseDelay));
+        }
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException(
+                    "최대 대기 시간은 기본 대기 시간 이상이어야 합니다: base=%s, max=%s".formatted(baseDelay, maxDelay));
+        }
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.random = random;
+    }
+
+    public Duration delayFor(final int attempt) {
+        final long ceiling = ceilingFor(attempt);
+        final long half = ceiling / 2;
+        return Duration.ofMillis(half + random.nextLong(ceiling - half + 1));
+    }
+
+    private long ceilingFor(final int attempt) {
+        long ceiling = baseDelayMillis;
+        for (int i = 0; i < attempt && ceiling < maxDelayMillis; i++) {
+            ceiling *= 2;
+        }
+        return Math.min(ceiling, maxDelayMillis);
+    }
+}
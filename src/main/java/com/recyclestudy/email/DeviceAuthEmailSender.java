@@ -1,14 +1,12 @@
 package com.recyclestudy.email;
 
+import com.recyclestudy.email.template.MailTemplateRenderer;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Slf4j
 @Service
@@ -16,12 +14,11 @@ import org.thymeleaf.context.Context;
 public class DeviceAuthEmailSender {
 
     private final EmailSender emailSender;
-    private final TemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
 
     @Value("${auth.base-url}")
     private String baseUrl;
 
-    @Async
     public void sendDeviceAuthMail(final Email email, final DeviceIdentifier deviceIdentifier) {
         final String authUrl = createAuthUrl(email, deviceIdentifier);
         final String message = createMessage(authUrl);
@@ -37,8 +34,6 @@ public class DeviceAuthEmailSender {
     }
 
     private String createMessage(final String authUrl) {
-        final Context context = new Context();
-        context.setVariable("authUrl", authUrl);
-        return templateEngine.process("auth_email", context);
+        return mailTemplateRenderer.renderAuthEmail(authUrl);
     }
 }
@@ -0,0 +1,50 @@
+package com.recyclestudy.email;
+
+import com.recyclestudy.common.config.SchedulingConfig;
+import com.recyclestudy.member.service.DeviceAuthMailOutboxService;
+import com.recyclestudy.member.service.output.DeviceAuthMailOutboxOutput;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceAuthMailRelay {
+
+    private final DeviceAuthMailOutboxService deviceAuthMailOutboxService;
+    private final DeviceAuthEmailSender deviceAuthEmailSender;
+    private final MailDispatcher mailDispatcher;
+
+    @Scheduled(
+            fixedDelayString = "${auth.mail.outbox.poll-delay:PT5S}",
+            scheduler = SchedulingConfig.AUTH_MAIL_SCHEDULER
+    )
+    public void relay() {
+        List<DeviceAuthMailOutboxOutput> outboxes = deviceAuthMailOutboxService.claimDue();
+
+        while (!outboxes.isEmpty()) {
+            final MailDispatchResult<DeviceAuthMailOutboxOutput> result
+                    = mailDispatcher.dispatch(outboxes, this::send);
+
+            deviceAuthMailOutboxService.complete(
+                    collectOutboxIds(result.succeeded()),
+                    collectOutboxIds(result.failed())
+            );
+            outboxes = deviceAuthMailOutboxService.claimDue();
+        }
+    }
+
+    private boolean send(final DeviceAuthMailOutboxOutput outbox) {
+        deviceAuthEmailSender.sendDeviceAuthMail(outbox.email(), outbox.identifier());
+        return true;
+    }
+
+    private List<Long> collectOutboxIds(final List<DeviceAuthMailOutboxOutput> outboxes) {
+        return outboxes.stream()
+                .map(DeviceAuthMailOutboxOutput::outboxId)
+                .toList();
+    }
+}
@@ -4,8 +4,16 @@ import com.recyclestudy.exception.EmailSendException;
 import com.recyclestudy.member.domain.Email;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
@@ -19,12 +27,7 @@ public class EmailSender {
 
     public void send(final Email targetEmail, final String subject, final String content) {
         try {
-            final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-
-            helper.setTo(targetEmail.getValue());
-            helper.setSubject(subject);
-            helper.setText(content, true);
+            final MimeMessage mimeMessage = createMimeMessage(targetEmail, subject, content);
 
             javaMailSender.send(mimeMessage);
 
@@ -35,4 +38,73 @@ public class EmailSender {
             throw new EmailSendException("메일 전송 중 오류가 발생했습니다.", e);
         }
     }
+
+    public List<MailSendResult> sendAll(final List<OutgoingMail> mails) {
+        final MimeMessage[] mimeMessages = new MimeMessage[mails.size()];
+        final boolean[] failed = new boolean[mails.size()];
+
+        for (int i = 0; i < mails.size(); i++) {
+            final OutgoingMail mail = mails.get(i);
+            try {
+                mimeMessages[i] = createMimeMessage(mail.targetEmail(), mail.subject(), mail.content());
+            } catch (final MessagingException e) {
+                log.error("[MAIL_SEND_FAILED] 메일 생성 실패: email={}", mail.targetEmail().toMaskedValue(), e);
+                failed[i] = true;
+            }
+        }
+
+        final Set<Object> failedMessages = sendPrepared(mimeMessages);
+
+        final List<MailSendResult> results = new ArrayList<>(mails.size());
+        int failCount = 0;
+        for (int i = 0; i < mails.size(); i++) {
+            if (failed[i] || failedMessages.contains(mimeMessages[i])) {
+                results.add(MailSendResult.failure(mails.get(i)));
+                failCount++;
+                continue;
+            }
+            results.add(MailSendResult.success(mails.get(i)));
+        }
+
+        log.info("[MAIL_BATCH_SENT] 메일 일괄 발송 완료: total={}, fail={}", mails.size(), failCount);
+        return results;
+    }
+
+    private Set<Object> sendPrepared(final MimeMessage[] mimeMessages) {
+        final MimeMessage[] sendable = Arrays.stream(mimeMessages)
+                .filter(Objects::nonNull)
+                .toArray(MimeMessage[]::new);
+
+        if (sendable.length == 0) {
+            return Collections.emptySet();
+        }
+
+        try {
+            javaMailSender.send(sendable);
+            return Collections.emptySet();
+        } catch (final MailSendException e) {
+            log.error("[MAIL_SEND_FAILED] 메일 일괄 발송 중 일부 실패: failed={}", e.getFailedMessages().size(), e);
+            if (e.getFailedMessages().isEmpty()) {
+                return Set.copyOf(Arrays.asList(sendable));
+            }
+            return e.getFailedMessages().keySet();
+        } catch (final MailException e) {
+            log.error("[MAIL_SEND_FAILED] 메일 일괄 발송 실패: size={}", sendable.length, e);
+            return Set.copyOf(Arrays.asList(sendable));
+        }
+    }
+
+    private MimeMessage createMimeMessage(
+            final Email targetEmail,
+            final String subject,
+            final String content
+    ) throws MessagingException {
+        final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+
+        helper.setTo(targetEmail.getValue());
+        helper.setSubject(subject);
+        helper.setText(content, true);
+        return mimeMessage;
+    }
 }
@@ -0,0 +1,18 @@
+package com.recyclestudy.email;
+
+import java.util.List;
+
+public record MailDispatchResult<T>(List<T> succeeded, List<T> failed) {
+
+    public static <T> MailDispatchResult<T> of(final List<T> succeeded, final List<T> failed) {
+        return new MailDispatchResult<>(succeeded, failed);
+    }
+
+    public int successCount() {
+        return succeeded.size();
+    }
+
+    public int failCount() {
+        return failed.size();
+    }
+}
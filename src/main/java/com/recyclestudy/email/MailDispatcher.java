@@ -0,0 +1,88 @@
+package com.recyclestudy.email;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final int concurrency;
+    private final boolean virtualThreads;
+    private final SendRateLimiter rateLimiter;
+
+    public MailDispatcher(
+            @Value("${mail.dispatch.concurrency:8}") final int concurrency,
+            @Value("${mail.dispatch.rate-per-second:10}") final int ratePerSecond,
+            @Value("${mail.dispatch.virtual-threads:true}") final boolean virtualThreads
+    ) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("동시 발송 수는 1 이상이어야 합니다: %d".formatted(concurrency));
+        }
+        this.concurrency = concurrency;
+        this.virtualThreads = virtualThreads;
+        this.rateLimiter = new SendRateLimiter(ratePerSecond);
+    }
+
+    public <T> MailDispatchResult<T> dispatch(final List<T> targets, final Predicate<T> sendTask) {
+        return dispatchInBatches(targets, 1, batch -> {
+            if (sendTask.test(batch.getFirst())) {
+                return MailDispatchResult.of(batch, List.of());
+            }
+            return MailDispatchResult.of(List.of(), batch);
+        });
+    }
+
+    public <T> MailDispatchResult<T> dispatchInBatches(
+            final List<T> targets,
+            final int batchSize,
+            final Function<List<T>, MailDispatchResult<T>> batchSendTask
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: %d".formatted(batchSize));
+        }
+
+        final Queue<T> succeeded = new ConcurrentLinkedQueue<>();
+        final Queue<T> failed = new ConcurrentLinkedQueue<>();
+        final Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = createExecutor()) {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                final List<T> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        rateLimiter.acquire(batch.size());
+                        final MailDispatchResult<T> result = batchSendTask.apply(batch);
+                        succeeded.addAll(result.succeeded());
+                        failed.addAll(result.failed());
+                    } catch (final Exception e) {
+                        log.error("[MAIL_DISPATCH_FAILED] 메일 발송 작업 실패: size={}", batch.size(), e);
+                        failed.addAll(batch);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        return MailDispatchResult.of(List.copyOf(succeeded), List.copyOf(failed));
+    }
+
+    private ExecutorService createExecutor() {
+        if (virtualThreads) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newFixedThreadPool(concurrency);
+    }
+}
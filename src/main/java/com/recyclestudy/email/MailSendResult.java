@@ -0,0 +1,12 @@
+package com.recyclestudy.email;
+
+public record MailSendResult(OutgoingMail mail, boolean success) {
+
+    public static MailSendResult success(final OutgoingMail mail) {
+        return new MailSendResult(mail, true);
+    }
+
+    public static MailSendResult failure(final OutgoingMail mail) {
+        return new MailSendResult(mail, false);
+    }
+}
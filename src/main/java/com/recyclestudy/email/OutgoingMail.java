@@ -0,0 +1,10 @@
+package com.recyclestudy.email;
+
+import com.recyclestudy.member.domain.Email;
+
+public record OutgoingMail(Email targetEmail, String subject, String content) {
+
+    public static OutgoingMail of(final Email targetEmail, final String subject, final String content) {
+        return new OutgoingMail(targetEmail, subject, content);
+    }
+}
@@ -1,81 +1,168 @@
 package com.recyclestudy.email;
 
-import com.recyclestudy.member.domain.Email;
-import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.email.template.MailTemplateRenderer;
 import com.recyclestudy.review.domain.ReviewURL;
 import com.recyclestudy.review.service.NotificationHistoryService;
+import com.recyclestudy.review.service.NotificationRetryService;
+import com.recyclestudy.review.service.ReviewDispatchWatermarkService;
 import com.recyclestudy.review.service.ReviewCycleService;
-import com.recyclestudy.review.service.input.ReviewSendInput;
-import com.recyclestudy.review.service.output.ReviewSendOutput;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import com.recyclestudy.review.service.input.ReviewSendChunkInput;
+import com.recyclestudy.review.service.output.NotificationRetryOutput;
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
 import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
-import java.time.Clock;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewEmailSender {
 
+    private static final String REVIEW_MAIL_SUBJECT = "[Recycle Study] 오늘의 복습 목록이 도착했습니다";
+
     private final EmailSender emailSender;
-    private final TemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
     private final ReviewCycleService reviewCycleService;
     private final NotificationHistoryService notificationHistoryService;
-    private final Clock clock;
+    private final NotificationRetryService notificationRetryService;
+    private final ReviewDispatchWatermarkService reviewDispatchWatermarkService;
+    private final MailDispatcher mailDispatcher;
 
-    @Scheduled(cron = "0 0 8 * * *", zone = "Asia/Seoul")
-    public void sendReviewMail() {
+    @Value("${review.dispatch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${review.dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${review.dispatch.sharding.enabled:false}")
+    private boolean shardingEnabled;
 
-        final LocalDate targetDate = LocalDate.now(clock);
-        final LocalTime targetTime = LocalTime.of(8, 0);
+    @Scheduled(cron = "${review.dispatch.poll-cron:0 * * * * *}", zone = "UTC")
+    public void sendReviewMail() {
+        if (shardingEnabled) {
+            return;
+        }
 
-        final ReviewSendOutput targetReviewCycle = reviewCycleService.findTargetReviewCycle(
-                ReviewSendInput.from(targetDate, targetTime));
+        final Optional<ReviewDispatchRangeOutput> range = reviewDispatchWatermarkService.claim();
+        if (range.isEmpty()) {
+            return;
+        }
 
-        final List<ReviewSendElement> elements = targetReviewCycle.elements();
-        log.info("[REVIEW_MAIL_SENT] 복습 메일 발송 시작: date={}, time={}, size={}", targetDate, targetTime, elements.size());
+        try {
+            dispatchRange(range.get());
+        } catch (final RuntimeException e) {
+            log.error("[REVIEW_MAIL_DISPATCH_FAILED] 복습 메일 발송 실패: after={}, until={}",
+                    range.get().scheduledAfter(), range.get().scheduledUntil(), e);
+            reviewDispatchWatermarkService.release();
+        }
+    }
 
+    private void dispatchRange(final ReviewDispatchRangeOutput range) {
         int successCount = 0;
         int failCount = 0;
 
-        for (final ReviewSendElement element : elements) {
-            final String message = createMessage(element.targetUrls());
-            final Email targetEmail = element.email();
+        ReviewSendChunkInput input = ReviewSendChunkInput.first(range, chunkSize);
+        ReviewSendChunkOutput chunk;
+
+        do {
+            chunk = reviewCycleService.findTargetReviewCycleChunk(input);
+            if (chunk.lastMemberId() == null) {
+                break;
+            }
+
+            if (!chunk.elements().isEmpty()) {
+                final MailDispatchResult<ReviewSendElement> result = sendChunk(chunk);
+
+                successCount += result.successCount();
+                failCount += result.failCount();
 
-            final boolean success = sendToTargetEmail(targetEmail, message);
+                log.info("[REVIEW_MAIL_CHUNK_SENT] 복습 메일 청크 처리 완료: lastMemberId={}, size={}",
+                        chunk.lastMemberId(), chunk.elements().size());
+            }
 
-            if (success) {
-                notificationHistoryService.saveAll(element.reviewCycleIds(), NotificationStatus.SENT);
-                successCount++;
-            } else {
-                notificationHistoryService.saveAll(element.reviewCycleIds(), NotificationStatus.FAILED);
-                failCount++;
+            if (!reviewDispatchWatermarkService.renew()) {
+                log.warn("[REVIEW_MAIL_LEASE_LOST] 발송 구간 점유 상실로 발송 중단: after={}, until={}, cursor={}",
+                        range.scheduledAfter(), range.scheduledUntil(), chunk.lastMemberId());
+                return;
             }
+            input = input.next(chunk.lastMemberId());
+        } while (chunk.hasNext());
+
+        reviewDispatchWatermarkService.complete();
+
+        if (successCount + failCount > 0) {
+            log.info("[REVIEW_MAIL_SENT] 복습 메일 발송 처리 완료: after={}, until={}, success={}, fail={}",
+                    range.scheduledAfter(), range.scheduledUntil(), successCount, failCount);
         }
+    }
 
-        log.info("[REVIEW_MAIL_SENT] 복습 메일 발송 처리 완료: success={}, fail={}", successCount, failCount);
+    public MailDispatchResult<ReviewSendElement> sendChunk(final ReviewSendChunkOutput chunk) {
+        final MailDispatchResult<ReviewSendElement> result
+                = mailDispatcher.dispatchInBatches(chunk.elements(), batchSize, this::sendBatch);
+
+        notificationHistoryService.saveAll(NotificationResultInput.of(
+                collectReviewCycleIds(result.succeeded()),
+                collectReviewCycleIds(result.failed())
+        ));
+        return result;
     }
 
-    private boolean sendToTargetEmail(final Email targetEmail, final String message) {
-        try {
-            emailSender.send(targetEmail, "[Recycle Study] 오늘의 복습 목록이 도착했습니다", message);
-            return true;
-        } catch (final Exception e) {
-            log.error("[REVIEW_MAIL_SEND_FAILED] 복습 메일 발송 실패: email={}", targetEmail.getValue(), e);
-            return false;
+    @Scheduled(fixedDelayString = "${review.retry.poll-delay:PT1M}")
+    public void retryFailedReviewMail() {
+        final NotificationRetryOutput retry = notificationRetryService.claimDueRetries();
+        if (retry.isEmpty()) {
+            return;
         }
+
+        final MailDispatchResult<ReviewSendElement> result
+                = mailDispatcher.dispatchInBatches(retry.elements(), batchSize, this::sendBatch);
+
+        notificationRetryService.completeRetries(retry, NotificationResultInput.of(
+                collectReviewCycleIds(result.succeeded()),
+                collectReviewCycleIds(result.failed())
+        ));
+
+        log.info("[REVIEW_MAIL_RETRIED] 복습 메일 재발송 처리 완료: success={}, fail={}",
+                result.successCount(), result.failCount());
+    }
+
+    private MailDispatchResult<ReviewSendElement> sendBatch(final List<ReviewSendElement> elements) {
+        final List<OutgoingMail> mails = elements.stream()
+                .map(element -> OutgoingMail.of(element.email(), REVIEW_MAIL_SUBJECT,
+                        createMessage(element.targetUrls())))
+                .toList();
+
+        final List<MailSendResult> results = emailSender.sendAll(mails);
+
+        final List<ReviewSendElement> succeeded = new ArrayList<>();
+        final List<ReviewSendElement> failed = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            final ReviewSendElement element = elements.get(i);
+            if (results.get(i).success()) {
+                succeeded.add(element);
+                continue;
+            }
+            log.error("[REVIEW_MAIL_SEND_FAILED] 복습 메일 발송 실패: email={}", element.email().toMaskedValue());
+            failed.add(element);
+        }
+        return MailDispatchResult.of(succeeded, failed);
+    }
+
+    private List<Long> collectReviewCycleIds(final List<ReviewSendElement> elements) {
+        return elements.stream()
+                .flatMap(element -> element.reviewCycleIds().stream())
+                .toList();
     }
 
     private String createMessage(final List<ReviewURL> targetUrls) {
-        final Context context = new Context();
-        context.setVariable("targetUrls", targetUrls);
-        return templateEngine.process("review_email", context);
+        return mailTemplateRenderer.renderReviewEmail(targetUrls);
     }
 }
@@ -0,0 +1,54 @@
+package com.recyclestudy.email;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SendRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long intervalNanos;
+    private final Lock lock = new ReentrantLock();
+    private long nextAvailableAt;
+
+    public SendRateLimiter(final int permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? NANOS_PER_SECOND / permitsPerSecond : 0L;
+        this.nextAvailableAt = System.nanoTime();
+    }
+
+    public void acquire() {
+        acquire(1);
+    }
+
+    public void acquire(final int permits) {
+        if (intervalNanos == 0L) {
+            return;
+        }
+
+        final long waitNanos = reserve(permits);
+        if (waitNanos > 0L) {
+            sleep(waitNanos);
+        }
+    }
+
+    private long reserve(final int permits) {
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            final long reservedAt = nextAvailableAt - now > 0L ? nextAvailableAt : now;
+            nextAvailableAt = reservedAt + intervalNanos * permits;
+            return reservedAt - now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sleep(final long waitNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
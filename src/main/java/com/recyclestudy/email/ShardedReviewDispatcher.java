@@ -0,0 +1,83 @@
+package com.recyclestudy.email;
+
+import com.recyclestudy.review.service.DispatchShardLeaseService;
+import com.recyclestudy.review.service.ReviewCycleService;
+import com.recyclestudy.review.service.input.ReviewShardChunkInput;
+import com.recyclestudy.review.service.output.DispatchShardOutput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
+import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "review.dispatch.sharding.enabled", havingValue = "true")
+public class ShardedReviewDispatcher {
+
+    private final DispatchShardLeaseService dispatchShardLeaseService;
+    private final ReviewCycleService reviewCycleService;
+    private final ReviewEmailSender reviewEmailSender;
+
+    @Value("${review.dispatch.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${review.dispatch.sharding.cron:0 * * * * *}", zone = "UTC")
+    public void dispatch() {
+        dispatchShardLeaseService.ensureShards();
+
+        for (int shardNo = 0; shardNo < dispatchShardLeaseService.shardCount(); shardNo++) {
+            final Optional<DispatchShardOutput> shard = dispatchShardLeaseService.acquire(shardNo);
+            if (shard.isEmpty()) {
+                continue;
+            }
+
+            try {
+                dispatchShard(shard.get());
+            } catch (final RuntimeException e) {
+                log.error("[DISPATCH_SHARD_FAILED] 샤드 발송 실패: shardNo={}", shardNo, e);
+                dispatchShardLeaseService.release(shardNo);
+            }
+        }
+    }
+
+    private void dispatchShard(final DispatchShardOutput shard) {
+        int successCount = 0;
+        int failCount = 0;
+
+        ReviewShardChunkInput input = ReviewShardChunkInput.first(shard, chunkSize);
+        ReviewSendChunkOutput chunk;
+
+        do {
+            chunk = reviewCycleService.findTargetReviewCycleShardChunk(input);
+            if (chunk.lastMemberId() == null) {
+                break;
+            }
+
+            if (!chunk.elements().isEmpty()) {
+                final MailDispatchResult<ReviewSendElement> result = reviewEmailSender.sendChunk(chunk);
+                successCount += result.successCount();
+                failCount += result.failCount();
+            }
+
+            if (!dispatchShardLeaseService.checkpoint(shard.shardNo(), chunk.lastMemberId())) {
+                log.warn("[DISPATCH_SHARD_LEASE_LOST] 샤드 점유 상실로 발송 중단: shardNo={}, cursor={}",
+                        shard.shardNo(), chunk.lastMemberId());
+                return;
+            }
+            input = input.next(chunk.lastMemberId());
+        } while (chunk.hasNext());
+
+        dispatchShardLeaseService.complete(shard.shardNo());
+
+        if (successCount + failCount > 0) {
+            log.info("[DISPATCH_SHARD_COMPLETED] 샤드 발송 완료: shardNo={}, until={}, success={}, fail={}",
+                    shard.shardNo(), shard.scheduledUntil(), successCount, failCount);
+        }
+    }
+}
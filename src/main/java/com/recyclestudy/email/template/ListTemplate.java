@@ -0,0 +1,34 @@
+package com.recyclestudy.email.template;
+
+import java.util.List;
+
+public record ListTemplate(String prefix, SlotTemplate item, String separator, String suffix) {
+
+    public static ListTemplate of(
+            final String prefix,
+            final SlotTemplate item,
+            final String separator,
+            final String suffix
+    ) {
+        return new ListTemplate(prefix, item, separator, suffix);
+    }
+
+    public int renderedLength(final List<String> escapedValues) {
+        int length = prefix.length() + suffix.length() + separator.length() * Math.max(escapedValues.size() - 1, 0);
+        for (final String escapedValue : escapedValues) {
+            length += item.renderedLength(escapedValue);
+        }
+        return length;
+    }
+
+    public void writeTo(final StringBuilder out, final List<String> escapedValues) {
+        out.append(prefix);
+        for (int i = 0; i < escapedValues.size(); i++) {
+            if (i > 0) {
+                out.append(separator);
+            }
+            item.writeTo(out, escapedValues.get(i));
+        }
+        out.append(suffix);
+    }
+}
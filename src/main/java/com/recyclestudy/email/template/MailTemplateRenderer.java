@@ -0,0 +1,164 @@
+package com.recyclestudy.email.template;
+
+import com.recyclestudy.review.domain.ReviewURL;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+
+@Slf4j
+@Component
+public class MailTemplateRenderer {
+
+    private static final String REVIEW_TEMPLATE = "review_email";
+    private static final String AUTH_TEMPLATE = "auth_email";
+    private static final String FIRST_TOKEN = "RECYCLE-STUDY-SLOT-A";
+    private static final String SECOND_TOKEN = "RECYCLE-STUDY-SLOT-B";
+    private static final List<String> VERIFICATION_VALUES = List.of(
+            "https://example.com/post?a=1&b=<2>",
+            "https://example.com/\"quoted\"/'single'",
+            "https://example.com/한글 경로"
+    );
+
+    private final TemplateEngine templateEngine;
+    private final ListTemplate reviewTemplate;
+    private final SlotTemplate authTemplate;
+
+    public MailTemplateRenderer(final TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+        this.reviewTemplate = compileReviewTemplate().orElse(null);
+        this.authTemplate = compileAuthTemplate().orElse(null);
+    }
+
+    public String renderReviewEmail(final List<ReviewURL> targetUrls) {
+        if (reviewTemplate == null) {
+            return processReviewEmail(targetUrls);
+        }
+
+        final List<String> escapedUrls = targetUrls.stream()
+                .map(url -> HtmlEscape.escapeHtml4Xml(url.getValue()))
+                .toList();
+        final StringBuilder out = new StringBuilder(reviewTemplate.renderedLength(escapedUrls));
+        reviewTemplate.writeTo(out, escapedUrls);
+        return out.toString();
+    }
+
+    public String renderAuthEmail(final String authUrl) {
+        if (authTemplate == null) {
+            return processAuthEmail(authUrl);
+        }
+
+        final String escapedUrl = HtmlEscape.escapeHtml4Xml(authUrl);
+        final StringBuilder out = new StringBuilder(authTemplate.renderedLength(escapedUrl));
+        authTemplate.writeTo(out, escapedUrl);
+        return out.toString();
+    }
+
+    boolean isPrecompiled() {
+        return reviewTemplate != null && authTemplate != null;
+    }
+
+    private Optional<ListTemplate> compileReviewTemplate() {
+        try {
+            final String empty = processReviewValues(List.of());
+            final String single = processReviewValues(List.of(FIRST_TOKEN));
+            final String pair = processReviewValues(List.of(FIRST_TOKEN, SECOND_TOKEN));
+
+            final int prefixLength = commonPrefixLength(empty, single);
+            final int suffixLength = Math.min(commonSuffixLength(empty, single), empty.length() - prefixLength);
+            final String item = single.substring(prefixLength, single.length() - suffixLength);
+            final String pairItems = pair.substring(prefixLength, pair.length() - suffixLength);
+            final String secondItem = item.replace(FIRST_TOKEN, SECOND_TOKEN);
+            if (!pairItems.startsWith(item) || !pairItems.endsWith(secondItem)
+                    || pairItems.length() < item.length() + secondItem.length()) {
+                return fallback(REVIEW_TEMPLATE);
+            }
+
+            final ListTemplate template = ListTemplate.of(
+                    single.substring(0, prefixLength),
+                    SlotTemplate.parse(item, FIRST_TOKEN),
+                    pairItems.substring(item.length(), pairItems.length() - secondItem.length()),
+                    single.substring(single.length() - suffixLength)
+            );
+            if (!verifyReviewTemplate(template)) {
+                return fallback(REVIEW_TEMPLATE);
+            }
+            return Optional.of(template);
+        } catch (final RuntimeException e) {
+            log.warn("[MAIL_TEMPLATE_FALLBACK] 메일 템플릿 사전 컴파일 실패: template={}", REVIEW_TEMPLATE, e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<SlotTemplate> compileAuthTemplate() {
+        try {
+            final SlotTemplate template = SlotTemplate.parse(processAuthEmail(FIRST_TOKEN), FIRST_TOKEN);
+            for (final String value : VERIFICATION_VALUES) {
+                final StringBuilder out = new StringBuilder();
+                template.writeTo(out, HtmlEscape.escapeHtml4Xml(value));
+                if (!out.toString().equals(processAuthEmail(value))) {
+                    return fallback(AUTH_TEMPLATE);
+                }
+            }
+            return Optional.of(template);
+        } catch (final RuntimeException e) {
+            log.warn("[MAIL_TEMPLATE_FALLBACK] 메일 템플릿 사전 컴파일 실패: template={}", AUTH_TEMPLATE, e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean verifyReviewTemplate(final ListTemplate template) {
+        for (int count = 0; count <= VERIFICATION_VALUES.size(); count++) {
+            final List<String> values = VERIFICATION_VALUES.subList(0, count);
+            final StringBuilder out = new StringBuilder();
+            template.writeTo(out, values.stream().map(HtmlEscape::escapeHtml4Xml).toList());
+            if (!out.toString().equals(processReviewValues(values))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <T> Optional<T> fallback(final String templateName) {
+        log.warn("[MAIL_TEMPLATE_FALLBACK] 사전 컴파일 결과가 템플릿 엔진과 달라 엔진으로 렌더링합니다: template={}", templateName);
+        return Optional.empty();
+    }
+
+    private String processReviewValues(final List<String> values) {
+        return processReviewEmail(values.stream().map(ReviewURL::from).toList());
+    }
+
+    private String processReviewEmail(final List<ReviewURL> targetUrls) {
+        final Context context = new Context();
+        context.setVariable("targetUrls", targetUrls);
+        return templateEngine.process(REVIEW_TEMPLATE, context);
+    }
+
+    private String processAuthEmail(final String authUrl) {
+        final Context context = new Context();
+        context.setVariable("authUrl", authUrl);
+        return templateEngine.process(AUTH_TEMPLATE, context);
+    }
+
+    private static int commonPrefixLength(final String left, final String right) {
+        final int limit = Math.min(left.length(), right.length());
+        int length = 0;
+        while (length < limit && left.charAt(length) == right.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int commonSuffixLength(final String left, final String right) {
+        final int limit = Math.min(left.length(), right.length());
+        int length = 0;
+        while (length < limit
+                && left.charAt(left.length() - 1 - length) == right.charAt(right.length() - 1 - length)) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,35 @@
+package com.recyclestudy.email.template;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record SlotTemplate(List<String> segments) {
+
+    public static SlotTemplate parse(final String rendered, final String token) {
+        final List<String> segments = new ArrayList<>();
+        int from = 0;
+        int found = rendered.indexOf(token);
+        while (found >= 0) {
+            segments.add(rendered.substring(from, found));
+            from = found + token.length();
+            found = rendered.indexOf(token, from);
+        }
+        segments.add(rendered.substring(from));
+        return new SlotTemplate(List.copyOf(segments));
+    }
+
+    public int renderedLength(final String escapedValue) {
+        int length = escapedValue.length() * (segments.size() - 1);
+        for (final String segment : segments) {
+            length += segment.length();
+        }
+        return length;
+    }
+
+    public void writeTo(final StringBuilder out, final String escapedValue) {
+        out.append(segments.getFirst());
+        for (int i = 1; i < segments.size(); i++) {
+            out.append(escapedValue).append(segments.get(i));
+        }
+    }
+}
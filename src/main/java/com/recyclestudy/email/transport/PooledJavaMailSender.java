@@ -0,0 +1,113 @@
+package com.recyclestudy.email.transport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements MeterBinder, DisposableBean {
+
+    private final SmtpTransportPool transportPool;
+
+    public PooledJavaMailSender(
+            final int maxSize,
+            final int maxMessagesPerConnection,
+            final Duration validationInterval,
+            final Duration borrowTimeout
+    ) {
+        this.transportPool = new SmtpTransportPool(
+                this::connectTransport, maxSize, maxMessagesPerConnection, validationInterval, borrowTimeout);
+    }
+
+    @Override
+    protected void doSend(final MimeMessage[] mimeMessages, final Object[] originalMessages) throws MailException {
+        final Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport = borrowTransport(mimeMessages, originalMessages);
+        MessagingException reconnectFailure = null;
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                final MimeMessage mimeMessage = mimeMessages[i];
+                final Object originalMessage = originalMessages != null ? originalMessages[i] : mimeMessage;
+
+                if (transport == null) {
+                    failedMessages.put(originalMessage, reconnectFailure);
+                    continue;
+                }
+
+                try {
+                    transport.send(prepare(mimeMessage));
+                } catch (final MessagingException | RuntimeException e) {
+                    failedMessages.put(originalMessage, e);
+
+                    if (!transport.isConnected()) {
+                        transportPool.release(transport, true);
+                        transport = null;
+                        try {
+                            transport = transportPool.borrow();
+                        } catch (final MessagingException reconnectException) {
+                            log.error("[SMTP_POOL] SMTP 재연결 실패", reconnectException);
+                            reconnectFailure = reconnectException;
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, false);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        transportPool.bindTo(registry);
+    }
+
+    @Override
+    public void destroy() {
+        transportPool.close();
+    }
+
+    private PooledTransport borrowTransport(final MimeMessage[] mimeMessages, final Object[] originalMessages) {
+        try {
+            return transportPool.borrow();
+        } catch (final AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (final MessagingException e) {
+            final Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], e);
+            }
+            throw new MailSendException("메일 서버 연결에 실패했습니다", e, failedMessages);
+        }
+    }
+
+    private MimeMessage prepare(final MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        final String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+        return mimeMessage;
+    }
+}
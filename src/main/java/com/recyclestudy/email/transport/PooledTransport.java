@@ -0,0 +1,52 @@
+package com.recyclestudy.email.transport;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PooledTransport {
+
+    private static final Address[] NO_ADDRESSES = new Address[0];
+
+    private final Transport transport;
+    private int sentCount;
+    private long lastUsedAt;
+
+    PooledTransport(final Transport transport, final long createdAt) {
+        this.transport = transport;
+        this.lastUsedAt = createdAt;
+    }
+
+    public void send(final MimeMessage mimeMessage) throws MessagingException {
+        final Address[] addresses = mimeMessage.getAllRecipients();
+        transport.sendMessage(mimeMessage, addresses != null ? addresses : NO_ADDRESSES);
+        sentCount++;
+    }
+
+    public boolean isConnected() {
+        return transport.isConnected();
+    }
+
+    boolean isIdleLongerThan(final long idleNanos, final long now) {
+        return now - lastUsedAt >= idleNanos;
+    }
+
+    boolean hasSentAtLeast(final int maxMessages) {
+        return sentCount >= maxMessages;
+    }
+
+    void touch(final long now) {
+        this.lastUsedAt = now;
+    }
+
+    void close() {
+        try {
+            transport.close();
+        } catch (final MessagingException e) {
+            log.warn("[SMTP_POOL] SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+}
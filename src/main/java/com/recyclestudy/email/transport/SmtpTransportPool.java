@@ -0,0 +1,161 @@
+package com.recyclestudy.email.transport;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.MessagingException;
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SmtpTransportPool implements MeterBinder, AutoCloseable {
+
+    private final TransportConnector connector;
+    private final int maxMessagesPerConnection;
+    private final long validationIntervalNanos;
+    private final long borrowTimeoutNanos;
+
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private volatile boolean closed;
+
+    public SmtpTransportPool(
+            final TransportConnector connector,
+            final int maxSize,
+            final int maxMessagesPerConnection,
+            final Duration validationInterval,
+            final Duration borrowTimeout
+    ) {
+        if (maxSize < 1 || maxMessagesPerConnection < 1) {
+            throw new IllegalArgumentException("SMTP 연결 풀 크기와 연결당 최대 발송 수는 1 이상이어야 합니다");
+        }
+        this.connector = connector;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.validationIntervalNanos = validationInterval.toNanos();
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public PooledTransport borrow() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("SMTP 연결 풀이 종료되었습니다");
+        }
+        acquirePermit();
+
+        try {
+            final PooledTransport pooledTransport = pollValidTransport();
+            activeCount.incrementAndGet();
+            return pooledTransport;
+        } catch (final MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(final PooledTransport pooledTransport, final boolean broken) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed || broken || pooledTransport.hasSentAtLeast(maxMessagesPerConnection)) {
+                destroy(pooledTransport);
+                return;
+            }
+            pooledTransport.touch(System.nanoTime());
+            idleTransports.offerFirst(pooledTransport);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledTransport pooledTransport;
+        while ((pooledTransport = idleTransports.pollFirst()) != null) {
+            destroy(pooledTransport);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("mail.smtp.pool.active", activeCount, AtomicInteger::get)
+                .description("사용 중인 SMTP 연결 수")
+                .register(registry);
+        Gauge.builder("mail.smtp.pool.idle", idleTransports, BlockingDeque::size)
+                .description("유휴 SMTP 연결 수")
+                .register(registry);
+        FunctionCounter.builder("mail.smtp.pool.created", createdCount, AtomicLong::get)
+                .description("생성된 SMTP 연결 수")
+                .register(registry);
+        FunctionCounter.builder("mail.smtp.pool.destroyed", destroyedCount, AtomicLong::get)
+                .description("종료된 SMTP 연결 수")
+                .register(registry);
+        FunctionCounter.builder("mail.smtp.pool.validation.failures", validationFailureCount, AtomicLong::get)
+                .description("유효성 검증에 실패한 SMTP 연결 수")
+                .register(registry);
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getIdleCount() {
+        return idleTransports.size();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new MessagingException("SMTP 연결을 얻지 못했습니다: 대기 시간 초과");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결 대기 중 인터럽트가 발생했습니다", e);
+        }
+    }
+
+    private PooledTransport pollValidTransport() throws MessagingException {
+        PooledTransport pooledTransport;
+        while ((pooledTransport = idleTransports.pollFirst()) != null) {
+            if (isUsable(pooledTransport)) {
+                return pooledTransport;
+            }
+            validationFailureCount.incrementAndGet();
+            destroy(pooledTransport);
+        }
+        return create();
+    }
+
+    private boolean isUsable(final PooledTransport pooledTransport) {
+        if (!pooledTransport.isIdleLongerThan(validationIntervalNanos, System.nanoTime())) {
+            return true;
+        }
+        return pooledTransport.isConnected();
+    }
+
+    private PooledTransport create() throws MessagingException {
+        final PooledTransport pooledTransport = new PooledTransport(connector.connect(), System.nanoTime());
+        createdCount.incrementAndGet();
+        log.info("[SMTP_POOL] SMTP 연결 생성: created={}", createdCount.get());
+        return pooledTransport;
+    }
+
+    private void destroy(final PooledTransport pooledTransport) {
+        pooledTransport.close();
+        destroyedCount.incrementAndGet();
+    }
+}
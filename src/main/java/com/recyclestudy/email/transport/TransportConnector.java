@@ -0,0 +1,10 @@
+package com.recyclestudy.email.transport;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+
+@FunctionalInterface
+public interface TransportConnector {
+
+    Transport connect() throws MessagingException;
+}
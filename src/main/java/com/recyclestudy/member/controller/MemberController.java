@@ -1,12 +1,17 @@
 package com.recyclestudy.member.controller;
 
-import com.recyclestudy.email.DeviceAuthEmailSender;
+import com.recyclestudy.common.annotation.AuthDevice;
+import com.recyclestudy.common.auth.AuthenticatedDevice;
+import com.recyclestudy.member.controller.request.DeliveryPreferenceUpdateRequest;
 import com.recyclestudy.member.controller.request.MemberSaveRequest;
+import com.recyclestudy.member.controller.response.DeliveryPreferenceUpdateResponse;
 import com.recyclestudy.member.controller.response.MemberFindResponse;
 import com.recyclestudy.member.controller.response.MemberSaveResponse;
 import com.recyclestudy.member.service.MemberService;
+import com.recyclestudy.member.service.input.DeliveryPreferenceUpdateInput;
 import com.recyclestudy.member.service.input.MemberFindInput;
 import com.recyclestudy.member.service.input.MemberSaveInput;
+import com.recyclestudy.member.service.output.DeliveryPreferenceUpdateOutput;
 import com.recyclestudy.member.service.output.MemberFindOutput;
 import com.recyclestudy.member.service.output.MemberSaveOutput;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,15 +32,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class MemberController {
 
     private final MemberService memberService;
-    private final DeviceAuthEmailSender deviceAuthEmailSender;
 
     @PostMapping
     public ResponseEntity<MemberSaveResponse> saveMember(@RequestBody final MemberSaveRequest request) {
         final MemberSaveInput input = request.toInput();
         final MemberSaveOutput output = memberService.saveDevice(input);
 
-        deviceAuthEmailSender.sendDeviceAuthMail(output.email(), output.identifier());
-
         final MemberSaveResponse response = MemberSaveResponse.from(output);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -53,6 +56,17 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/delivery-preference")
+    public ResponseEntity<DeliveryPreferenceUpdateResponse> updateDeliveryPreference(
+            @AuthDevice final AuthenticatedDevice device,
+            @RequestBody final DeliveryPreferenceUpdateRequest request
+    ) {
+        final DeliveryPreferenceUpdateInput input = DeliveryPreferenceUpdateInput.of(
+                device.memberId(), request.deliveryTime(), request.timeZone());
+        final DeliveryPreferenceUpdateOutput output = memberService.updateDeliveryPreference(input);
+        return ResponseEntity.ok(DeliveryPreferenceUpdateResponse.from(output));
+    }
+
     private String getResolvedIdentifier(final String identifier, final String headerIdentifier) {
         if (headerIdentifier == null) {
             return identifier;
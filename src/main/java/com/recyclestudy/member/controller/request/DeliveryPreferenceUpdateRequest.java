@@ -0,0 +1,4 @@
+package com.recyclestudy.member.controller.request;
+
+public record DeliveryPreferenceUpdateRequest(String deliveryTime, String timeZone) {
+}
@@ -0,0 +1,11 @@
+package com.recyclestudy.member.controller.response;
+
+import com.recyclestudy.member.service.output.DeliveryPreferenceUpdateOutput;
+import java.time.LocalTime;
+
+public record DeliveryPreferenceUpdateResponse(LocalTime deliveryTime, String timeZone) {
+
+    public static DeliveryPreferenceUpdateResponse from(final DeliveryPreferenceUpdateOutput output) {
+        return new DeliveryPreferenceUpdateResponse(output.deliveryTime(), output.timeZone());
+    }
+}
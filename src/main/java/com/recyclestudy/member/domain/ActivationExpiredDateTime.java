@@ -32,9 +32,7 @@ public class ActivationExpiredDateTime {
     }
 
     private static void validateNotNull(final LocalDateTime currentTime) {
-        NullValidator.builder()
-                .add(Fields.value, currentTime)
-                .validate();
+        NullValidator.validate(Fields.value, currentTime);
     }
 
     public void checkExpired(final LocalDateTime currentTime) {
@@ -0,0 +1,93 @@
+package com.recyclestudy.member.domain;
+
+import com.recyclestudy.common.NullValidator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldNameConstants;
+
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldNameConstants(level = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class DeliveryPreference {
+
+    private static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
+    @Column(name = "delivery_time")
+    private LocalTime deliveryTime;
+
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone;
+
+    public static DeliveryPreference defaultPreference() {
+        return new DeliveryPreference(null, DEFAULT_TIME_ZONE);
+    }
+
+    public static DeliveryPreference of(final LocalTime deliveryTime, final String timeZone) {
+        validateNotNull(timeZone);
+        final ZoneId zoneId = parseZoneId(timeZone);
+        return new DeliveryPreference(truncateToMinutes(deliveryTime), zoneId.getId());
+    }
+
+    private static void validateNotNull(final String timeZone) {
+        NullValidator.validate(Fields.timeZone, timeZone);
+    }
+
+    private static LocalTime truncateToMinutes(final LocalTime deliveryTime) {
+        if (deliveryTime == null) {
+            return null;
+        }
+        return deliveryTime.withSecond(0).withNano(0);
+    }
+
+    private static ZoneId parseZoneId(final String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (final DateTimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 시간대입니다: %s".formatted(timeZone));
+        }
+    }
+
+    public ZoneId zoneId() {
+        return ZoneId.of(timeZone);
+    }
+
+    public LocalDate today(final Clock clock) {
+        return LocalDate.ofInstant(clock.instant(), zoneId());
+    }
+
+    public LocalTime deliveryTimeOr(final LocalTime fallback) {
+        if (deliveryTime == null) {
+            return fallback;
+        }
+        return deliveryTime;
+    }
+
+    public LocalDateTime toUtc(final LocalDateTime localDateTime) {
+        return localDateTime.atZone(zoneId())
+                .withZoneSameInstant(ZoneOffset.UTC)
+                .toLocalDateTime();
+    }
+
+    public LocalDateTime fromUtc(final LocalDateTime utcDateTime) {
+        return utcDateTime.atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(zoneId())
+                .toLocalDateTime();
+    }
+}
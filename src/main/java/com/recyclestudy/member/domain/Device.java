@@ -47,11 +47,11 @@ public class Device extends BaseEntity {
             final boolean isActive,
             final ActivationExpiredDateTime activationExpiresAt
     ) {
-        NullValidator.builder()
-                .add(Fields.member, member)
-                .add(Fields.identifier, deviceIdentifier)
-                .add(Fields.activationExpiresAt, activationExpiresAt)
-                .validate();
+        NullValidator.validate(
+                Fields.member, member,
+                Fields.identifier, deviceIdentifier,
+                Fields.activationExpiresAt, activationExpiresAt
+        );
         return new Device(member, deviceIdentifier, isActive, activationExpiresAt);
     }
 
@@ -0,0 +1,82 @@
+package com.recyclestudy.member.domain;
+
+import com.recyclestudy.common.BaseEntity;
+import com.recyclestudy.common.NullValidator;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+
+@Entity
+@Table(
+        name = "device_auth_mail_outbox",
+        indexes = @Index(
+                name = "idx_device_auth_mail_outbox_status_next_attempt_at",
+                columnList = "status, next_attempt_at"
+        )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldNameConstants(level = AccessLevel.PRIVATE)
+@Getter
+public class DeviceAuthMailOutbox extends BaseEntity {
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "email", nullable = false))
+    private Email email;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "device_identifier", nullable = false))
+    private DeviceIdentifier deviceIdentifier;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    public static DeviceAuthMailOutbox withoutId(
+            final Email email,
+            final DeviceIdentifier deviceIdentifier,
+            final LocalDateTime nextAttemptAt
+    ) {
+        NullValidator.validate(
+                Fields.email, email,
+                Fields.deviceIdentifier, deviceIdentifier,
+                Fields.nextAttemptAt, nextAttemptAt
+        );
+        return new DeviceAuthMailOutbox(email, deviceIdentifier, OutboxStatus.PENDING, 0, nextAttemptAt);
+    }
+
+    public void lease(final LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.attemptCount++;
+        this.nextAttemptAt = null;
+    }
+
+    public void markFailed(final LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.nextAttemptAt = nextAttemptAt;
+        if (nextAttemptAt == null) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
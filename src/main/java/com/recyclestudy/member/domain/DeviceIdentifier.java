@@ -32,8 +32,6 @@ public class DeviceIdentifier {
     }
 
     private static void validateNotNull(final String value) {
-        NullValidator.builder()
-                .add(Fields.value, value)
-                .validate();
+        NullValidator.validate(Fields.value, value);
     }
 }
@@ -2,7 +2,6 @@ package com.recyclestudy.member.domain;
 
 import com.recyclestudy.common.NullValidator;
 import jakarta.persistence.Embeddable;
-import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -20,9 +19,6 @@ import lombok.experimental.FieldNameConstants;
 @EqualsAndHashCode
 public class Email {
 
-    private static final String EMAIL_FORMAT = "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_FORMAT);
-
     private String value;
 
     public static Email from(final String value) {
@@ -32,13 +28,11 @@ public class Email {
     }
 
     private static void validateNotNull(final String value) {
-        NullValidator.builder()
-                .add(Fields.value, value)
-                .validate();
+        NullValidator.validate(Fields.value, value);
     }
 
     private static void validateEmailFormat(final String emailValue) {
-        if (!EMAIL_PATTERN.matcher(emailValue).matches()) {
+        if (!EmailFormatValidator.isValid(emailValue)) {
             throw new IllegalArgumentException("유효하지 않은 이메일 형식입니다.");
         }
     }
@@ -0,0 +1,85 @@
+package com.recyclestudy.member.domain;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class EmailFormatValidator {
+
+    static final int MAX_LENGTH = 254;
+
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN_LENGTH = 7;
+
+    static boolean isValid(final String value) {
+        final int length = value.length();
+        if (length > MAX_LENGTH) {
+            return false;
+        }
+
+        int index = 0;
+        int segmentLength = 0;
+        for (; index < length; index++) {
+            final char c = value.charAt(index);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (segmentLength == 0) {
+                    return false;
+                }
+                segmentLength = 0;
+                continue;
+            }
+            if (!isLocalPartChar(c)) {
+                return false;
+            }
+            segmentLength++;
+        }
+        if (index == length || segmentLength == 0) {
+            return false;
+        }
+
+        int labelCount = 0;
+        int labelLength = 0;
+        boolean alphabeticLabel = true;
+        for (index++; index < length; index++) {
+            final char c = value.charAt(index);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labelCount++;
+                labelLength = 0;
+                alphabeticLabel = true;
+                continue;
+            }
+            if (!isDomainChar(c)) {
+                return false;
+            }
+            alphabeticLabel &= isAlphabetic(c);
+            labelLength++;
+        }
+
+        return labelCount > 0
+                && alphabeticLabel
+                && labelLength >= MIN_TOP_LEVEL_DOMAIN_LENGTH
+                && labelLength <= MAX_TOP_LEVEL_DOMAIN_LENGTH;
+    }
+
+    private static boolean isLocalPartChar(final char c) {
+        return isAlphanumeric(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-';
+    }
+
+    private static boolean isDomainChar(final char c) {
+        return isAlphanumeric(c) || c == '-';
+    }
+
+    private static boolean isAlphanumeric(final char c) {
+        return isAlphabetic(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAlphabetic(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
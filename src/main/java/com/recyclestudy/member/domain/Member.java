@@ -25,18 +25,24 @@ public class Member extends BaseEntity {
     @AttributeOverride(name = "value", column = @Column(name = "email", nullable = false, unique = true))
     private Email email;
 
+    @Embedded
+    private DeliveryPreference deliveryPreference;
+
     public static Member withoutId(final Email email) {
         validateNotNull(email);
-        return new Member(email);
+        return new Member(email, DeliveryPreference.defaultPreference());
     }
 
     private static void validateNotNull(final Email email) {
-        NullValidator.builder()
-                .add(Fields.email, email)
-                .validate();
+        NullValidator.validate(Fields.email, email);
     }
 
     public boolean hasEmail(final Email email) {
         return this.email.equals(email);
     }
+
+    public void changeDeliveryPreference(final DeliveryPreference deliveryPreference) {
+        NullValidator.validate(Fields.deliveryPreference, deliveryPreference);
+        this.deliveryPreference = deliveryPreference;
+    }
 }
@@ -0,0 +1,8 @@
+package com.recyclestudy.member.domain;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED,
+    ;
+}
@@ -0,0 +1,6 @@
+package com.recyclestudy.member.repository;
+
+import com.recyclestudy.member.domain.Email;
+
+public record DeviceAuthInfo(Long deviceId, Long memberId, Email email, boolean active) {
+}
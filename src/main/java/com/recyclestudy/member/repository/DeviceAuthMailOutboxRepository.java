@@ -0,0 +1,32 @@
+package com.recyclestudy.member.repository;
+
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
+import com.recyclestudy.member.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface DeviceAuthMailOutboxRepository extends JpaRepository<DeviceAuthMailOutbox, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+                SELECT o
+                FROM DeviceAuthMailOutbox o
+                WHERE o.status = :status
+                AND o.nextAttemptAt <= :now
+                ORDER BY o.nextAttemptAt, o.id
+            """)
+    List<DeviceAuthMailOutbox> findDueForUpdate(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+}
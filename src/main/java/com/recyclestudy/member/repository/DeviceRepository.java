@@ -21,5 +21,13 @@ public interface DeviceRepository extends JpaRepository<Device, Long> {
 
     Optional<Device> findByIdentifier(DeviceIdentifier deviceIdentifier);
 
+    @Query("""
+                SELECT new com.recyclestudy.member.repository.DeviceAuthInfo(d.id, m.id, m.email, d.isActive)
+                FROM Device d
+                JOIN d.member m
+                WHERE d.identifier = :identifier
+            """)
+    Optional<DeviceAuthInfo> findAuthInfoByIdentifier(@Param("identifier") DeviceIdentifier identifier);
+
     void deleteByIdentifier(DeviceIdentifier identifier);
 }
@@ -0,0 +1,62 @@
+package com.recyclestudy.member.repository;
+
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberDeviceQueryRepository {
+
+    private static final String FIND_BY_EMAIL_OR_IDENTIFIER_SQL = """
+            SELECT m.email, m.time_zone, d.identifier, d.created_at, d.is_active
+            FROM member m
+            LEFT JOIN device d ON d.member_id = m.id
+            WHERE m.email = ?
+            UNION ALL
+            SELECT m.email, m.time_zone, d.identifier, d.created_at, d.is_active
+            FROM device d
+            JOIN member m ON m.id = d.member_id
+            WHERE d.identifier = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<MemberDeviceRow> findByEmailOrIdentifier(final Email email, final DeviceIdentifier identifier) {
+        return jdbcTemplate.query(
+                FIND_BY_EMAIL_OR_IDENTIFIER_SQL,
+                (rs, rowNum) -> toRow(rs),
+                email.getValue(),
+                identifier.getValue()
+        );
+    }
+
+    private MemberDeviceRow toRow(final ResultSet rs) throws SQLException {
+        final Email email = Email.from(rs.getString("email"));
+        final String identifier = rs.getString("identifier");
+        if (identifier == null) {
+            return MemberDeviceRow.of(email, null, null, false);
+        }
+
+        return MemberDeviceRow.of(
+                email,
+                DeviceIdentifier.from(identifier),
+                toMemberDateTime(rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("time_zone")),
+                rs.getBoolean("is_active")
+        );
+    }
+
+    private LocalDateTime toMemberDateTime(final LocalDateTime utcDateTime, final String timeZone) {
+        return utcDateTime.atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.of(timeZone))
+                .toLocalDateTime();
+    }
+}
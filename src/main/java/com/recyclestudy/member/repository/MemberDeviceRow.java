@@ -0,0 +1,34 @@
+package com.recyclestudy.member.repository;
+
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import java.time.LocalDateTime;
+
+public record MemberDeviceRow(
+        Email email,
+        DeviceIdentifier identifier,
+        LocalDateTime createdAt,
+        boolean active
+) {
+
+    public static MemberDeviceRow of(
+            final Email email,
+            final DeviceIdentifier identifier,
+            final LocalDateTime createdAt,
+            final boolean active
+    ) {
+        return new MemberDeviceRow(email, identifier, createdAt, active);
+    }
+
+    public boolean isOwnedBy(final Email target) {
+        return email.equals(target);
+    }
+
+    public boolean hasDevice() {
+        return identifier != null;
+    }
+
+    public boolean isDevice(final DeviceIdentifier target) {
+        return target.equals(identifier);
+    }
+}
@@ -0,0 +1,61 @@
+package com.recyclestudy.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import com.recyclestudy.member.repository.DeviceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DeviceAuthCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "device_auth";
+
+    private final DeviceRepository deviceRepository;
+    private final Cache<DeviceIdentifier, DeviceAuthInfo> cache;
+
+    public DeviceAuthCache(
+            final DeviceRepository deviceRepository,
+            @Value("${auth.device-cache.max-size:10000}") final long maxSize,
+            @Value("${auth.device-cache.ttl:30s}") final Duration ttl
+    ) {
+        this.deviceRepository = deviceRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<DeviceAuthInfo> find(final DeviceIdentifier identifier) {
+        return Optional.ofNullable(cache.get(identifier,
+                key -> deviceRepository.findAuthInfoByIdentifier(key).orElse(null)));
+    }
+
+    public void evictAfterCommit(final DeviceIdentifier identifier) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(identifier);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                cache.invalidate(identifier);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,73 @@
+package com.recyclestudy.member.service;
+
+import com.recyclestudy.common.retry.ExponentialBackoff;
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
+import com.recyclestudy.member.domain.OutboxStatus;
+import com.recyclestudy.member.repository.DeviceAuthMailOutboxRepository;
+import com.recyclestudy.member.service.output.DeviceAuthMailOutboxOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeviceAuthMailOutboxService {
+
+    private final DeviceAuthMailOutboxRepository deviceAuthMailOutboxRepository;
+    private final ExponentialBackoff deviceAuthMailRetryBackoff;
+    private final Clock clock;
+
+    @Value("${auth.mail.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${auth.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${auth.mail.outbox.lease:5m}")
+    private Duration lease;
+
+    @Transactional
+    public List<DeviceAuthMailOutboxOutput> claimDue() {
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final List<DeviceAuthMailOutbox> outboxes = deviceAuthMailOutboxRepository
+                .findDueForUpdate(OutboxStatus.PENDING, now, PageRequest.ofSize(batchSize));
+
+        final LocalDateTime leaseUntil = now.plus(lease);
+        outboxes.forEach(outbox -> outbox.lease(leaseUntil));
+
+        return outboxes.stream()
+                .map(DeviceAuthMailOutboxOutput::from)
+                .toList();
+    }
+
+    @Transactional
+    public void complete(final List<Long> sentOutboxIds, final List<Long> failedOutboxIds) {
+        final LocalDateTime now = LocalDateTime.now(clock);
+
+        deviceAuthMailOutboxRepository.findAllById(sentOutboxIds)
+                .forEach(DeviceAuthMailOutbox::markSent);
+        deviceAuthMailOutboxRepository.findAllById(failedOutboxIds)
+                .forEach(outbox -> outbox.markFailed(nextAttemptAt(outbox, now)));
+
+        log.info("[AUTH_MAIL_OUTBOX_RELAYED] 인증 메일 아웃박스 처리: sent={}, failed={}",
+                sentOutboxIds.size(), failedOutboxIds.size());
+    }
+
+    private LocalDateTime nextAttemptAt(final DeviceAuthMailOutbox outbox, final LocalDateTime now) {
+        final int attemptCount = outbox.getAttemptCount() + 1;
+        if (attemptCount >= maxAttempts) {
+            log.warn("[AUTH_MAIL_OUTBOX_EXHAUSTED] 인증 메일 재시도 횟수 초과: outboxId={}, email={}",
+                    outbox.getId(), outbox.getEmail().toMaskedValue());
+            return null;
+        }
+        return now.plus(deviceAuthMailRetryBackoff.delayFor(attemptCount));
+    }
+}
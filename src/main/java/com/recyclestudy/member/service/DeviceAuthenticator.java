@@ -0,0 +1,53 @@
+package com.recyclestudy.member.service;
+
+import com.recyclestudy.common.auth.AuthenticatedDevice;
+import com.recyclestudy.exception.UnauthorizedException;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Component
+@RequiredArgsConstructor
+public class DeviceAuthenticator {
+
+    private static final String ATTRIBUTE_NAME = AuthenticatedDevice.class.getName();
+
+    private final DeviceAuthCache deviceAuthCache;
+
+    public AuthenticatedDevice authenticate(final DeviceIdentifier identifier) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final AuthenticatedDevice resolved = findResolved(requestAttributes, identifier);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        final DeviceAuthInfo authInfo = deviceAuthCache.find(identifier)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 디바이스입니다"));
+        if (!authInfo.active()) {
+            throw new UnauthorizedException("인증되지 않은 디바이스입니다");
+        }
+
+        final AuthenticatedDevice device = AuthenticatedDevice.of(identifier, authInfo);
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ATTRIBUTE_NAME, device, RequestAttributes.SCOPE_REQUEST);
+        }
+        return device;
+    }
+
+    private AuthenticatedDevice findResolved(
+            final RequestAttributes requestAttributes,
+            final DeviceIdentifier identifier
+    ) {
+        if (requestAttributes == null) {
+            return null;
+        }
+        final Object resolved = requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (resolved instanceof final AuthenticatedDevice device && device.identifier().equals(identifier)) {
+            return device;
+        }
+        return null;
+    }
+}
@@ -5,14 +5,20 @@ import com.recyclestudy.exception.NotFoundException;
 import com.recyclestudy.exception.UnauthorizedException;
 import com.recyclestudy.member.domain.ActivationExpiredDateTime;
 import com.recyclestudy.member.domain.Device;
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
 import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.member.repository.DeviceAuthMailOutboxRepository;
 import com.recyclestudy.member.repository.DeviceRepository;
+import com.recyclestudy.member.repository.MemberDeviceQueryRepository;
+import com.recyclestudy.member.repository.MemberDeviceRow;
 import com.recyclestudy.member.repository.MemberRepository;
+import com.recyclestudy.member.service.input.DeliveryPreferenceUpdateInput;
 import com.recyclestudy.member.service.input.DeviceDeleteInput;
 import com.recyclestudy.member.service.input.MemberFindInput;
 import com.recyclestudy.member.service.input.MemberSaveInput;
+import com.recyclestudy.member.service.output.DeliveryPreferenceUpdateOutput;
 import com.recyclestudy.member.service.output.MemberFindOutput;
 import com.recyclestudy.member.service.output.MemberSaveOutput;
 import java.time.Clock;
@@ -31,6 +37,9 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final DeviceRepository deviceRepository;
+    private final DeviceAuthMailOutboxRepository deviceAuthMailOutboxRepository;
+    private final MemberDeviceQueryRepository memberDeviceQueryRepository;
+    private final DeviceAuthCache deviceAuthCache;
     private final Clock clock;
 
     @Transactional
@@ -38,23 +47,26 @@ public class MemberService {
         final Member member = saveNewMember(input.email());
         final DeviceIdentifier deviceIdentifier = DeviceIdentifier.create();
 
-        final ActivationExpiredDateTime activationExpiredDateTime
-                = ActivationExpiredDateTime.create(LocalDateTime.now(clock));
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final ActivationExpiredDateTime activationExpiredDateTime = ActivationExpiredDateTime.create(now);
 
         final Device notSavedDevice = Device.withoutId(member, deviceIdentifier, false, activationExpiredDateTime);
         final Device device = deviceRepository.save(notSavedDevice);
         log.info("[DEVICE_SAVED] 디바이스 저장 성공: {}", device.getIdentifier());
 
+        deviceAuthMailOutboxRepository.save(DeviceAuthMailOutbox.withoutId(member.getEmail(), deviceIdentifier, now));
+
         return MemberSaveOutput.from(device);
     }
 
     @Transactional(readOnly = true)
     public MemberFindOutput findAllMemberDevices(final MemberFindInput input) {
-        checkExistedMember(input.email());
-        checkActiveDevice(input.deviceIdentifier());
+        final List<MemberDeviceRow> rows = memberDeviceQueryRepository
+                .findByEmailOrIdentifier(input.email(), input.deviceIdentifier());
+        checkExistedMember(input.email(), rows);
+        checkActiveDevice(input.deviceIdentifier(), rows);
 
-        final List<Device> devices = deviceRepository.findAllByMemberEmail(input.email());
-        return MemberFindOutput.of(input.email(), devices);
+        return MemberFindOutput.of(input.email(), rows);
     }
 
     @Transactional
@@ -71,6 +83,7 @@ public class MemberService {
 
         device.verifyOwner(email);
         device.activate(LocalDateTime.now(clock));
+        deviceAuthCache.evictAfterCommit(deviceIdentifier);
         log.info("[DEVICE_AUTH] 디바이스 인증 성공: email={}, device={}", email.toMaskedValue(), deviceIdentifier);
     }
 
@@ -81,9 +94,20 @@ public class MemberService {
                         .formatted(input.deviceIdentifier().getValue())));
         device.verifyOwner(input.email());
         deviceRepository.deleteByIdentifier(input.targetDeviceIdentifier());
+        deviceAuthCache.evictAfterCommit(input.targetDeviceIdentifier());
         log.info("[DEVICE_DELETED] 디바이스 삭제 성공: {}", input.targetDeviceIdentifier());
     }
 
+    @Transactional
+    public DeliveryPreferenceUpdateOutput updateDeliveryPreference(final DeliveryPreferenceUpdateInput input) {
+        final Member member = memberRepository.findById(input.memberId())
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 멤버입니다: %s".formatted(input.memberId())));
+        member.changeDeliveryPreference(input.deliveryPreference());
+        log.info("[DELIVERY_PREFERENCE_UPDATED] 발송 선호 시각 변경 성공: memberId={}, preference={}",
+                member.getId(), input.deliveryPreference());
+        return DeliveryPreferenceUpdateOutput.from(member.getDeliveryPreference());
+    }
+
     private Member saveNewMember(final Email email) {
         final Optional<Member> memberOptional = memberRepository.findByEmail(email);
 
@@ -104,12 +128,20 @@ public class MemberService {
         }
     }
 
-    private void checkActiveDevice(final DeviceIdentifier deviceIdentifier) {
-        final Device device = deviceRepository.findByIdentifier(deviceIdentifier)
+    private void checkExistedMember(final Email email, final List<MemberDeviceRow> rows) {
+        if (rows.stream().noneMatch(row -> row.isOwnedBy(email))) {
+            throw new NotFoundException("존재하지 않는 멤버입니다: %s".formatted(email.getValue()));
+        }
+    }
+
+    private void checkActiveDevice(final DeviceIdentifier deviceIdentifier, final List<MemberDeviceRow> rows) {
+        final MemberDeviceRow device = rows.stream()
+                .filter(row -> row.isDevice(deviceIdentifier))
+                .findFirst()
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 디바이스 아이디입니다: %s"
                         .formatted(deviceIdentifier.getValue())));
 
-        if (!device.isActive()) {
+        if (!device.active()) {
             throw new UnauthorizedException("인증되지 않은 디바이스입니다");
         }
     }
@@ -0,0 +1,28 @@
+package com.recyclestudy.member.service.input;
+
+import com.recyclestudy.member.domain.DeliveryPreference;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+public record DeliveryPreferenceUpdateInput(Long memberId, DeliveryPreference deliveryPreference) {
+
+    public static DeliveryPreferenceUpdateInput of(
+            final Long memberId,
+            final String deliveryTime,
+            final String timeZone
+    ) {
+        final DeliveryPreference deliveryPreference = DeliveryPreference.of(parseTime(deliveryTime), timeZone);
+        return new DeliveryPreferenceUpdateInput(memberId, deliveryPreference);
+    }
+
+    private static LocalTime parseTime(final String deliveryTime) {
+        if (deliveryTime == null || deliveryTime.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(deliveryTime);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 발송 시각입니다: %s".formatted(deliveryTime));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.recyclestudy.member.service.output;
+
+import com.recyclestudy.member.domain.DeliveryPreference;
+import java.time.LocalTime;
+
+public record DeliveryPreferenceUpdateOutput(LocalTime deliveryTime, String timeZone) {
+
+    public static DeliveryPreferenceUpdateOutput from(final DeliveryPreference deliveryPreference) {
+        return new DeliveryPreferenceUpdateOutput(deliveryPreference.getDeliveryTime(),
+                deliveryPreference.getTimeZone());
+    }
+}
@@ -0,0 +1,12 @@
+package com.recyclestudy.member.service.output;
+
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+
+public record DeviceAuthMailOutboxOutput(Long outboxId, Email email, DeviceIdentifier identifier) {
+
+    public static DeviceAuthMailOutboxOutput from(final DeviceAuthMailOutbox outbox) {
+        return new DeviceAuthMailOutboxOutput(outbox.getId(), outbox.getEmail(), outbox.getDeviceIdentifier());
+    }
+}
@@ -1,18 +1,22 @@
 package com.recyclestudy.member.service.output;
 
-import com.recyclestudy.member.domain.Device;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.MemberDeviceRow;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public record MemberFindOutput(Email email, List<MemberFindElement> elements) {
 
-    public static MemberFindOutput of(final Email email, final List<Device> devices) {
-        final List<MemberFindElement> memberFindElements = devices.stream()
-                .map(device -> new MemberFindElement(device.getIdentifier(), device.getCreatedAt()))
-                .toList();
-        return new MemberFindOutput(email, memberFindElements);
+    public static MemberFindOutput of(final Email email, final List<MemberDeviceRow> rows) {
+        final Map<DeviceIdentifier, MemberFindElement> elements = new LinkedHashMap<>();
+        rows.stream()
+                .filter(row -> row.isOwnedBy(email) && row.hasDevice())
+                .forEach(row -> elements.putIfAbsent(row.identifier(),
+                        new MemberFindElement(row.identifier(), row.createdAt())));
+        return new MemberFindOutput(email, List.copyOf(elements.values()));
     }
 
     public record MemberFindElement(DeviceIdentifier identifier, LocalDateTime createdAt) {
@@ -0,0 +1,43 @@
+package com.recyclestudy.review.archive;
+
+import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.domain.ReviewCycle;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ArchivedReviewCycle(
+        Long reviewCycleId,
+        Long reviewId,
+        Long memberId,
+        String url,
+        LocalDateTime scheduledAt,
+        LocalDateTime createdAt,
+        List<ArchivedNotificationHistory> histories
+) {
+
+    public static ArchivedReviewCycle of(final ReviewCycle cycle, final List<NotificationHistory> histories) {
+        return new ArchivedReviewCycle(
+                cycle.getId(),
+                cycle.getReview().getId(),
+                cycle.getReview().getMember().getId(),
+                cycle.getReview().getUrl().getValue(),
+                cycle.getScheduledAt(),
+                cycle.getCreatedAt(),
+                histories.stream()
+                        .map(ArchivedNotificationHistory::from)
+                        .toList()
+        );
+    }
+
+    public record ArchivedNotificationHistory(
+            Long id,
+            NotificationStatus status,
+            LocalDateTime createdAt
+    ) {
+
+        public static ArchivedNotificationHistory from(final NotificationHistory history) {
+            return new ArchivedNotificationHistory(history.getId(), history.getStatus(), history.getCreatedAt());
+        }
+    }
+}
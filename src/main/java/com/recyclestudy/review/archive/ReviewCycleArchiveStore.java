@@ -0,0 +1,132 @@
+package com.recyclestudy.review.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "review.archive.enabled", havingValue = "true")
+public class ReviewCycleArchiveStore {
+
+    private static final String FILE_PREFIX = "review-cycle-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    public ReviewCycleArchiveStore(
+            final ObjectMapper objectMapper,
+            @Value("${review.archive.directory:}") final String directory
+    ) {
+        this.objectMapper = objectMapper;
+        this.directory = prepareDirectory(directory);
+    }
+
+    private static Path prepareDirectory(final String directory) {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalStateException("복습 주기 아카이브 디렉터리가 설정되지 않았습니다: review.archive.directory");
+        }
+        final Path path = Path.of(directory);
+        if (!path.isAbsolute()) {
+            throw new IllegalStateException("복습 주기 아카이브 디렉터리는 절대 경로여야 합니다: " + directory);
+        }
+        try {
+            Files.createDirectories(path);
+        } catch (final IOException e) {
+            throw new IllegalStateException("복습 주기 아카이브 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        if (!Files.isWritable(path)) {
+            throw new IllegalStateException("복습 주기 아카이브 디렉터리에 쓸 수 없습니다: " + directory);
+        }
+        return path;
+    }
+
+    public Path write(final String archiveName, final List<ArchivedReviewCycle> cycles) {
+        final Path target = directory.resolve(FILE_PREFIX + archiveName + FILE_SUFFIX);
+        try {
+            final Path temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                for (final ArchivedReviewCycle cycle : cycles) {
+                    writer.write(objectMapper.writeValueAsString(cycle));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("복습 주기 아카이브 파일 작성에 실패했습니다: " + target, e);
+        }
+
+        log.info("[REVIEW_CYCLE_ARCHIVED] 복습 주기 아카이브 파일 작성: file={}, count={}", target, cycles.size());
+        return target;
+    }
+
+    public List<ArchivedReviewCycle> read(final Path archive) {
+        final List<ArchivedReviewCycle> cycles = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archive)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    cycles.add(objectMapper.readValue(line, ArchivedReviewCycle.class));
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("복습 주기 아카이브 파일을 읽지 못했습니다: " + archive, e);
+        }
+        return cycles;
+    }
+
+    public List<Path> findArchives() {
+        if (Files.notExists(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("복습 주기 아카이브 목록을 읽지 못했습니다: " + directory, e);
+        }
+    }
+
+    public List<ArchivedReviewCycle> findByReviewId(final Long reviewId) {
+        return findArchived(cycle -> cycle.reviewId().equals(reviewId));
+    }
+
+    public List<ArchivedReviewCycle> findByMemberId(final Long memberId) {
+        return findArchived(cycle -> cycle.memberId().equals(memberId));
+    }
+
+    private List<ArchivedReviewCycle> findArchived(final Predicate<ArchivedReviewCycle> condition) {
+        final Set<Long> seenCycleIds = new HashSet<>();
+        return findArchives().stream()
+                .flatMap(archive -> read(archive).stream())
+                .filter(condition)
+                .filter(cycle -> seenCycleIds.add(cycle.reviewCycleId()))
+                .toList();
+    }
+}
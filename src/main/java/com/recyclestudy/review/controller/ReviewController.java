@@ -1,12 +1,21 @@
 package com.recyclestudy.review.controller;
 
+import com.recyclestudy.common.annotation.AuthDevice;
+import com.recyclestudy.common.auth.AuthenticatedDevice;
 import com.recyclestudy.review.controller.request.ReviewSaveRequest;
+import com.recyclestudy.review.controller.response.ReviewImportResponse;
 import com.recyclestudy.review.controller.response.ReviewSaveResponse;
+import com.recyclestudy.review.service.ReviewImportService;
 import com.recyclestudy.review.service.ReviewService;
+import com.recyclestudy.review.service.input.ReviewImportInput;
 import com.recyclestudy.review.service.input.ReviewSaveInput;
+import com.recyclestudy.review.service.output.ReviewImportOutput;
 import com.recyclestudy.review.service.output.ReviewSaveOutput;
+import java.io.InputStream;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -20,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewImportService reviewImportService;
+    private final ReviewImportReader reviewImportReader;
 
     @PostMapping
     public ResponseEntity<ReviewSaveResponse> saveReview(
@@ -34,6 +45,21 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public ResponseEntity<ReviewImportResponse> importReviews(
+            @AuthDevice final AuthenticatedDevice device,
+            final InputStream body
+    ) {
+        try (Stream<String> urls = reviewImportReader.read(body)) {
+            final ReviewImportInput input = ReviewImportInput.of(device.memberId(), urls);
+            final ReviewImportOutput output = reviewImportService.importReviews(input);
+            return ResponseEntity.ok(ReviewImportResponse.from(output));
+        }
+    }
+
     private String getResolvedIdentifier(final String identifier, final String headerIdentifier) {
         if (headerIdentifier == null) {
             return identifier;
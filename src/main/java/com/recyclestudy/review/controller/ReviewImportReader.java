@@ -0,0 +1,132 @@
+package com.recyclestudy.review.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recyclestudy.exception.BadRequestException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewImportReader {
+
+    private static final String URL_FIELD = "targetUrl";
+
+    private final ObjectMapper objectMapper;
+
+    public Stream<String> read(final InputStream inputStream) {
+        final JsonParser parser = createParser(inputStream);
+        final Iterator<String> iterator = new UrlIterator(parser);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> close(parser));
+    }
+
+    private JsonParser createParser(final InputStream inputStream) {
+        try {
+            return objectMapper.getFactory().createParser(inputStream);
+        } catch (final IOException e) {
+            throw new BadRequestException("요청 본문을 읽을 수 없습니다");
+        }
+    }
+
+    private void close(final JsonParser parser) {
+        try {
+            parser.close();
+        } catch (final IOException ignored) {
+        }
+    }
+
+    private static final class UrlIterator implements Iterator<String> {
+
+        private final JsonParser parser;
+        private JsonToken current;
+        private boolean started;
+        private boolean inArray;
+        private boolean finished;
+
+        private UrlIterator(final JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current == null && !finished) {
+                current = advance();
+            }
+            return current != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String url = readUrl(current);
+            current = null;
+            return url;
+        }
+
+        private JsonToken advance() {
+            final JsonToken token = nextToken();
+            if (!started) {
+                started = true;
+                if (token == JsonToken.START_ARRAY) {
+                    inArray = true;
+                    return advance();
+                }
+            }
+
+            if (token == null || (inArray && token == JsonToken.END_ARRAY)) {
+                finished = true;
+                return null;
+            }
+            return token;
+        }
+
+        private String readUrl(final JsonToken token) {
+            try {
+                if (token == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    return readUrlField();
+                }
+                parser.skipChildren();
+                return null;
+            } catch (final IOException e) {
+                throw new BadRequestException("잘못된 형식의 요청 본문입니다");
+            }
+        }
+
+        private String readUrlField() throws IOException {
+            String url = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (URL_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    url = parser.getText();
+                    continue;
+                }
+                parser.skipChildren();
+            }
+            return url;
+        }
+
+        private JsonToken nextToken() {
+            try {
+                return parser.nextToken();
+            } catch (final IOException e) {
+                throw new BadRequestException("잘못된 형식의 요청 본문입니다");
+            }
+        }
+    }
+}
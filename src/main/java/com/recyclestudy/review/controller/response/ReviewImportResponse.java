@@ -0,0 +1,40 @@
+package com.recyclestudy.review.controller.response;
+
+import com.recyclestudy.review.service.output.ReviewImportOutput;
+import com.recyclestudy.review.service.output.ReviewImportOutput.ReviewImportElement;
+import com.recyclestudy.review.service.output.ReviewImportStatus;
+import java.util.List;
+
+public record ReviewImportResponse(
+        int total,
+        long saved,
+        long duplicated,
+        long invalid,
+        long failed,
+        boolean truncated,
+        List<ReviewImportItemResponse> items
+) {
+
+    public static ReviewImportResponse from(final ReviewImportOutput output) {
+        final List<ReviewImportItemResponse> items = output.elements().stream()
+                .map(ReviewImportItemResponse::from)
+                .toList();
+        return new ReviewImportResponse(
+                items.size(),
+                output.count(ReviewImportStatus.SAVED),
+                output.count(ReviewImportStatus.DUPLICATED),
+                output.count(ReviewImportStatus.INVALID),
+                output.count(ReviewImportStatus.FAILED),
+                output.truncated(),
+                items
+        );
+    }
+
+    public record ReviewImportItemResponse(int index, String url, String status, String message) {
+
+        public static ReviewImportItemResponse from(final ReviewImportElement element) {
+            return new ReviewImportItemResponse(
+                    element.index(), element.url(), element.status().name(), element.message());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.recyclestudy.review.domain;
+
+import com.recyclestudy.common.NullValidator;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Objects;
+
+public record DeliveryWindow(LocalTime start, Duration length) {
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final Duration MAX_LENGTH = Duration.ofDays(1);
+
+    public DeliveryWindow {
+        NullValidator.validate("start", start, "length", length);
+        if (length.compareTo(Duration.ofMinutes(1)) < 0 || length.compareTo(MAX_LENGTH) > 0) {
+            throw new IllegalArgumentException("발송 구간은 1분 이상 하루 이하여야 합니다: %s".formatted(length));
+        }
+    }
+
+    public static DeliveryWindow of(final LocalTime start, final Duration length) {
+        return new DeliveryWindow(start, length);
+    }
+
+    public LocalTime timeFor(final Long memberId) {
+        final long bucketCount = length.toMinutes();
+        final long hash = Objects.hashCode(memberId) * HASH_MULTIPLIER;
+        final long offset = Math.floorMod(hash >>> 32, bucketCount);
+        return start.plusMinutes(offset);
+    }
+}
@@ -0,0 +1,7 @@
+package com.recyclestudy.review.domain;
+
+public enum DuplicateReviewPolicy {
+    REJECT,
+    RESCHEDULE,
+    MERGE
+}
@@ -0,0 +1,26 @@
+package com.recyclestudy.review.domain;
+
+public record MemberIdStripe(long fromExclusive, long toInclusive) {
+
+    public static MemberIdStripe after(
+            final long cursorMemberId,
+            final int shardNo,
+            final int shardCount,
+            final long stripeSize
+    ) {
+        if (shardCount <= 0 || shardNo < 0 || shardNo >= shardCount || stripeSize <= 0) {
+            throw new IllegalArgumentException("잘못된 샤드 구간 설정입니다: shardNo=%d, shardCount=%d, stripeSize=%d"
+                    .formatted(shardNo, shardCount, stripeSize));
+        }
+
+        final long nextMemberId = cursorMemberId + 1;
+        final long stripe = nextMemberId / stripeSize;
+        final long ownedStripe = stripe + Math.floorMod(shardNo - stripe, (long) shardCount);
+        final long start = ownedStripe == stripe ? nextMemberId : ownedStripe * stripeSize;
+        return new MemberIdStripe(start - 1, (ownedStripe + 1) * stripeSize - 1);
+    }
+
+    public boolean startsAfter(final long memberId) {
+        return fromExclusive >= memberId;
+    }
+}
@@ -3,13 +3,17 @@ package com.recyclestudy.review.domain;
 import com.recyclestudy.common.BaseEntity;
 import com.recyclestudy.common.NullValidator;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,7 +21,20 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldNameConstants;
 
 @Entity
-@Table(name = "notification_history")
+@Table(
+        name = "notification_history",
+        indexes = {
+                @Index(name = "idx_notification_history_status_created_at", columnList = "status, created_at"),
+                @Index(
+                        name = "idx_notification_history_review_cycle_id_created_at",
+                        columnList = "review_cycle_id, created_at"
+                ),
+                @Index(
+                        name = "idx_notification_history_status_next_attempt_at",
+                        columnList = "status, next_attempt_at"
+                )
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @FieldNameConstants(level = AccessLevel.PRIVATE)
@@ -25,28 +42,35 @@ import lombok.experimental.FieldNameConstants;
 public class NotificationHistory extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "review_cycle_id", nullable = false)
+    @JoinColumn(
+            name = "review_cycle_id",
+            nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
+    )
     private ReviewCycle reviewCycle;
 
     @Enumerated(value = EnumType.STRING)
     @Column(name = "status", nullable = false)
     private NotificationStatus status;
 
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     public static NotificationHistory withoutId(
             final ReviewCycle reviewCycle,
             final NotificationStatus status
     ) {
         validateNotNull(reviewCycle, status);
-        return new NotificationHistory(reviewCycle, status);
+        return new NotificationHistory(reviewCycle, status, 0, null);
     }
 
     private static void validateNotNull(
             final ReviewCycle reviewCycle,
             final NotificationStatus status
     ) {
-        NullValidator.builder()
-                .add(Fields.reviewCycle, reviewCycle)
-                .add(Fields.status, status)
-                .validate();
+        NullValidator.validate(Fields.reviewCycle, reviewCycle, Fields.status, status);
     }
 }
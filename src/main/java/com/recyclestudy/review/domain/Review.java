@@ -1,6 +1,6 @@
 package com.recyclestudy.review.domain;
 
-import com.recyclestudy.common.BaseEntity;
+import com.recyclestudy.common.BaseTimeEntity;
 import com.recyclestudy.common.NullValidator;
 import com.recyclestudy.member.domain.Member;
 import jakarta.persistence.AttributeOverride;
@@ -8,9 +8,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,12 +23,32 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldNameConstants;
 
 @Entity
-@Table(name = "review")
+@Table(
+        name = "review",
+        uniqueConstraints = @UniqueConstraint(
+                name = Review.URL_HASH_UNIQUE_CONSTRAINT,
+                columnNames = {"member_id", "url_hash"}
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @FieldNameConstants(level = AccessLevel.PRIVATE)
 @Getter
-public class Review extends BaseEntity {
+public class Review extends BaseTimeEntity {
+
+    public static final String URL_HASH_UNIQUE_CONSTRAINT = "uk_review_member_id_url_hash";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id_generator")
+    @TableGenerator(
+            name = "review_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "review",
+            allocationSize = 50
+    )
+    private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
@@ -33,15 +58,15 @@ public class Review extends BaseEntity {
     @AttributeOverride(name = "value", column = @Column(name = "url", nullable = false, columnDefinition = "TEXT"))
     private ReviewURL url;
 
+    @Column(name = "url_hash", length = 64)
+    private String urlHash;
+
     public static Review withoutId(final Member member, final ReviewURL url) {
         validateNotNull(member, url);
-        return new Review(member, url);
+        return new Review(null, member, url, url.hash());
     }
 
     private static void validateNotNull(final Member member, final ReviewURL url) {
-        NullValidator.builder()
-                .add(Fields.member, member)
-                .add(Fields.url, url)
-                .validate();
+        NullValidator.validate(Fields.member, member, Fields.url, url);
     }
 }
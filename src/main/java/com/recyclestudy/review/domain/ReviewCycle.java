@@ -1,13 +1,18 @@
 package com.recyclestudy.review.domain;
 
-import com.recyclestudy.common.BaseEntity;
+import com.recyclestudy.common.BaseTimeEntity;
 import com.recyclestudy.common.NullValidator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,12 +21,27 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldNameConstants;
 
 @Entity
-@Table(name = "review_cycle")
+@Table(
+        name = "review_cycle",
+        indexes = @Index(name = "idx_review_cycle_scheduled_at_review_id", columnList = "scheduled_at, review_id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @FieldNameConstants(level = AccessLevel.PRIVATE)
 @Getter
-public class ReviewCycle extends BaseEntity {
+public class ReviewCycle extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_cycle_id_generator")
+    @TableGenerator(
+            name = "review_cycle_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "review_cycle",
+            allocationSize = 50
+    )
+    private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "review_id", nullable = false)
@@ -32,13 +52,10 @@ public class ReviewCycle extends BaseEntity {
 
     public static ReviewCycle withoutId(final Review review, final LocalDateTime scheduledAt) {
         validateNotNull(review, scheduledAt);
-        return new ReviewCycle(review, scheduledAt);
+        return new ReviewCycle(null, review, scheduledAt);
     }
 
     private static void validateNotNull(final Review review, final LocalDateTime scheduledAt) {
-        NullValidator.builder()
-                .add(Fields.review, review)
-                .add(Fields.scheduledAt, scheduledAt)
-                .validate();
+        NullValidator.validate(Fields.review, review, Fields.scheduledAt, scheduledAt);
     }
 }
@@ -2,8 +2,15 @@ package com.recyclestudy.review.domain;
 
 import com.recyclestudy.common.NullValidator;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +19,6 @@ import lombok.experimental.FieldNameConstants;
 
 @Embeddable
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @FieldNameConstants(level = AccessLevel.PRIVATE)
 @Getter
 @ToString
@@ -21,14 +27,78 @@ public class ReviewURL {
 
     private String value;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String hash;
+
+    private ReviewURL(final String value) {
+        this.value = value;
+    }
+
     public static ReviewURL from(final String value) {
         validateNotNull(value);
         return new ReviewURL(value);
     }
 
+    public String hash() {
+        if (hash == null) {
+            hash = digest(canonicalValue());
+        }
+        return hash;
+    }
+
+    public String canonicalValue() {
+        final String stripped = value.strip();
+        try {
+            final URI uri = new URI(stripped);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return stripped;
+            }
+            return canonicalize(uri);
+        } catch (final URISyntaxException e) {
+            return stripped;
+        }
+    }
+
+    private static String digest(final String canonicalValue) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String canonicalize(final URI uri) {
+        final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        final StringBuilder builder = new StringBuilder(scheme).append("://");
+        if (uri.getRawUserInfo() != null) {
+            builder.append(uri.getRawUserInfo()).append('@');
+        }
+        builder.append(uri.getHost().toLowerCase(Locale.ROOT));
+        if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+            builder.append(':').append(uri.getPort());
+        }
+
+        final String path = uri.getRawPath();
+        builder.append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            builder.append('?').append(uri.getRawQuery());
+        }
+        return builder.toString();
+    }
+
+    private static int defaultPort(final String scheme) {
+        return switch (scheme) {
+            case "http" -> 80;
+            case "https" -> 443;
+            default -> -1;
+        };
+    }
+
     private static void validateNotNull(final String value) {
-        NullValidator.builder()
-                .add(Fields.value, value)
-                .validate();
+        NullValidator.validate(Fields.value, value);
     }
 }
@@ -0,0 +1,15 @@
+package com.recyclestudy.review.repository;
+
+import java.time.LocalDateTime;
+
+public record DispatchShardLease(
+        int shardNo,
+        LocalDateTime dispatchedUntil,
+        LocalDateTime dispatchingUntil,
+        Long cursorMemberId
+) {
+
+    public boolean isDispatching() {
+        return dispatchingUntil != null;
+    }
+}
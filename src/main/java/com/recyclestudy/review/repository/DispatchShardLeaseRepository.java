@@ -0,0 +1,131 @@
+package com.recyclestudy.review.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class DispatchShardLeaseRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT IGNORE INTO dispatch_shard_lease
+                (shard_no, dispatched_until, cursor_member_id, created_at, modified_at)
+            VALUES (?, ?, 0, ?, ?)
+            """;
+
+    private static final String TRY_ACQUIRE_SQL = """
+            UPDATE dispatch_shard_lease
+            SET owner = ?, lease_until = ?, modified_at = ?
+            WHERE shard_no = ?
+            AND (owner IS NULL OR owner = ? OR lease_until < ?)
+            """;
+
+    private static final String FIND_BY_SHARD_NO_SQL = """
+            SELECT shard_no, dispatched_until, dispatching_until, cursor_member_id
+            FROM dispatch_shard_lease
+            WHERE shard_no = ?
+            """;
+
+    private static final String BEGIN_SQL = """
+            UPDATE dispatch_shard_lease
+            SET dispatching_until = ?, cursor_member_id = 0, modified_at = ?
+            WHERE shard_no = ?
+            AND owner = ?
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE dispatch_shard_lease
+            SET cursor_member_id = ?, lease_until = ?, modified_at = ?
+            WHERE shard_no = ?
+            AND owner = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE dispatch_shard_lease
+            SET dispatched_until = dispatching_until, dispatching_until = NULL, cursor_member_id = 0,
+                owner = NULL, lease_until = NULL, modified_at = ?
+            WHERE shard_no = ?
+            AND owner = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE dispatch_shard_lease
+            SET owner = NULL, lease_until = NULL, modified_at = ?
+            WHERE shard_no = ?
+            AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIfAbsent(final int shardCount, final LocalDateTime dispatchedUntil, final LocalDateTime now) {
+        final List<Integer> shardNos = IntStream.range(0, shardCount).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, shardNos, shardCount, (ps, shardNo) -> {
+            ps.setInt(1, shardNo);
+            ps.setTimestamp(2, Timestamp.valueOf(dispatchedUntil));
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+            ps.setTimestamp(4, Timestamp.valueOf(now));
+        });
+    }
+
+    public boolean tryAcquire(
+            final int shardNo,
+            final String owner,
+            final LocalDateTime now,
+            final LocalDateTime leaseUntil
+    ) {
+        final Timestamp nowTimestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(TRY_ACQUIRE_SQL,
+                owner, Timestamp.valueOf(leaseUntil), nowTimestamp, shardNo, owner, nowTimestamp) == 1;
+    }
+
+    public Optional<DispatchShardLease> findByShardNo(final int shardNo) {
+        return jdbcTemplate.query(FIND_BY_SHARD_NO_SQL, (rs, rowNum) -> new DispatchShardLease(
+                        rs.getInt("shard_no"),
+                        rs.getTimestamp("dispatched_until").toLocalDateTime(),
+                        toLocalDateTime(rs.getTimestamp("dispatching_until")),
+                        rs.getLong("cursor_member_id")
+                ), shardNo).stream()
+                .findFirst();
+    }
+
+    public void begin(
+            final int shardNo,
+            final String owner,
+            final LocalDateTime dispatchingUntil,
+            final LocalDateTime now
+    ) {
+        jdbcTemplate.update(BEGIN_SQL, Timestamp.valueOf(dispatchingUntil), Timestamp.valueOf(now), shardNo, owner);
+    }
+
+    public boolean checkpoint(
+            final int shardNo,
+            final String owner,
+            final Long cursorMemberId,
+            final LocalDateTime leaseUntil,
+            final LocalDateTime now
+    ) {
+        return jdbcTemplate.update(CHECKPOINT_SQL,
+                cursorMemberId, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), shardNo, owner) == 1;
+    }
+
+    public boolean complete(final int shardNo, final String owner, final LocalDateTime now) {
+        return jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(now), shardNo, owner) == 1;
+    }
+
+    public void release(final int shardNo, final String owner, final LocalDateTime now) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(now), shardNo, owner);
+    }
+
+    private LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        return timestamp.toLocalDateTime();
+    }
+}
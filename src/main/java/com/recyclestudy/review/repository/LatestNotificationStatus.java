@@ -0,0 +1,11 @@
+package com.recyclestudy.review.repository;
+
+import com.recyclestudy.review.domain.NotificationStatus;
+import java.time.LocalDateTime;
+
+public record LatestNotificationStatus(
+        Long reviewCycleId,
+        NotificationStatus status,
+        LocalDateTime notifiedAt
+) {
+}
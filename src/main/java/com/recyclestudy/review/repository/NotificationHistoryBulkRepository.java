@@ -0,0 +1,74 @@
+package com.recyclestudy.review.repository;
+
+import com.recyclestudy.review.domain.NotificationStatus;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationHistoryBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_history
+                (review_cycle_id, status, attempt_count, next_attempt_at, created_at, modified_at)
+            VALUES (?, ?, 0, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${review.notification-history.batch-size:1000}")
+    private int batchSize;
+
+    public int insertAll(final List<NotificationHistoryRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+            final Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+            ps.setLong(1, row.reviewCycleId());
+            ps.setString(2, row.status().name());
+            ps.setTimestamp(3, toTimestamp(row.nextAttemptAt()));
+            ps.setTimestamp(4, createdAt);
+            ps.setTimestamp(5, createdAt);
+        });
+        return rows.size();
+    }
+
+    private Timestamp toTimestamp(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return Timestamp.valueOf(dateTime);
+    }
+
+    public record NotificationHistoryRow(
+            Long reviewCycleId,
+            NotificationStatus status,
+            LocalDateTime nextAttemptAt,
+            LocalDateTime createdAt
+    ) {
+
+        public static NotificationHistoryRow of(
+                final Long reviewCycleId,
+                final NotificationStatus status,
+                final LocalDateTime createdAt
+        ) {
+            return new NotificationHistoryRow(reviewCycleId, status, null, createdAt);
+        }
+
+        public static NotificationHistoryRow retryable(
+                final Long reviewCycleId,
+                final NotificationStatus status,
+                final LocalDateTime nextAttemptAt,
+                final LocalDateTime createdAt
+        ) {
+            return new NotificationHistoryRow(reviewCycleId, status, nextAttemptAt, createdAt);
+        }
+    }
+}
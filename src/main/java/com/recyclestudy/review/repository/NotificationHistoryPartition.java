@@ -0,0 +1,41 @@
+package com.recyclestudy.review.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+public record NotificationHistoryPartition(YearMonth month) {
+
+    private static final String PREFIX = "p";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    public static NotificationHistoryPartition of(final YearMonth month) {
+        return new NotificationHistoryPartition(month);
+    }
+
+    public static Optional<NotificationHistoryPartition> parse(final String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            final YearMonth month = YearMonth.parse(partitionName.substring(PREFIX.length()), NAME_FORMAT);
+            return Optional.of(new NotificationHistoryPartition(month));
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String name() {
+        return PREFIX + month.format(NAME_FORMAT);
+    }
+
+    public LocalDate upperBound() {
+        return month.plusMonths(1).atDay(1);
+    }
+
+    public boolean isBefore(final YearMonth other) {
+        return month.isBefore(other);
+    }
+}
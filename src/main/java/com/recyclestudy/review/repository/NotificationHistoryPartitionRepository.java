@@ -0,0 +1,59 @@
+package com.recyclestudy.review.repository;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationHistoryPartitionRepository {
+
+    private static final String FIND_PARTITION_NAMES_SQL = """
+            SELECT PARTITION_NAME
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+            AND TABLE_NAME = 'notification_history'
+            AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private static final String ADD_PARTITION_SQL = """
+            ALTER TABLE notification_history
+            REORGANIZE PARTITION p_future INTO (
+                PARTITION %s VALUES LESS THAN ('%s'),
+                PARTITION p_future VALUES LESS THAN (MAXVALUE)
+            )
+            """;
+
+    private static final String EXISTS_IN_FUTURE_SQL = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM notification_history PARTITION (p_future)
+            )
+            """;
+
+    private static final String DROP_PARTITION_SQL = "ALTER TABLE notification_history DROP PARTITION %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<NotificationHistoryPartition> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITION_NAMES_SQL, String.class).stream()
+                .map(NotificationHistoryPartition::parse)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public boolean isFutureEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_IN_FUTURE_SQL, Boolean.class));
+    }
+
+    public void addBeforeFuture(final NotificationHistoryPartition partition) {
+        jdbcTemplate.execute(ADD_PARTITION_SQL.formatted(partition.name(), partition.upperBound()));
+    }
+
+    public void drop(final NotificationHistoryPartition partition) {
+        jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(partition.name()));
+    }
+}
@@ -1,7 +1,78 @@
 package com.recyclestudy.review.repository;
 
 import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationHistoryRepository extends JpaRepository<NotificationHistory, Long> {
+
+    @Query("""
+                SELECT new com.recyclestudy.review.repository.LatestNotificationStatus(
+                    nh.reviewCycle.id, nh.status, nh.createdAt
+                )
+                FROM NotificationHistory nh
+                WHERE nh.reviewCycle.id IN :reviewCycleIds
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM NotificationHistory newer
+                    WHERE newer.reviewCycle.id = nh.reviewCycle.id
+                    AND (newer.createdAt > nh.createdAt
+                        OR (newer.createdAt = nh.createdAt AND newer.id > nh.id))
+                )
+                ORDER BY nh.reviewCycle.id
+            """)
+    List<LatestNotificationStatus> findLatestStatusesByReviewCycleIds(
+            @Param("reviewCycleIds") List<Long> reviewCycleIds
+    );
+
+    @Query("""
+                SELECT new com.recyclestudy.review.repository.LatestNotificationStatus(
+                    nh.reviewCycle.id, nh.status, nh.createdAt
+                )
+                FROM NotificationHistory nh
+                WHERE nh.status = :status
+                AND nh.createdAt >= :from
+                AND nh.createdAt < :to
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM NotificationHistory newer
+                    WHERE newer.reviewCycle.id = nh.reviewCycle.id
+                    AND (newer.createdAt > nh.createdAt
+                        OR (newer.createdAt = nh.createdAt AND newer.id > nh.id))
+                )
+                ORDER BY nh.createdAt, nh.id
+            """)
+    List<LatestNotificationStatus> findLatestStatusesByStatusAndCreatedAtRange(
+            @Param("status") NotificationStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    long countByStatusAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+            NotificationStatus status,
+            LocalDateTime from,
+            LocalDateTime to
+    );
+
+    @Query("""
+                SELECT nh
+                FROM NotificationHistory nh
+                WHERE nh.reviewCycle.id IN :reviewCycleIds
+                ORDER BY nh.id
+            """)
+    List<NotificationHistory> findAllByReviewCycleIds(@Param("reviewCycleIds") List<Long> reviewCycleIds);
+
+    @Modifying
+    @Query("""
+                DELETE FROM NotificationHistory nh
+                WHERE nh.reviewCycle.id IN :reviewCycleIds
+            """)
+    int deleteAllByReviewCycleIds(@Param("reviewCycleIds") List<Long> reviewCycleIds);
 }
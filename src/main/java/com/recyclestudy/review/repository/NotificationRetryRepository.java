@@ -0,0 +1,92 @@
+package com.recyclestudy.review.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetryRepository {
+
+    private static final String FIND_DUE_FOR_UPDATE_SQL = """
+            SELECT id, created_at, review_cycle_id, attempt_count
+            FROM notification_history
+            WHERE status = 'FAILED'
+            AND next_attempt_at <= ?
+            ORDER BY next_attempt_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String UPDATE_SCHEDULE_SQL = """
+            UPDATE notification_history
+            SET attempt_count = ?, next_attempt_at = ?, modified_at = ?
+            WHERE id = ?
+            AND created_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<NotificationRetryClaim> findDueForUpdate(final LocalDateTime now, final int limit) {
+        return jdbcTemplate.query(
+                FIND_DUE_FOR_UPDATE_SQL,
+                (rs, rowNum) -> NotificationRetryClaim.of(
+                        rs.getLong("id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getLong("review_cycle_id"),
+                        rs.getInt("attempt_count")
+                ),
+                Timestamp.valueOf(now),
+                limit
+        );
+    }
+
+    public void updateSchedules(final List<NotificationRetrySchedule> schedules, final LocalDateTime modifiedAt) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SCHEDULE_SQL, schedules, schedules.size(), (ps, schedule) -> {
+            ps.setInt(1, schedule.attemptCount());
+            ps.setTimestamp(2, schedule.nextAttemptAt() == null ? null : Timestamp.valueOf(schedule.nextAttemptAt()));
+            ps.setTimestamp(3, Timestamp.valueOf(modifiedAt));
+            ps.setLong(4, schedule.claim().historyId());
+            ps.setTimestamp(5, Timestamp.valueOf(schedule.claim().createdAt()));
+        });
+    }
+
+    public record NotificationRetryClaim(
+            Long historyId,
+            LocalDateTime createdAt,
+            Long reviewCycleId,
+            int attemptCount
+    ) {
+
+        public static NotificationRetryClaim of(
+                final Long historyId,
+                final LocalDateTime createdAt,
+                final Long reviewCycleId,
+                final int attemptCount
+        ) {
+            return new NotificationRetryClaim(historyId, createdAt, reviewCycleId, attemptCount);
+        }
+    }
+
+    public record NotificationRetrySchedule(
+            NotificationRetryClaim claim,
+            int attemptCount,
+            LocalDateTime nextAttemptAt
+    ) {
+
+        public static NotificationRetrySchedule of(
+                final NotificationRetryClaim claim,
+                final int attemptCount,
+                final LocalDateTime nextAttemptAt
+        ) {
+            return new NotificationRetrySchedule(claim, attemptCount, nextAttemptAt);
+        }
+    }
+}
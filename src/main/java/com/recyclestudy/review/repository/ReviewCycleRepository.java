@@ -3,9 +3,127 @@ package com.recyclestudy.review.repository;
 import com.recyclestudy.review.domain.ReviewCycle;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewCycleRepository extends JpaRepository<ReviewCycle, Long> {
 
     List<ReviewCycle> findAllByScheduledAt(LocalDateTime scheduledAt);
+
+    @Query("""
+                SELECT DISTINCT m.id
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                JOIN r.member m
+                WHERE rc.scheduledAt > :scheduledAfter
+                AND rc.scheduledAt <= :scheduledUntil
+                AND m.id > :lastMemberId
+                ORDER BY m.id
+            """)
+    List<Long> findTargetMemberIds(
+            @Param("scheduledAfter") LocalDateTime scheduledAfter,
+            @Param("scheduledUntil") LocalDateTime scheduledUntil,
+            @Param("lastMemberId") Long lastMemberId,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT DISTINCT m.id
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                JOIN r.member m
+                WHERE rc.scheduledAt > :scheduledAfter
+                AND rc.scheduledAt <= :scheduledUntil
+                AND m.id > :fromMemberId
+                AND m.id <= :toMemberId
+                ORDER BY m.id
+            """)
+    List<Long> findTargetMemberIdsInRange(
+            @Param("scheduledAfter") LocalDateTime scheduledAfter,
+            @Param("scheduledUntil") LocalDateTime scheduledUntil,
+            @Param("fromMemberId") Long fromMemberId,
+            @Param("toMemberId") Long toMemberId,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT MAX(m.id)
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                JOIN r.member m
+                WHERE rc.scheduledAt > :scheduledAfter
+                AND rc.scheduledAt <= :scheduledUntil
+            """)
+    Long findMaxTargetMemberId(
+            @Param("scheduledAfter") LocalDateTime scheduledAfter,
+            @Param("scheduledUntil") LocalDateTime scheduledUntil
+    );
+
+    @Query("""
+                SELECT new com.recyclestudy.review.repository.ReviewCycleSendTarget(rc.id, m.id, m.email, r.url)
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                JOIN r.member m
+                WHERE rc.scheduledAt > :scheduledAfter
+                AND rc.scheduledAt <= :scheduledUntil
+                AND m.id IN :memberIds
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM NotificationHistory nh
+                    WHERE nh.reviewCycle = rc
+                    AND nh.status <> com.recyclestudy.review.domain.NotificationStatus.PENDING
+                )
+                ORDER BY m.id, rc.id
+            """)
+    List<ReviewCycleSendTarget> findSendTargetsInRangeByMemberIds(
+            @Param("scheduledAfter") LocalDateTime scheduledAfter,
+            @Param("scheduledUntil") LocalDateTime scheduledUntil,
+            @Param("memberIds") List<Long> memberIds
+    );
+
+    @Query("""
+                SELECT new com.recyclestudy.review.repository.ReviewCycleSendTarget(rc.id, m.id, m.email, r.url)
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                JOIN r.member m
+                WHERE rc.id IN :reviewCycleIds
+                ORDER BY m.id, rc.id
+            """)
+    List<ReviewCycleSendTarget> findSendTargetsByReviewCycleIds(@Param("reviewCycleIds") List<Long> reviewCycleIds);
+
+    @Query("""
+                SELECT r.id
+                FROM ReviewCycle rc
+                JOIN rc.review r
+                WHERE r.id > :afterReviewId
+                GROUP BY r.id
+                HAVING MAX(rc.scheduledAt) < :cutoff
+                ORDER BY r.id
+            """)
+    List<Long> findFinishedReviewIds(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterReviewId") Long afterReviewId,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT rc
+                FROM ReviewCycle rc
+                JOIN FETCH rc.review r
+                JOIN FETCH r.member m
+                WHERE r.id IN :reviewIds
+                ORDER BY rc.id
+            """)
+    List<ReviewCycle> findAllWithReviewAndMemberByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
+    @Query("""
+                SELECT rc
+                FROM ReviewCycle rc
+                WHERE rc.review.id = :reviewId
+                AND rc.scheduledAt > :now
+                ORDER BY rc.scheduledAt
+            """)
+    List<ReviewCycle> findUpcomingByReviewId(@Param("reviewId") Long reviewId, @Param("now") LocalDateTime now);
 }
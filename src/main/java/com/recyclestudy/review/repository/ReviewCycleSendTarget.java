@@ -0,0 +1,12 @@
+package com.recyclestudy.review.repository;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.review.domain.ReviewURL;
+
+public record ReviewCycleSendTarget(
+        Long reviewCycleId,
+        Long memberId,
+        Email email,
+        ReviewURL url
+) {
+}
@@ -0,0 +1,90 @@
+package com.recyclestudy.review.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewDispatchWatermarkRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT IGNORE INTO review_dispatch_watermark (id, dispatched_until, created_at, modified_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String TRY_CLAIM_SQL = """
+            UPDATE review_dispatch_watermark
+            SET owner = ?, lease_until = ?, dispatching_until = ?, modified_at = ?
+            WHERE id = ?
+            AND (owner IS NULL OR lease_until < ?)
+            """;
+
+    private static final String FIND_DISPATCHED_UNTIL_SQL = """
+            SELECT dispatched_until
+            FROM review_dispatch_watermark
+            WHERE id = ?
+            AND owner = ?
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE review_dispatch_watermark
+            SET lease_until = ?, modified_at = ?
+            WHERE id = ?
+            AND owner = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE review_dispatch_watermark
+            SET dispatched_until = dispatching_until, dispatching_until = NULL,
+                owner = NULL, lease_until = NULL, modified_at = ?
+            WHERE id = ?
+            AND owner = ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE review_dispatch_watermark
+            SET dispatching_until = NULL, owner = NULL, lease_until = NULL, modified_at = ?
+            WHERE id = ?
+            AND owner = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIfAbsent(final int id, final LocalDateTime dispatchedUntil, final LocalDateTime now) {
+        final Timestamp nowTimestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, id, Timestamp.valueOf(dispatchedUntil), nowTimestamp, nowTimestamp);
+    }
+
+    public boolean tryClaim(
+            final int id,
+            final String owner,
+            final LocalDateTime now,
+            final LocalDateTime leaseUntil
+    ) {
+        final Timestamp nowTimestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(TRY_CLAIM_SQL,
+                owner, Timestamp.valueOf(leaseUntil), nowTimestamp, nowTimestamp, id, nowTimestamp) == 1;
+    }
+
+    public Optional<LocalDateTime> findDispatchedUntil(final int id, final String owner) {
+        return jdbcTemplate.query(FIND_DISPATCHED_UNTIL_SQL,
+                        (rs, rowNum) -> rs.getTimestamp("dispatched_until").toLocalDateTime(), id, owner).stream()
+                .findFirst();
+    }
+
+    public boolean renew(final int id, final String owner, final LocalDateTime leaseUntil, final LocalDateTime now) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), id, owner) == 1;
+    }
+
+    public boolean complete(final int id, final String owner, final LocalDateTime now) {
+        return jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(now), id, owner) == 1;
+    }
+
+    public void release(final int id, final String owner, final LocalDateTime now) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(now), id, owner);
+    }
+}
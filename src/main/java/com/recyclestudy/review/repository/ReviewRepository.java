@@ -1,7 +1,25 @@
 package com.recyclestudy.review.repository;
 
 import com.recyclestudy.review.domain.Review;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    Optional<Review> findByMemberIdAndUrlHash(Long memberId, String urlHash);
+
+    @Query("""
+                SELECT r.urlHash
+                FROM Review r
+                WHERE r.member.id = :memberId
+                AND r.urlHash IN :urlHashes
+            """)
+    List<String> findUrlHashesByMemberIdAndUrlHashIn(
+            @Param("memberId") Long memberId,
+            @Param("urlHashes") Collection<String> urlHashes
+    );
 }
@@ -0,0 +1,93 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.review.repository.DispatchShardLease;
+import com.recyclestudy.review.repository.DispatchShardLeaseRepository;
+import com.recyclestudy.review.service.output.DispatchShardOutput;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchShardLeaseService {
+
+    private final String owner = resolveHostName() + "-" + UUID.randomUUID();
+
+    private final DispatchShardLeaseRepository dispatchShardLeaseRepository;
+    private final Clock clock;
+
+    @Value("${review.dispatch.sharding.shard-count:4}")
+    private int shardCount;
+
+    @Value("${review.dispatch.sharding.lease:5m}")
+    private Duration lease;
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Transactional
+    public void ensureShards() {
+        final LocalDateTime now = now();
+        dispatchShardLeaseRepository.insertIfAbsent(shardCount, now, now);
+    }
+
+    @Transactional
+    public Optional<DispatchShardOutput> acquire(final int shardNo) {
+        final LocalDateTime now = now();
+        if (!dispatchShardLeaseRepository.tryAcquire(shardNo, owner, now, now.plus(lease))) {
+            return Optional.empty();
+        }
+
+        final DispatchShardLease shard = dispatchShardLeaseRepository.findByShardNo(shardNo)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 샤드입니다: %s".formatted(shardNo)));
+
+        if (shard.isDispatching()) {
+            log.info("[DISPATCH_SHARD_RESUMED] 중단된 샤드 발송 재개: shardNo={}, until={}, cursor={}",
+                    shardNo, shard.dispatchingUntil(), shard.cursorMemberId());
+            return Optional.of(DispatchShardOutput.of(shardNo, shardCount,
+                    shard.dispatchedUntil(), shard.dispatchingUntil(), shard.cursorMemberId()));
+        }
+
+        dispatchShardLeaseRepository.begin(shardNo, owner, now, now);
+        return Optional.of(DispatchShardOutput.of(shardNo, shardCount, shard.dispatchedUntil(), now, 0L));
+    }
+
+    @Transactional
+    public boolean checkpoint(final int shardNo, final Long cursorMemberId) {
+        final LocalDateTime now = now();
+        return dispatchShardLeaseRepository.checkpoint(shardNo, owner, cursorMemberId, now.plus(lease), now);
+    }
+
+    @Transactional
+    public boolean complete(final int shardNo) {
+        return dispatchShardLeaseRepository.complete(shardNo, owner, now());
+    }
+
+    @Transactional
+    public void release(final int shardNo) {
+        dispatchShardLeaseRepository.release(shardNo, owner, now());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.common.config.SchedulingConfig;
+import com.recyclestudy.review.repository.NotificationHistoryPartition;
+import com.recyclestudy.review.repository.NotificationHistoryPartitionRepository;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "review.notification-history.partition.enabled", havingValue = "true")
+public class NotificationHistoryPartitionService {
+
+    private final NotificationHistoryPartitionRepository partitionRepository;
+    private final Clock clock;
+
+    @Value("${review.notification-history.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${review.notification-history.partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${review.notification-history.partition.retention-enabled:false}")
+    private boolean retentionEnabled;
+
+    @Scheduled(cron = "0 0 18 * * *", zone = "UTC", scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void maintainPartitions() {
+        final YearMonth current = YearMonth.now(clock);
+        final List<NotificationHistoryPartition> partitions = partitionRepository.findMonthlyPartitions();
+
+        createUpcomingPartitions(current, partitions);
+        if (retentionEnabled) {
+            dropExpiredPartitions(current, partitions);
+        }
+    }
+
+    private void createUpcomingPartitions(
+            final YearMonth current,
+            final List<NotificationHistoryPartition> partitions
+    ) {
+        final YearMonth lastCreated = partitions.stream()
+                .map(NotificationHistoryPartition::month)
+                .max(Comparator.naturalOrder())
+                .orElse(current.minusMonths(1));
+        final YearMonth until = current.plusMonths(monthsAhead);
+        if (!lastCreated.isBefore(until)) {
+            return;
+        }
+        if (!partitionRepository.isFutureEmpty()) {
+            log.warn("[NOTIFY_HIST_PARTITION_SKIPPED] p_future 파티션에 데이터가 있어 파티션 분할을 건너뜀: lastCreated={}, until={}",
+                    lastCreated, until);
+            return;
+        }
+
+        for (YearMonth month = lastCreated.plusMonths(1); !month.isAfter(until); month = month.plusMonths(1)) {
+            final NotificationHistoryPartition partition = NotificationHistoryPartition.of(month);
+            partitionRepository.addBeforeFuture(partition);
+            log.info("[NOTIFY_HIST_PARTITION_CREATED] 알림 이력 파티션 생성: partition={}", partition.name());
+        }
+    }
+
+    private void dropExpiredPartitions(
+            final YearMonth current,
+            final List<NotificationHistoryPartition> partitions
+    ) {
+        final YearMonth oldestRetained = current.minusMonths(retentionMonths);
+
+        partitions.stream()
+                .filter(partition -> partition.isBefore(oldestRetained))
+                .forEach(partition -> {
+                    partitionRepository.drop(partition);
+                    log.info("[NOTIFY_HIST_PARTITION_DROPPED] 알림 이력 파티션 삭제: partition={}", partition.name());
+                });
+    }
+}
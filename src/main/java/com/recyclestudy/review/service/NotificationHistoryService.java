@@ -1,10 +1,13 @@
 package com.recyclestudy.review.service;
 
-import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.common.retry.ExponentialBackoff;
 import com.recyclestudy.review.domain.NotificationStatus;
-import com.recyclestudy.review.domain.ReviewCycle;
-import com.recyclestudy.review.repository.NotificationHistoryRepository;
-import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,18 +19,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class NotificationHistoryService {
 
-    private final NotificationHistoryRepository notificationHistoryRepository;
-    private final ReviewCycleRepository reviewCycleRepository;
+    private final NotificationHistoryBulkRepository notificationHistoryBulkRepository;
+    private final ExponentialBackoff notificationRetryBackoff;
+    private final Clock clock;
 
     @Transactional
-    public void saveAll(final List<Long> reviewCycleIds, final NotificationStatus status) {
-        final List<ReviewCycle> reviewCycles = reviewCycleRepository.findAllById(reviewCycleIds);
+    public void saveAll(final NotificationResultInput input) {
+        final LocalDateTime now = LocalDateTime.now(clock);
 
-        final List<NotificationHistory> histories = reviewCycles.stream()
-                .map(cycle -> NotificationHistory.withoutId(cycle, status))
-                .toList();
+        final List<NotificationHistoryRow> rows = new ArrayList<>(input.size());
+        input.sentReviewCycleIds()
+                .forEach(id -> rows.add(NotificationHistoryRow.of(id, NotificationStatus.SENT, now)));
+        input.failedReviewCycleIds()
+                .forEach(id -> rows.add(NotificationHistoryRow.retryable(
+                        id, NotificationStatus.FAILED, now.plus(notificationRetryBackoff.delayFor(0)), now)));
 
-        notificationHistoryRepository.saveAll(histories);
-        log.info("[NOTIFY_HIST_UPDATED] 알림 이력 상태 변경: status={}, count={}", status, histories.size());
+        final int inserted = notificationHistoryBulkRepository.insertAll(rows);
+        log.info("[NOTIFY_HIST_UPDATED] 알림 이력 일괄 저장: sent={}, failed={}, inserted={}",
+                input.sentReviewCycleIds().size(), input.failedReviewCycleIds().size(), inserted);
     }
 }
@@ -0,0 +1,102 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.common.retry.ExponentialBackoff;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
+import com.recyclestudy.review.repository.NotificationRetryRepository;
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetryClaim;
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetrySchedule;
+import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import com.recyclestudy.review.service.output.NotificationRetryOutput;
+import com.recyclestudy.review.service.output.ReviewSendOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetryService {
+
+    private final NotificationRetryRepository notificationRetryRepository;
+    private final NotificationHistoryBulkRepository notificationHistoryBulkRepository;
+    private final ReviewCycleRepository reviewCycleRepository;
+    private final ExponentialBackoff notificationRetryBackoff;
+    private final Clock clock;
+
+    @Value("${review.retry.batch-size:100}")
+    private int batchSize;
+
+    @Value("${review.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${review.retry.lease:10m}")
+    private Duration lease;
+
+    @Transactional
+    public NotificationRetryOutput claimDueRetries() {
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final List<NotificationRetryClaim> claims = notificationRetryRepository.findDueForUpdate(now, batchSize);
+        if (claims.isEmpty()) {
+            return NotificationRetryOutput.empty();
+        }
+
+        final LocalDateTime leaseUntil = now.plus(lease);
+        notificationRetryRepository.updateSchedules(claims.stream()
+                .map(claim -> NotificationRetrySchedule.of(claim, claim.attemptCount(), leaseUntil))
+                .toList(), now);
+
+        final List<Long> reviewCycleIds = claims.stream()
+                .map(NotificationRetryClaim::reviewCycleId)
+                .toList();
+        final List<ReviewCycleSendTarget> targets = reviewCycleRepository.findSendTargetsByReviewCycleIds(reviewCycleIds);
+
+        log.info("[NOTIFY_RETRY_CLAIMED] 재시도 대상 알림 선점: count={}, leaseUntil={}", claims.size(), leaseUntil);
+        return NotificationRetryOutput.of(claims, ReviewSendOutput.fromSendTargets(targets).elements());
+    }
+
+    @Transactional
+    public void completeRetries(final NotificationRetryOutput retry, final NotificationResultInput result) {
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final Set<Long> sentReviewCycleIds = Set.copyOf(result.sentReviewCycleIds());
+
+        final List<NotificationRetrySchedule> schedules = retry.claims().stream()
+                .map(claim -> nextSchedule(claim, sentReviewCycleIds.contains(claim.reviewCycleId()), now))
+                .toList();
+        notificationRetryRepository.updateSchedules(schedules, now);
+
+        notificationHistoryBulkRepository.insertAll(result.sentReviewCycleIds().stream()
+                .map(id -> NotificationHistoryRow.of(id, NotificationStatus.SENT, now))
+                .toList());
+
+        log.info("[NOTIFY_RETRY_COMPLETED] 알림 재시도 결과 반영: sent={}, failed={}",
+                sentReviewCycleIds.size(), retry.claims().size() - sentReviewCycleIds.size());
+    }
+
+    private NotificationRetrySchedule nextSchedule(
+            final NotificationRetryClaim claim,
+            final boolean sent,
+            final LocalDateTime now
+    ) {
+        final int attemptCount = claim.attemptCount() + 1;
+        if (sent) {
+            return NotificationRetrySchedule.of(claim, attemptCount, null);
+        }
+        if (attemptCount >= maxAttempts) {
+            log.warn("[NOTIFY_RETRY_EXHAUSTED] 알림 재시도 횟수 초과: reviewCycleId={}, attempt={}",
+                    claim.reviewCycleId(), attemptCount);
+            return NotificationRetrySchedule.of(claim, attemptCount, null);
+        }
+        return NotificationRetrySchedule.of(claim, attemptCount, now.plus(notificationRetryBackoff.delayFor(attemptCount)));
+    }
+}
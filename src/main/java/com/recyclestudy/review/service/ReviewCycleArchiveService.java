@@ -0,0 +1,98 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.common.config.SchedulingConfig;
+import com.recyclestudy.review.archive.ArchivedReviewCycle;
+import com.recyclestudy.review.archive.ReviewCycleArchiveStore;
+import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.ReviewCycle;
+import com.recyclestudy.review.repository.NotificationHistoryRepository;
+import com.recyclestudy.review.repository.ReviewCycleRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "review.archive.enabled", havingValue = "true")
+public class ReviewCycleArchiveService {
+
+    private static final String ARCHIVE_NAME_FORMAT = "%012d-%012d";
+
+    private final ReviewCycleRepository reviewCycleRepository;
+    private final NotificationHistoryRepository notificationHistoryRepository;
+    private final ReviewCycleArchiveStore reviewCycleArchiveStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${review.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${review.archive.grace-period:7d}")
+    private Duration gracePeriod;
+
+    @Scheduled(cron = "0 30 18 * * *", zone = "UTC", scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void archiveFinishedCycles() {
+        final LocalDateTime cutoff = LocalDateTime.now(clock).minus(gracePeriod);
+
+        long afterReviewId = 0L;
+        int archivedCount = 0;
+        ArchivedBatch batch;
+        do {
+            final long lastReviewId = afterReviewId;
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoff, lastReviewId));
+            archivedCount += batch.count();
+            afterReviewId = batch.lastReviewId();
+        } while (!batch.isEmpty());
+
+        log.info("[REVIEW_CYCLE_ARCHIVED] 완료된 복습 주기 아카이브 완료: cutoff={}, count={}", cutoff, archivedCount);
+    }
+
+    private ArchivedBatch archiveBatch(final LocalDateTime cutoff, final long afterReviewId) {
+        final List<Long> reviewIds = reviewCycleRepository.findFinishedReviewIds(
+                cutoff, afterReviewId, PageRequest.ofSize(batchSize));
+        if (reviewIds.isEmpty()) {
+            return ArchivedBatch.empty(afterReviewId);
+        }
+
+        final List<ReviewCycle> cycles = reviewCycleRepository.findAllWithReviewAndMemberByReviewIds(reviewIds);
+        final List<Long> cycleIds = cycles.stream()
+                .map(ReviewCycle::getId)
+                .toList();
+        final Map<Long, List<NotificationHistory>> historiesByCycleId = notificationHistoryRepository
+                .findAllByReviewCycleIds(cycleIds).stream()
+                .collect(Collectors.groupingBy(history -> history.getReviewCycle().getId()));
+
+        final List<ArchivedReviewCycle> archivedCycles = cycles.stream()
+                .map(cycle -> ArchivedReviewCycle.of(cycle, historiesByCycleId.getOrDefault(cycle.getId(), List.of())))
+                .toList();
+        final String archiveName = ARCHIVE_NAME_FORMAT.formatted(reviewIds.getFirst(), reviewIds.getLast());
+        reviewCycleArchiveStore.write(archiveName, archivedCycles);
+
+        notificationHistoryRepository.deleteAllByReviewCycleIds(cycleIds);
+        reviewCycleRepository.deleteAllByIdInBatch(cycleIds);
+        return new ArchivedBatch(reviewIds.getLast(), cycles.size());
+    }
+
+    private record ArchivedBatch(long lastReviewId, int count) {
+
+        private static ArchivedBatch empty(final long lastReviewId) {
+            return new ArchivedBatch(lastReviewId, 0);
+        }
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.recyclestudy.review.service;
 
+import com.recyclestudy.review.domain.MemberIdStripe;
 import com.recyclestudy.review.domain.ReviewCycle;
 import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import com.recyclestudy.review.service.input.ReviewSendChunkInput;
 import com.recyclestudy.review.service.input.ReviewSendInput;
+import com.recyclestudy.review.service.input.ReviewShardChunkInput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
 import com.recyclestudy.review.service.output.ReviewSendOutput;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +23,70 @@ public class ReviewCycleService {
 
     private final ReviewCycleRepository reviewCycleRepository;
 
+    @Value("${review.dispatch.sharding.stripe-size:1000}")
+    private long stripeSize;
+
     @Transactional(readOnly = true)
     public ReviewSendOutput findTargetReviewCycle(final ReviewSendInput input) {
         final List<ReviewCycle> targetCycle = reviewCycleRepository.findAllByScheduledAt(input.scheduledAt());
         return ReviewSendOutput.from(targetCycle);
     }
+
+    @Transactional(readOnly = true)
+    public ReviewSendChunkOutput findTargetReviewCycleChunk(final ReviewSendChunkInput input) {
+        final List<Long> memberIds = reviewCycleRepository.findTargetMemberIds(
+                input.scheduledAfter(), input.scheduledUntil(), input.lastMemberId(), PageRequest.ofSize(input.size()));
+
+        if (memberIds.isEmpty()) {
+            return ReviewSendChunkOutput.empty();
+        }
+
+        final List<ReviewCycleSendTarget> targets = reviewCycleRepository.findSendTargetsInRangeByMemberIds(
+                input.scheduledAfter(), input.scheduledUntil(), memberIds);
+        final ReviewSendOutput output = ReviewSendOutput.fromSendTargets(targets);
+
+        final boolean hasNext = memberIds.size() == input.size();
+        return ReviewSendChunkOutput.of(output.elements(), memberIds.getLast(), hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewSendChunkOutput findTargetReviewCycleShardChunk(final ReviewShardChunkInput input) {
+        final Long maxMemberId = reviewCycleRepository.findMaxTargetMemberId(
+                input.scheduledAfter(), input.scheduledUntil());
+        if (maxMemberId == null) {
+            return ReviewSendChunkOutput.empty();
+        }
+
+        final List<Long> memberIds = new ArrayList<>(input.size());
+        long cursor = input.lastMemberId();
+        while (memberIds.size() < input.size()) {
+            final MemberIdStripe stripe = MemberIdStripe.after(
+                    cursor, input.shardNo(), input.shardCount(), stripeSize);
+            if (stripe.startsAfter(maxMemberId)) {
+                break;
+            }
+
+            final int remaining = input.size() - memberIds.size();
+            final List<Long> found = reviewCycleRepository.findTargetMemberIdsInRange(
+                    input.scheduledAfter(),
+                    input.scheduledUntil(),
+                    stripe.fromExclusive(),
+                    stripe.toInclusive(),
+                    PageRequest.ofSize(remaining)
+            );
+            memberIds.addAll(found);
+            cursor = found.size() == remaining ? found.getLast() : stripe.toInclusive();
+        }
+
+        if (memberIds.isEmpty()) {
+            return ReviewSendChunkOutput.empty();
+        }
+
+        final List<ReviewCycleSendTarget> targets = reviewCycleRepository.findSendTargetsInRangeByMemberIds(
+                input.scheduledAfter(), input.scheduledUntil(), memberIds);
+        final ReviewSendOutput output = ReviewSendOutput.fromSendTargets(targets);
+
+        final boolean hasNext = memberIds.size() == input.size();
+        return ReviewSendChunkOutput.of(output.elements(), memberIds.getLast(), hasNext);
+    }
 }
@@ -0,0 +1,72 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.review.repository.ReviewDispatchWatermarkRepository;
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewDispatchWatermarkService {
+
+    private static final int REVIEW_MAIL_WATERMARK_ID = 1;
+
+    private final String owner = resolveHostName() + "-" + UUID.randomUUID();
+
+    private final ReviewDispatchWatermarkRepository reviewDispatchWatermarkRepository;
+    private final Clock clock;
+
+    @Value("${review.dispatch.lease:5m}")
+    private Duration lease;
+
+    @Transactional
+    public Optional<ReviewDispatchRangeOutput> claim() {
+        final LocalDateTime now = now();
+        reviewDispatchWatermarkRepository.insertIfAbsent(REVIEW_MAIL_WATERMARK_ID, now, now);
+        if (!reviewDispatchWatermarkRepository.tryClaim(REVIEW_MAIL_WATERMARK_ID, owner, now, now.plus(lease))) {
+            return Optional.empty();
+        }
+
+        final LocalDateTime dispatchedUntil = reviewDispatchWatermarkRepository
+                .findDispatchedUntil(REVIEW_MAIL_WATERMARK_ID, owner)
+                .orElseThrow(() -> new IllegalStateException("복습 메일 발송 기준 시각이 존재하지 않습니다"));
+        return Optional.of(ReviewDispatchRangeOutput.of(dispatchedUntil, now));
+    }
+
+    @Transactional
+    public boolean renew() {
+        final LocalDateTime now = now();
+        return reviewDispatchWatermarkRepository.renew(REVIEW_MAIL_WATERMARK_ID, owner, now.plus(lease), now);
+    }
+
+    @Transactional
+    public boolean complete() {
+        return reviewDispatchWatermarkRepository.complete(REVIEW_MAIL_WATERMARK_ID, owner, now());
+    }
+
+    @Transactional
+    public void release() {
+        reviewDispatchWatermarkRepository.release(REVIEW_MAIL_WATERMARK_ID, owner, now());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
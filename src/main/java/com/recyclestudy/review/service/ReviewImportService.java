@@ -0,0 +1,128 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.exception.BadRequestException;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.service.input.ReviewBulkSaveInput;
+import com.recyclestudy.review.service.input.ReviewImportInput;
+import com.recyclestudy.review.service.output.ReviewBulkSaveOutput;
+import com.recyclestudy.review.service.output.ReviewImportOutput;
+import com.recyclestudy.review.service.output.ReviewImportOutput.ReviewImportElement;
+import com.recyclestudy.review.service.output.ReviewImportStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewImportService {
+
+    private final ReviewService reviewService;
+
+    @Value("${review.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${review.import.max-items:10000}")
+    private int maxItems;
+
+    public ReviewImportOutput importReviews(final ReviewImportInput input) {
+        final List<ReviewImportElement> elements = new ArrayList<>();
+        final Set<String> seenHashes = new HashSet<>();
+        final Map<ReviewURL, Integer> pending = new LinkedHashMap<>();
+
+        final Iterator<String> urls = input.urls().iterator();
+        int index = 0;
+        boolean truncated = false;
+        while (true) {
+            final String rawUrl;
+            try {
+                if (!urls.hasNext()) {
+                    break;
+                }
+                if (index >= maxItems) {
+                    truncated = true;
+                    break;
+                }
+                rawUrl = urls.next();
+            } catch (final BadRequestException e) {
+                elements.add(ReviewImportElement.failed(index, null, e.getMessage()));
+                truncated = true;
+                break;
+            }
+            final int current = index++;
+
+            final ReviewURL url;
+            try {
+                url = ReviewURL.from(rawUrl);
+            } catch (final IllegalArgumentException e) {
+                elements.add(ReviewImportElement.invalid(current, rawUrl, e.getMessage()));
+                continue;
+            }
+
+            if (!seenHashes.add(url.hash())) {
+                elements.add(ReviewImportElement.duplicated(current, rawUrl, "요청 안에서 중복된 URL입니다"));
+                continue;
+            }
+
+            pending.put(url, current);
+            if (pending.size() >= chunkSize && !flush(input.memberId(), pending, elements)) {
+                truncated = true;
+                break;
+            }
+        }
+        if (!flush(input.memberId(), pending, elements)) {
+            truncated = true;
+        }
+
+        elements.sort(Comparator.comparingInt(ReviewImportElement::index));
+        final ReviewImportOutput output = ReviewImportOutput.of(elements, truncated);
+        log.info("[REVIEW_IMPORTED] 복습 주제 가져오기 완료: memberId={}, total={}, saved={}, duplicated={}, invalid={}, "
+                        + "failed={}, truncated={}",
+                input.memberId(), elements.size(), output.count(ReviewImportStatus.SAVED),
+                output.count(ReviewImportStatus.DUPLICATED), output.count(ReviewImportStatus.INVALID),
+                output.count(ReviewImportStatus.FAILED), truncated);
+        return output;
+    }
+
+    private boolean flush(
+            final Long memberId,
+            final Map<ReviewURL, Integer> pending,
+            final List<ReviewImportElement> elements
+    ) {
+        if (pending.isEmpty()) {
+            return true;
+        }
+
+        try {
+            final ReviewBulkSaveOutput output
+                    = reviewService.saveReviews(ReviewBulkSaveInput.of(memberId, List.copyOf(pending.keySet())));
+            final Set<ReviewURL> duplicatedUrls = Set.copyOf(output.duplicatedUrls());
+            pending.forEach((url, index) -> elements.add(toElement(index, url, duplicatedUrls)));
+            return true;
+        } catch (final RuntimeException e) {
+            log.error("[REVIEW_IMPORT_CHUNK_FAILED] 복습 주제 청크 저장 실패: memberId={}, size={}",
+                    memberId, pending.size(), e);
+            pending.forEach((url, index) -> elements.add(
+                    ReviewImportElement.failed(index, url.getValue(), "저장에 실패했습니다")));
+            return false;
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private ReviewImportElement toElement(final int index, final ReviewURL url, final Set<ReviewURL> duplicatedUrls) {
+        if (duplicatedUrls.contains(url)) {
+            return ReviewImportElement.duplicated(index, url.getValue(), "이미 등록된 URL입니다");
+        }
+        return ReviewImportElement.saved(index, url.getValue());
+    }
+}
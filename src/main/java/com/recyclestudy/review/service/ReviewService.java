@@ -1,25 +1,41 @@
 package com.recyclestudy.review.service;
 
-import com.recyclestudy.common.BaseEntity;
+import com.recyclestudy.common.auth.AuthenticatedDevice;
+import com.recyclestudy.exception.ConflictException;
 import com.recyclestudy.exception.UnauthorizedException;
-import com.recyclestudy.member.domain.Device;
-import com.recyclestudy.member.repository.DeviceRepository;
-import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.member.domain.DeliveryPreference;
+import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.member.repository.MemberRepository;
+import com.recyclestudy.member.service.DeviceAuthenticator;
+import com.recyclestudy.review.domain.DeliveryWindow;
+import com.recyclestudy.review.domain.DuplicateReviewPolicy;
 import com.recyclestudy.review.domain.NotificationStatus;
 import com.recyclestudy.review.domain.Review;
 import com.recyclestudy.review.domain.ReviewCycle;
 import com.recyclestudy.review.domain.ReviewCycleDuration;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
 import com.recyclestudy.review.repository.NotificationHistoryRepository;
 import com.recyclestudy.review.repository.ReviewCycleRepository;
 import com.recyclestudy.review.repository.ReviewRepository;
+import com.recyclestudy.review.service.input.ReviewBulkSaveInput;
 import com.recyclestudy.review.service.input.ReviewSaveInput;
+import com.recyclestudy.review.service.output.ReviewBulkSaveOutput;
 import com.recyclestudy.review.service.output.ReviewSaveOutput;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,52 +46,149 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReviewCycleRepository reviewCycleRepository;
-    private final DeviceRepository deviceRepository;
+    private final MemberRepository memberRepository;
+    private final DeviceAuthenticator deviceAuthenticator;
     private final NotificationHistoryRepository notificationHistoryRepository;
+    private final NotificationHistoryBulkRepository notificationHistoryBulkRepository;
+    private final DeliveryWindow deliveryWindow;
     private final Clock clock;
 
+    @Value("${review.duplicate-policy:REJECT}")
+    private DuplicateReviewPolicy duplicatePolicy;
+
     @Transactional
     public ReviewSaveOutput saveReview(final ReviewSaveInput input) {
-        final Device device = deviceRepository.findByIdentifier(input.identifier())
-                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 디바이스입니다"));
-        checkValidDevice(device);
+        final AuthenticatedDevice device = deviceAuthenticator.authenticate(input.identifier());
+        final Member member = findMember(device.memberId());
+        final Optional<Review> duplicatedReview
+                = reviewRepository.findByMemberIdAndUrlHash(member.getId(), input.url().hash());
+        if (duplicatedReview.isPresent()) {
+            return saveDuplicatedReview(member, duplicatedReview.get());
+        }
 
-        final Review review = Review.withoutId(device.getMember(), input.url());
-        final Review savedReview = reviewRepository.save(review);
+        final Review review = Review.withoutId(member, input.url());
+        final Review savedReview = insertReviews(List.of(review)).getFirst();
         log.info("[REVIEW_SAVED] 복습 주제 저장 성공: reviewId={}", savedReview.getId());
 
-        final LocalDate current = LocalDate.now(clock);
-        final List<LocalDateTime> scheduledAts = ReviewCycleDuration.calculate(current);
+        final List<ReviewCycle> savedReviewCycles = saveReviewCycles(member, List.of(savedReview));
+        log.info("[REVIEW_CYCLE_SAVED] 복습 주기 저장 성공: reviewCycleId={}",
+                savedReviewCycles.stream().map(ReviewCycle::getId).toList());
+
+        savePendingNotificationHistory(savedReviewCycles);
+
+        return toOutput(member, savedReview, savedReviewCycles);
+    }
+
+    @Transactional
+    public ReviewBulkSaveOutput saveReviews(final ReviewBulkSaveInput input) {
+        final Member member = findMember(input.memberId());
+        final Map<String, ReviewURL> urlsByHash = new LinkedHashMap<>();
+        input.urls().forEach(url -> urlsByHash.putIfAbsent(url.hash(), url));
 
-        final List<ReviewCycle> reviewCycles = scheduledAts.stream()
-                .map(scheduledAt -> ReviewCycle.withoutId(savedReview, scheduledAt))
+        final List<String> duplicatedHashes = reviewRepository
+                .findUrlHashesByMemberIdAndUrlHashIn(member.getId(), List.copyOf(urlsByHash.keySet()));
+        final List<ReviewURL> duplicatedUrls = duplicatedHashes.stream()
+                .map(urlsByHash::get)
                 .toList();
+        urlsByHash.keySet().removeAll(duplicatedHashes);
 
-        final List<ReviewCycle> savedReviewCycles = reviewCycleRepository.saveAll(reviewCycles);
-        final List<LocalDateTime> savedScheduledAts = savedReviewCycles.stream()
-                .map(ReviewCycle::getScheduledAt)
+        final List<Review> reviews = urlsByHash.values().stream()
+                .map(url -> Review.withoutId(member, url))
                 .toList();
-        log.info("[REVIEW_CYCLE_SAVED] 복습 주기 저장 성공: reviewCycleId={}",
-                savedReviewCycles.stream().map(BaseEntity::getId).toList());
+        final List<Review> savedReviews = insertReviews(reviews);
 
+        final List<ReviewCycle> savedReviewCycles = saveReviewCycles(member, savedReviews);
         savePendingNotificationHistory(savedReviewCycles);
+        log.info("[REVIEW_BULK_SAVED] 복습 주제 일괄 저장 성공: memberId={}, reviews={}, reviewCycles={}, duplicated={}",
+                member.getId(), savedReviews.size(), savedReviewCycles.size(), duplicatedUrls.size());
+        return ReviewBulkSaveOutput.of(duplicatedUrls);
+    }
+
+    private List<Review> insertReviews(final List<Review> reviews) {
+        try {
+            return reviewRepository.saveAllAndFlush(reviews);
+        } catch (final DataIntegrityViolationException e) {
+            if (isDuplicatedUrlHash(e)) {
+                throw new ConflictException("이미 등록된 복습 주제입니다");
+            }
+            throw e;
+        }
+    }
+
+    private boolean isDuplicatedUrlHash(final DataIntegrityViolationException e) {
+        final String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Review.URL_HASH_UNIQUE_CONSTRAINT);
+    }
 
-        return ReviewSaveOutput.of(savedReview.getUrl(), savedScheduledAts);
+    private ReviewSaveOutput saveDuplicatedReview(final Member member, final Review review) {
+        return switch (duplicatePolicy) {
+            case REJECT -> throw new ConflictException("이미 등록된 복습 주제입니다: %s"
+                    .formatted(review.getUrl().getValue()));
+            case RESCHEDULE -> rescheduleReview(member, review);
+            case MERGE -> mergeReview(member, review);
+        };
     }
 
-    private void checkValidDevice(final Device device) {
-        if (!device.isActive()) {
-            throw new UnauthorizedException("인증되지 않은 디바이스입니다");
+    private ReviewSaveOutput rescheduleReview(final Member member, final Review review) {
+        final List<ReviewCycle> upcomingCycles = reviewCycleRepository.findUpcomingByReviewId(review.getId(), now());
+        if (!upcomingCycles.isEmpty()) {
+            notificationHistoryRepository.deleteAllByReviewCycleIds(
+                    upcomingCycles.stream().map(ReviewCycle::getId).toList());
+            reviewCycleRepository.deleteAllInBatch(upcomingCycles);
         }
+
+        final List<ReviewCycle> savedReviewCycles = saveReviewCycles(member, List.of(review));
+        savePendingNotificationHistory(savedReviewCycles);
+        log.info("[REVIEW_RESCHEDULED] 중복 복습 주제 재예약 성공: reviewId={}, removedCycles={}",
+                review.getId(), upcomingCycles.size());
+        return toOutput(member, review, savedReviewCycles);
+    }
+
+    private ReviewSaveOutput mergeReview(final Member member, final Review review) {
+        final List<ReviewCycle> upcomingCycles = reviewCycleRepository.findUpcomingByReviewId(review.getId(), now());
+        log.info("[REVIEW_MERGED] 중복 복습 주제를 기존 일정으로 유지: reviewId={}", review.getId());
+        return toOutput(member, review, upcomingCycles);
+    }
+
+    private ReviewSaveOutput toOutput(final Member member, final Review review, final List<ReviewCycle> reviewCycles) {
+        final DeliveryPreference preference = member.getDeliveryPreference();
+        final List<LocalDateTime> scheduledAts = reviewCycles.stream()
+                .map(ReviewCycle::getScheduledAt)
+                .map(preference::fromUtc)
+                .toList();
+        return ReviewSaveOutput.of(review.getUrl(), scheduledAts);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private Member findMember(final Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 디바이스입니다"));
+    }
+
+    private List<ReviewCycle> saveReviewCycles(final Member member, final List<Review> reviews) {
+        final DeliveryPreference preference = member.getDeliveryPreference();
+        final LocalDate current = preference.today(clock);
+        final LocalTime deliveryTime = preference.deliveryTimeOr(deliveryWindow.timeFor(member.getId()));
+        final List<LocalDateTime> scheduledAts = ReviewCycleDuration.calculate(current, deliveryTime).stream()
+                .map(preference::toUtc)
+                .toList();
+
+        final List<ReviewCycle> reviewCycles = reviews.stream()
+                .flatMap(review -> scheduledAts.stream()
+                        .map(scheduledAt -> ReviewCycle.withoutId(review, scheduledAt)))
+                .toList();
+        return reviewCycleRepository.saveAllAndFlush(reviewCycles);
     }
 
     private void savePendingNotificationHistory(final List<ReviewCycle> savedReviewCycles) {
-        final List<NotificationHistory> notificationHistories = savedReviewCycles.stream()
-                .map(reviewCycle -> NotificationHistory.withoutId(reviewCycle, NotificationStatus.PENDING))
+        final LocalDateTime now = now();
+        final List<NotificationHistoryRow> rows = savedReviewCycles.stream()
+                .map(reviewCycle -> NotificationHistoryRow.of(reviewCycle.getId(), NotificationStatus.PENDING, now))
                 .toList();
-        final List<NotificationHistory> savedNotificationHistories
-                = notificationHistoryRepository.saveAll(notificationHistories);
-        log.info("[NOTIFY_HIST_SAVED] 전송 현황 등록 성공: status={}, notificationHistoryId={}",
-                NotificationStatus.PENDING, savedNotificationHistories.stream().map(BaseEntity::getId).toList());
+        final int inserted = notificationHistoryBulkRepository.insertAll(rows);
+        log.info("[NOTIFY_HIST_SAVED] 전송 현황 등록 성공: status={}, inserted={}", NotificationStatus.PENDING, inserted);
     }
 }
@@ -0,0 +1,17 @@
+package com.recyclestudy.review.service.input;
+
+import java.util.List;
+
+public record NotificationResultInput(List<Long> sentReviewCycleIds, List<Long> failedReviewCycleIds) {
+
+    public static NotificationResultInput of(
+            final List<Long> sentReviewCycleIds,
+            final List<Long> failedReviewCycleIds
+    ) {
+        return new NotificationResultInput(sentReviewCycleIds, failedReviewCycleIds);
+    }
+
+    public int size() {
+        return sentReviewCycleIds.size() + failedReviewCycleIds.size();
+    }
+}
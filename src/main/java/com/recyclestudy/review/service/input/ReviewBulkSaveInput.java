@@ -0,0 +1,11 @@
+package com.recyclestudy.review.service.input;
+
+import com.recyclestudy.review.domain.ReviewURL;
+import java.util.List;
+
+public record ReviewBulkSaveInput(Long memberId, List<ReviewURL> urls) {
+
+    public static ReviewBulkSaveInput of(final Long memberId, final List<ReviewURL> urls) {
+        return new ReviewBulkSaveInput(memberId, List.copyOf(urls));
+    }
+}
@@ -0,0 +1,10 @@
+package com.recyclestudy.review.service.input;
+
+import java.util.stream.Stream;
+
+public record ReviewImportInput(Long memberId, Stream<String> urls) {
+
+    public static ReviewImportInput of(final Long memberId, final Stream<String> urls) {
+        return new ReviewImportInput(memberId, urls);
+    }
+}
@@ -0,0 +1,22 @@
+package com.recyclestudy.review.service.input;
+
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import java.time.LocalDateTime;
+
+public record ReviewSendChunkInput(
+        LocalDateTime scheduledAfter,
+        LocalDateTime scheduledUntil,
+        Long lastMemberId,
+        int size
+) {
+
+    private static final long FIRST_MEMBER_ID = 0L;
+
+    public static ReviewSendChunkInput first(final ReviewDispatchRangeOutput range, final int size) {
+        return new ReviewSendChunkInput(range.scheduledAfter(), range.scheduledUntil(), FIRST_MEMBER_ID, size);
+    }
+
+    public ReviewSendChunkInput next(final Long lastMemberId) {
+        return new ReviewSendChunkInput(this.scheduledAfter, this.scheduledUntil, lastMemberId, this.size);
+    }
+}
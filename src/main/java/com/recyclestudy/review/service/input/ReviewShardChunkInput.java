@@ -0,0 +1,36 @@
+package com.recyclestudy.review.service.input;
+
+import com.recyclestudy.review.service.output.DispatchShardOutput;
+import java.time.LocalDateTime;
+
+public record ReviewShardChunkInput(
+        LocalDateTime scheduledAfter,
+        LocalDateTime scheduledUntil,
+        int shardCount,
+        int shardNo,
+        Long lastMemberId,
+        int size
+) {
+
+    public static ReviewShardChunkInput first(final DispatchShardOutput shard, final int size) {
+        return new ReviewShardChunkInput(
+                shard.scheduledAfter(),
+                shard.scheduledUntil(),
+                shard.shardCount(),
+                shard.shardNo(),
+                shard.cursorMemberId(),
+                size
+        );
+    }
+
+    public ReviewShardChunkInput next(final Long lastMemberId) {
+        return new ReviewShardChunkInput(
+                this.scheduledAfter,
+                this.scheduledUntil,
+                this.shardCount,
+                this.shardNo,
+                lastMemberId,
+                this.size
+        );
+    }
+}
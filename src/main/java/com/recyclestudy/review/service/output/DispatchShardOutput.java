@@ -0,0 +1,22 @@
+package com.recyclestudy.review.service.output;
+
+import java.time.LocalDateTime;
+
+public record DispatchShardOutput(
+        int shardNo,
+        int shardCount,
+        LocalDateTime scheduledAfter,
+        LocalDateTime scheduledUntil,
+        Long cursorMemberId
+) {
+
+    public static DispatchShardOutput of(
+            final int shardNo,
+            final int shardCount,
+            final LocalDateTime scheduledAfter,
+            final LocalDateTime scheduledUntil,
+            final Long cursorMemberId
+    ) {
+        return new DispatchShardOutput(shardNo, shardCount, scheduledAfter, scheduledUntil, cursorMemberId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.recyclestudy.review.service.output;
+
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetryClaim;
+import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
+import java.util.List;
+
+public record NotificationRetryOutput(List<NotificationRetryClaim> claims, List<ReviewSendElement> elements) {
+
+    public static NotificationRetryOutput of(
+            final List<NotificationRetryClaim> claims,
+            final List<ReviewSendElement> elements
+    ) {
+        return new NotificationRetryOutput(claims, elements);
+    }
+
+    public static NotificationRetryOutput empty() {
+        return new NotificationRetryOutput(List.of(), List.of());
+    }
+
+    public boolean isEmpty() {
+        return claims.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.recyclestudy.review.service.output;
+
+import com.recyclestudy.review.domain.ReviewURL;
+import java.util.List;
+
+public record ReviewBulkSaveOutput(List<ReviewURL> duplicatedUrls) {
+
+    public static ReviewBulkSaveOutput of(final List<ReviewURL> duplicatedUrls) {
+        return new ReviewBulkSaveOutput(duplicatedUrls);
+    }
+}
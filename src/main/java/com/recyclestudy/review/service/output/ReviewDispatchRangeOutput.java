@@ -0,0 +1,10 @@
+package com.recyclestudy.review.service.output;
+
+import java.time.LocalDateTime;
+
+public record ReviewDispatchRangeOutput(LocalDateTime scheduledAfter, LocalDateTime scheduledUntil) {
+
+    public static ReviewDispatchRangeOutput of(final LocalDateTime scheduledAfter, final LocalDateTime scheduledUntil) {
+        return new ReviewDispatchRangeOutput(scheduledAfter, scheduledUntil);
+    }
+}
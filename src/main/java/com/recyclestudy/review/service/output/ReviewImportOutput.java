@@ -0,0 +1,35 @@
+package com.recyclestudy.review.service.output;
+
+import java.util.List;
+
+public record ReviewImportOutput(List<ReviewImportElement> elements, boolean truncated) {
+
+    public static ReviewImportOutput of(final List<ReviewImportElement> elements, final boolean truncated) {
+        return new ReviewImportOutput(elements, truncated);
+    }
+
+    public long count(final ReviewImportStatus status) {
+        return elements.stream()
+                .filter(element -> element.status() == status)
+                .count();
+    }
+
+    public record ReviewImportElement(int index, String url, ReviewImportStatus status, String message) {
+
+        public static ReviewImportElement saved(final int index, final String url) {
+            return new ReviewImportElement(index, url, ReviewImportStatus.SAVED, null);
+        }
+
+        public static ReviewImportElement duplicated(final int index, final String url, final String message) {
+            return new ReviewImportElement(index, url, ReviewImportStatus.DUPLICATED, message);
+        }
+
+        public static ReviewImportElement invalid(final int index, final String url, final String message) {
+            return new ReviewImportElement(index, url, ReviewImportStatus.INVALID, message);
+        }
+
+        public static ReviewImportElement failed(final int index, final String url, final String message) {
+            return new ReviewImportElement(index, url, ReviewImportStatus.FAILED, message);
+        }
+    }
+}
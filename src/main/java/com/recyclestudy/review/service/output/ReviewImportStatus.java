@@ -0,0 +1,8 @@
+package com.recyclestudy.review.service.output;
+
+public enum ReviewImportStatus {
+    SAVED,
+    DUPLICATED,
+    INVALID,
+    FAILED
+}
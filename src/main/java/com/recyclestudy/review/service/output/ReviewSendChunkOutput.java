@@ -0,0 +1,19 @@
+package com.recyclestudy.review.service.output;
+
+import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
+import java.util.List;
+
+public record ReviewSendChunkOutput(List<ReviewSendElement> elements, Long lastMemberId, boolean hasNext) {
+
+    public static ReviewSendChunkOutput of(
+            final List<ReviewSendElement> elements,
+            final Long lastMemberId,
+            final boolean hasNext
+    ) {
+        return new ReviewSendChunkOutput(elements, lastMemberId, hasNext);
+    }
+
+    public static ReviewSendChunkOutput empty() {
+        return new ReviewSendChunkOutput(List.of(), null, false);
+    }
+}
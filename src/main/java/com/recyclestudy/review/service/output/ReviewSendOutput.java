@@ -3,6 +3,8 @@ package com.recyclestudy.review.service.output;
 import com.recyclestudy.member.domain.Email;
 import com.recyclestudy.review.domain.ReviewCycle;
 import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,28 @@ public record ReviewSendOutput(List<ReviewSendElement> elements) {
         return new ReviewSendOutput(elements);
     }
 
+    public static ReviewSendOutput fromSendTargets(final List<ReviewCycleSendTarget> targets) {
+        final List<ReviewSendElement> elements = targets.stream()
+                .collect(Collectors.groupingBy(
+                        ReviewCycleSendTarget::memberId,
+                        LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()
+                ))
+                .values().stream()
+                .map(memberTargets -> {
+                    final List<Long> cycleIds = memberTargets.stream()
+                            .map(ReviewCycleSendTarget::reviewCycleId)
+                            .toList();
+                    final List<ReviewURL> urls = memberTargets.stream()
+                            .map(ReviewCycleSendTarget::url)
+                            .toList();
+                    return ReviewSendElement.of(memberTargets.getFirst().email(), cycleIds, urls);
+                })
+                .toList();
+
+        return new ReviewSendOutput(elements);
+    }
+
     public record ReviewSendElement(
             Email email,
             List<Long> reviewCycleIds,
@@ -0,0 +1,116 @@
+package db.migration;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V20260301_11__BackfillReviewUrlHash extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_SQL = """
+            SELECT id, member_id, url
+            FROM review
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE review
+            SET url_hash = ?
+            WHERE id = ?
+            """;
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        final Connection connection = context.getConnection();
+        final Set<String> seen = new HashSet<>();
+
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL);
+             PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            long lastId = 0L;
+            int fetched;
+            do {
+                select.setLong(1, lastId);
+                select.setInt(2, BATCH_SIZE);
+                fetched = 0;
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        fetched++;
+                        lastId = rs.getLong("id");
+                        final String hash = hash(rs.getString("url"));
+                        if (!seen.add(rs.getLong("member_id") + ":" + hash)) {
+                            continue;
+                        }
+                        update.setString(1, hash);
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                    }
+                }
+                update.executeBatch();
+            } while (fetched == BATCH_SIZE);
+        }
+    }
+
+    static String hash(final String url) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalValue(url).getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String canonicalValue(final String url) {
+        final String stripped = url.strip();
+        try {
+            final URI uri = new URI(stripped);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return stripped;
+            }
+            return canonicalize(uri);
+        } catch (final URISyntaxException e) {
+            return stripped;
+        }
+    }
+
+    private static String canonicalize(final URI uri) {
+        final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        final StringBuilder builder = new StringBuilder(scheme).append("://");
+        if (uri.getRawUserInfo() != null) {
+            builder.append(uri.getRawUserInfo()).append('@');
+        }
+        builder.append(uri.getHost().toLowerCase(Locale.ROOT));
+        if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+            builder.append(':').append(uri.getPort());
+        }
+
+        final String path = uri.getRawPath();
+        builder.append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            builder.append('?').append(uri.getRawQuery());
+        }
+        return builder.toString();
+    }
+
+    private static int defaultPort(final String scheme) {
+        return switch (scheme) {
+            case "http" -> 80;
+            case "https" -> 443;
+            default -> -1;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package db.migration;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V20260301_3__PartitionNotificationHistory extends BaseJavaMigration {
+
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2026, 3);
+    private static final int MONTHS_AHEAD = 3;
+
+    private static final String DROP_FOREIGN_KEY_SQL = """
+            ALTER TABLE notification_history
+                DROP FOREIGN KEY fk_notification_history_review_cycle_id
+            """;
+
+    private static final String CHANGE_PRIMARY_KEY_SQL = """
+            ALTER TABLE notification_history
+                DROP PRIMARY KEY,
+                ADD PRIMARY KEY (id, created_at)
+            """;
+
+    private static final String PARTITION_SQL = """
+            ALTER TABLE notification_history
+                PARTITION BY RANGE COLUMNS (created_at) (
+                    %s
+                )
+            """;
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute(DROP_FOREIGN_KEY_SQL);
+            statement.execute(CHANGE_PRIMARY_KEY_SQL);
+            statement.execute(partitionSql(YearMonth.now(ZoneOffset.UTC)));
+        }
+    }
+
+    static String partitionSql(final YearMonth current) {
+        final List<String> partitions = new ArrayList<>();
+        partitions.add("PARTITION p_legacy VALUES LESS THAN ('%s')".formatted(FIRST_MONTH.atDay(1)));
+
+        final YearMonth until = current.plusMonths(MONTHS_AHEAD);
+        for (YearMonth month = FIRST_MONTH; !month.isAfter(until); month = month.plusMonths(1)) {
+            partitions.add("PARTITION p%04d%02d VALUES LESS THAN ('%s')".formatted(
+                    month.getYear(), month.getMonthValue(), month.plusMonths(1).atDay(1)));
+        }
+        partitions.add("PARTITION p_future VALUES LESS THAN (MAXVALUE)");
+
+        return PARTITION_SQL.formatted(String.join(",\n            ", partitions));
+    }
+}
@@ -0,0 +1,4 @@
+-- review
+-- 정규화한 URL의 SHA-256 해시. 이전에 중복 저장된 행은 해시를 비워 유니크 인덱스에서 제외한다.
+alter table review
+    add column url_hash varchar(64) null;
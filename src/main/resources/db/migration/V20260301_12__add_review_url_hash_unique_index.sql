@@ -0,0 +1,3 @@
+-- review
+create unique index uk_review_member_id_url_hash
+    on review (member_id, url_hash);
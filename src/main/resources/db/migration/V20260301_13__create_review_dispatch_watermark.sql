@@ -0,0 +1,8 @@
+-- review_dispatch_watermark
+create table review_dispatch_watermark
+(
+    id               int         not null primary key,
+    dispatched_until datetime(6) not null,
+    created_at       datetime(6) not null,
+    modified_at      datetime(6) null
+);
@@ -0,0 +1,5 @@
+-- review_dispatch_watermark lease
+alter table review_dispatch_watermark
+    add column owner             varchar(255) null after id,
+    add column lease_until       datetime(6)  null after owner,
+    add column dispatching_until datetime(6)  null after dispatched_until;
@@ -0,0 +1,27 @@
+-- timestamps stamped with the Asia/Seoul JVM zone are stored in UTC from now on
+update member
+set created_at  = date_sub(created_at, interval 9 hour),
+    modified_at = date_sub(modified_at, interval 9 hour);
+
+update device
+set activation_expires_at = date_sub(activation_expires_at, interval 9 hour),
+    created_at            = date_sub(created_at, interval 9 hour),
+    modified_at           = date_sub(modified_at, interval 9 hour);
+
+update review
+set created_at  = date_sub(created_at, interval 9 hour),
+    modified_at = date_sub(modified_at, interval 9 hour);
+
+update review_cycle
+set created_at  = date_sub(created_at, interval 9 hour),
+    modified_at = date_sub(modified_at, interval 9 hour);
+
+update notification_history
+set created_at      = date_sub(created_at, interval 9 hour),
+    modified_at     = date_sub(modified_at, interval 9 hour),
+    next_attempt_at = date_sub(next_attempt_at, interval 9 hour);
+
+update device_auth_mail_outbox
+set next_attempt_at = date_sub(next_attempt_at, interval 9 hour),
+    created_at      = date_sub(created_at, interval 9 hour),
+    modified_at     = date_sub(modified_at, interval 9 hour);
@@ -0,0 +1,3 @@
+-- review_cycle
+create index idx_review_cycle_scheduled_at_review_id
+    on review_cycle (scheduled_at, review_id);
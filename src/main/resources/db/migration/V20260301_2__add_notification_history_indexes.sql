@@ -0,0 +1,6 @@
+-- notification_history
+create index idx_notification_history_status_created_at
+    on notification_history (status, created_at);
+
+create index idx_notification_history_review_cycle_id_created_at
+    on notification_history (review_cycle_id, created_at);
@@ -0,0 +1,7 @@
+-- notification_history
+alter table notification_history
+    add column attempt_count   int         not null default 0,
+    add column next_attempt_at datetime(6) null;
+
+create index idx_notification_history_status_next_attempt_at
+    on notification_history (status, next_attempt_at);
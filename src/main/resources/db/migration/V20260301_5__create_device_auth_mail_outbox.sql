@@ -0,0 +1,15 @@
+-- device_auth_mail_outbox
+create table device_auth_mail_outbox
+(
+    id                bigint auto_increment               primary key,
+    email             varchar(255)                        not null,
+    device_identifier varchar(255)                        not null,
+    status            enum ('FAILED', 'PENDING', 'SENT') not null,
+    attempt_count     int                                 not null,
+    next_attempt_at   datetime(6)                         null,
+    created_at        datetime(6)                         not null,
+    modified_at       datetime(6)                         null
+);
+
+create index idx_device_auth_mail_outbox_status_next_attempt_at
+    on device_auth_mail_outbox (status, next_attempt_at);
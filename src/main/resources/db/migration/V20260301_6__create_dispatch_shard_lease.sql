@@ -0,0 +1,12 @@
+-- dispatch_shard_lease
+create table dispatch_shard_lease
+(
+    shard_no          int          not null primary key,
+    owner             varchar(255) null,
+    lease_until       datetime(6)  null,
+    dispatched_until  datetime(6)  not null,
+    dispatching_until datetime(6)  null,
+    cursor_member_id  bigint       not null,
+    created_at        datetime(6)  not null,
+    modified_at       datetime(6)  null
+);
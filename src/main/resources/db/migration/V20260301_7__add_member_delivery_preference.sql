@@ -0,0 +1,13 @@
+-- member delivery preference
+alter table member
+    add column delivery_time time        null,
+    add column time_zone     varchar(64) not null default 'Asia/Seoul';
+
+-- review_cycle.scheduled_at is stored in UTC from now on
+update review_cycle
+set scheduled_at = date_sub(scheduled_at, interval 9 hour);
+
+update dispatch_shard_lease
+set dispatched_until  = date_sub(dispatched_until, interval 9 hour),
+    dispatching_until = date_sub(dispatching_until, interval 9 hour),
+    lease_until       = date_sub(lease_until, interval 9 hour);
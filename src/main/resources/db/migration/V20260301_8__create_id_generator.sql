@@ -0,0 +1,11 @@
+-- id_generator
+-- review_cycle은 pooled-lo 테이블 채번으로 id를 할당해 insert를 JDBC 배치로 묶는다.
+create table id_generator
+(
+    sequence_name varchar(255) not null primary key,
+    next_val      bigint       null
+);
+
+insert into id_generator (sequence_name, next_val)
+select 'review_cycle', coalesce(max(id), 0) + 1
+from review_cycle;
@@ -0,0 +1,5 @@
+-- id_generator
+-- review도 pooled-lo 테이블 채번으로 id를 할당해 대량 가져오기 insert를 JDBC 배치로 묶는다.
+insert into id_generator (sequence_name, next_val)
+select 'review', coalesce(max(id), 0) + 1
+from review;
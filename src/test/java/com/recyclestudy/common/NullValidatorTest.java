@@ -0,0 +1,51 @@
+package com.recyclestudy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NullValidatorTest {
+
+    @Test
+    @DisplayName("null이 아닌 값은 검증을 통과한다")
+    void validate() {
+        // given
+        final Object target = new Object();
+
+        // when
+        // then
+        assertThatCode(() -> NullValidator.validate("first", target, "second", target, "third", target))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("null 값이 있으면 해당 필드 이름으로 예외를 발생한다")
+    void throwExceptionWhenNull() {
+        // given
+        final Object target = new Object();
+
+        // when
+        // then
+        assertThatThrownBy(() -> NullValidator.validate("first", target, "second", null, "third", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("null이 될 수 없습니다: second");
+    }
+
+    @Test
+    @DisplayName("builder 검증과 정적 검증은 같은 메시지로 예외를 발생한다")
+    void sameMessageWithBuilder() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> NullValidator.builder()
+                .add("value", null)
+                .validate())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("null이 될 수 없습니다: value");
+        assertThatThrownBy(() -> NullValidator.validate("value", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("null이 될 수 없습니다: value");
+    }
+}
@@ -0,0 +1,76 @@
+package com.recyclestudy.common.log;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RequestLogSamplerTest {
+
+    @Test
+    @DisplayName("가장 구체적인 경로 패턴의 샘플링 비율을 적용한다")
+    void isSampledByMostSpecificPattern() {
+        // given
+        final RequestLogSampler sampler = new RequestLogSampler(new RequestLogProperties(
+                true,
+                1.0,
+                500,
+                Map.of("/api/v1/**", 0.0, "/api/v1/reviews/**", 1.0)
+        ));
+
+        // when
+        final boolean reviewSampled = sampler.isSampled(new MockHttpServletRequest("GET", "/api/v1/reviews/bulk"));
+        final boolean memberSampled = sampler.isSampled(new MockHttpServletRequest("GET", "/api/v1/members"));
+        final boolean otherSampled = sampler.isSampled(new MockHttpServletRequest("GET", "/health"));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(reviewSampled).isTrue();
+            softAssertions.assertThat(memberSampled).isFalse();
+            softAssertions.assertThat(otherSampled).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 샘플링 결과를 재사용한다")
+    void reuseDecisionWithinRequest() {
+        // given
+        final RequestLogSampler sampler = new RequestLogSampler(new RequestLogProperties(true, 0.5, 500, Map.of()));
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/reviews");
+        final boolean first = sampler.isSampled(request);
+
+        // when
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.isSampled(request)).isEqualTo(first);
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 모든 요청을 기록하지 않는다")
+    void isNotSampledWhenDisabled() {
+        // given
+        final RequestLogSampler sampler = new RequestLogSampler(new RequestLogProperties(false, 1.0, 500, Map.of()));
+
+        // when
+        final boolean actual = sampler.isSampled(new MockHttpServletRequest("GET", "/api/v1/reviews"));
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0과 1 사이가 아니면 예외를 발생한다")
+    void throwExceptionWhenInvalidSampleRate() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> new RequestLogProperties(true, 1.0, 500, Map.of("/api/**", 1.5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("샘플링 비율은 0 이상 1 이하여야 합니다: 1.5");
+    }
+}
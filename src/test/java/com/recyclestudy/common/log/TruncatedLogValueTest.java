@@ -0,0 +1,133 @@
+package com.recyclestudy.common.log;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TruncatedLogValueTest {
+
+    @Test
+    @DisplayName("최대 길이 이하의 배열은 Arrays.toString과 같은 형식으로 기록한다")
+    void formatArguments() {
+        // given
+        final Object[] args = {"a", 1, null};
+
+        // when
+        final String actual = TruncatedLogValue.of(args, 500).toString();
+
+        // then
+        assertThat(actual).isEqualTo(Arrays.toString(args));
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘으면 잘라내고 말줄임표를 붙인다")
+    void truncate() {
+        // given
+        final String value = "a".repeat(20);
+
+        // when
+        final String actual = TruncatedLogValue.of(value, 10).toString();
+
+        // then
+        assertThat(actual).isEqualTo("a".repeat(10) + "...");
+    }
+
+    @Test
+    @DisplayName("최대 길이에 도달하면 남은 배열 요소를 문자열로 변환하지 않는다")
+    void stopFormattingAfterLimit() {
+        // given
+        final Object untouched = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("호출되면 안 됩니다");
+            }
+        };
+        final Object[] args = {"a".repeat(20), untouched};
+
+        // when
+        final String actual = TruncatedLogValue.of(args, 10).toString();
+
+        // then
+        assertThat(actual).isEqualTo("[" + "a".repeat(9) + "...");
+    }
+
+    @Test
+    @DisplayName("작은 레코드는 레코드의 toString과 같은 형식으로 기록한다")
+    void formatRecord() {
+        // given
+        final Sample sample = new Sample("name", List.of(1, 2));
+
+        // when
+        final String actual = TruncatedLogValue.of(sample, 500).toString();
+
+        // then
+        assertThat(actual).isEqualTo(sample.toString());
+    }
+
+    @Test
+    @DisplayName("큰 단일 결과도 최대 길이까지만 요소를 문자열로 변환한다")
+    void stopFormattingLargeResultAfterLimit() {
+        // given
+        final AtomicInteger formatted = new AtomicInteger();
+        final Object element = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "item";
+            }
+        };
+        final Sample result = new Sample("large", Collections.nCopies(1_000_000, element));
+
+        // when
+        final String actual = TruncatedLogValue.of(result, 50).toString();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual).hasSize(50 + "...".length());
+            softAssertions.assertThat(actual).startsWith("Sample[name=large, items=[item, item");
+            softAssertions.assertThat(formatted).hasValueLessThanOrEqualTo(6);
+        });
+    }
+
+    @Test
+    @DisplayName("긴 문자열 값은 전체 문자열을 만들지 않고 최대 길이만큼만 읽는다")
+    void stopReadingLargeCharSequenceAfterLimit() {
+        // given
+        final CharSequence large = new CharSequence() {
+            @Override
+            public int length() {
+                return 10_000_000;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return 'a';
+            }
+
+            @Override
+            public CharSequence subSequence(final int start, final int end) {
+                throw new IllegalStateException("호출되면 안 됩니다");
+            }
+
+            @Override
+            public String toString() {
+                throw new IllegalStateException("호출되면 안 됩니다");
+            }
+        };
+
+        // when
+        final String actual = TruncatedLogValue.of(large, 10).toString();
+
+        // then
+        assertThat(actual).isEqualTo("a".repeat(10) + "...");
+    }
+
+    private record Sample(String name, List<?> items) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.recyclestudy.common.retry;
+
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExponentialBackoffTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 30, 60",
+            "1, 60, 120",
+            "2, 120, 240",
+            "3, 240, 480",
+            "10, 300, 600",
+    })
+    @DisplayName("시도 횟수에 따라 두 배씩 늘어난 상한의 절반 이상, 상한 이하에서 대기 시간을 고른다")
+    void delayFor(final int attempt, final long minSeconds, final long maxSeconds) {
+        // given
+        final ExponentialBackoff backoff = new ExponentialBackoff(
+                Duration.ofMinutes(1), Duration.ofMinutes(10), new Random(42));
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(backoff.delayFor(attempt))
+                    .isBetween(Duration.ofSeconds(minSeconds), Duration.ofSeconds(maxSeconds));
+        }
+    }
+
+    @Test
+    @DisplayName("큰 시도 횟수에서도 오버플로 없이 최대 대기 시간을 넘지 않는다")
+    void delayFor_largeAttempt() {
+        // given
+        final ExponentialBackoff backoff = new ExponentialBackoff(
+                Duration.ofSeconds(1), Duration.ofHours(1), new Random(42));
+
+        // when & then
+        assertThat(backoff.delayFor(Integer.MAX_VALUE)).isBetween(Duration.ofMinutes(30), Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 대기 시간 순서를 만든다")
+    void delayFor_deterministicWithSeed() {
+        // given
+        final ExponentialBackoff first = new ExponentialBackoff(Duration.ofMinutes(1), Duration.ofHours(1), new Random(7));
+        final ExponentialBackoff second = new ExponentialBackoff(Duration.ofMinutes(1), Duration.ofHours(1), new Random(7));
+
+        // when & then
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThat(first.delayFor(attempt)).isEqualTo(second.delayFor(attempt));
+        }
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 기본 대기 시간보다 짧으면 예외를 던진다")
+    void throwExceptionWhenMaxDelayShorterThanBase() {
+        // when & then
+        assertThatThrownBy(() -> new ExponentialBackoff(Duration.ofMinutes(10), Duration.ofMinutes(1), new Random()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
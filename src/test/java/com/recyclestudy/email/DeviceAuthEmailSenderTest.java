@@ -1,5 +1,6 @@
 package com.recyclestudy.email;
 
+import com.recyclestudy.email.template.MailTemplateRenderer;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,8 +11,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,13 +25,13 @@ class DeviceAuthEmailSenderTest {
     private EmailSender emailSender;
 
     @Mock
-    private TemplateEngine templateEngine;
+    private MailTemplateRenderer mailTemplateRenderer;
 
     private DeviceAuthEmailSender deviceAuthEmailSender;
 
     @BeforeEach
     void setUp() {
-        deviceAuthEmailSender = new DeviceAuthEmailSender(emailSender, templateEngine);
+        deviceAuthEmailSender = new DeviceAuthEmailSender(emailSender, mailTemplateRenderer);
         ReflectionTestUtils.setField(deviceAuthEmailSender, "baseUrl", "https://example.com");
     }
 
@@ -44,7 +43,7 @@ class DeviceAuthEmailSenderTest {
         final DeviceIdentifier deviceIdentifier = DeviceIdentifier.from("device-123");
         final String expectedHtml = "<html>인증 링크</html>";
 
-        given(templateEngine.process(eq("auth_email"), any(Context.class))).willReturn(expectedHtml);
+        given(mailTemplateRenderer.renderAuthEmail(any())).willReturn(expectedHtml);
 
         // when
         deviceAuthEmailSender.sendDeviceAuthMail(email, deviceIdentifier);
@@ -63,18 +62,17 @@ class DeviceAuthEmailSenderTest {
         // given
         final Email email = Email.from("test@test.com");
         final DeviceIdentifier deviceIdentifier = DeviceIdentifier.from("device-123");
-        final ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.forClass(Context.class);
+        final ArgumentCaptor<String> authUrlCaptor = ArgumentCaptor.forClass(String.class);
 
-        given(templateEngine.process(eq("auth_email"), any(Context.class))).willReturn("<html></html>");
+        given(mailTemplateRenderer.renderAuthEmail(any())).willReturn("<html></html>");
 
         // when
         deviceAuthEmailSender.sendDeviceAuthMail(email, deviceIdentifier);
 
         // then
-        verify(templateEngine).process(eq("auth_email"), contextCaptor.capture());
+        verify(mailTemplateRenderer).renderAuthEmail(authUrlCaptor.capture());
 
-        final Context capturedContext = contextCaptor.getValue();
-        final String authUrl = (String) capturedContext.getVariable("authUrl");
+        final String authUrl = authUrlCaptor.getValue();
 
         assertThat(authUrl)
                 .isEqualTo("https://example.com/api/v1/device/auth?email=test@test.com&identifier=device-123");
@@ -0,0 +1,72 @@
+package com.recyclestudy.email;
+
+import com.recyclestudy.exception.EmailSendException;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.service.DeviceAuthMailOutboxService;
+import com.recyclestudy.member.service.output.DeviceAuthMailOutboxOutput;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceAuthMailRelayTest {
+
+    @Mock
+    DeviceAuthMailOutboxService deviceAuthMailOutboxService;
+
+    @Mock
+    DeviceAuthEmailSender deviceAuthEmailSender;
+
+    @Spy
+    MailDispatcher mailDispatcher = new MailDispatcher(2, 0, true);
+
+    @InjectMocks
+    DeviceAuthMailRelay deviceAuthMailRelay;
+
+    @Test
+    @DisplayName("아웃박스에 쌓인 인증 메일을 발송하고 결과를 반영한다")
+    void relay() {
+        // given
+        final DeviceAuthMailOutboxOutput success = new DeviceAuthMailOutboxOutput(
+                1L, Email.from("user1@test.com"), DeviceIdentifier.from("device-1"));
+        final DeviceAuthMailOutboxOutput failure = new DeviceAuthMailOutboxOutput(
+                2L, Email.from("user2@test.com"), DeviceIdentifier.from("device-2"));
+
+        given(deviceAuthMailOutboxService.claimDue()).willReturn(List.of(success, failure), List.of());
+        willThrow(new EmailSendException("메일 전송 중 오류가 발생했습니다.", new RuntimeException()))
+                .given(deviceAuthEmailSender).sendDeviceAuthMail(failure.email(), failure.identifier());
+
+        // when
+        deviceAuthMailRelay.relay();
+
+        // then
+        verify(deviceAuthEmailSender).sendDeviceAuthMail(success.email(), success.identifier());
+        verify(deviceAuthMailOutboxService).complete(List.of(1L), List.of(2L));
+    }
+
+    @Test
+    @DisplayName("발송할 아웃박스가 없으면 아무것도 하지 않는다")
+    void relay_empty() {
+        // given
+        given(deviceAuthMailOutboxService.claimDue()).willReturn(List.of());
+
+        // when
+        deviceAuthMailRelay.relay();
+
+        // then
+        verify(deviceAuthEmailSender, never()).sendDeviceAuthMail(any(), any());
+        verify(deviceAuthMailOutboxService, never()).complete(any(), any());
+    }
+}
@@ -4,14 +4,19 @@ import com.recyclestudy.exception.EmailSendException;
 import com.recyclestudy.member.domain.Email;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -65,4 +70,63 @@ class EmailSenderTest {
                 .isInstanceOf(EmailSendException.class)
                 .hasMessage("메일 전송 중 오류가 발생했습니다.");
     }
+
+    @Test
+    @DisplayName("여러 메일을 한 번의 발송 요청으로 보내고 대상별 성공 결과를 반환한다")
+    void sendAll_success() {
+        // given
+        final OutgoingMail mail1 = OutgoingMail.of(Email.from("user1@test.com"), "제목", "<html>1</html>");
+        final OutgoingMail mail2 = OutgoingMail.of(Email.from("user2@test.com"), "제목", "<html>2</html>");
+        final MimeMessage mimeMessage1 = mock(MimeMessage.class);
+        final MimeMessage mimeMessage2 = mock(MimeMessage.class);
+
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage1, mimeMessage2);
+
+        // when
+        final List<MailSendResult> results = emailSender.sendAll(List.of(mail1, mail2));
+
+        // then
+        verify(javaMailSender).send(mimeMessage1, mimeMessage2);
+        assertThat(results).containsExactly(MailSendResult.success(mail1), MailSendResult.success(mail2));
+    }
+
+    @Test
+    @DisplayName("일괄 발송 중 일부 메일만 실패하면 해당 메일만 실패로 반환한다")
+    void sendAll_partialFailure() {
+        // given
+        final OutgoingMail mail1 = OutgoingMail.of(Email.from("user1@test.com"), "제목", "<html>1</html>");
+        final OutgoingMail mail2 = OutgoingMail.of(Email.from("user2@test.com"), "제목", "<html>2</html>");
+        final MimeMessage mimeMessage1 = mock(MimeMessage.class);
+        final MimeMessage mimeMessage2 = mock(MimeMessage.class);
+
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage1, mimeMessage2);
+        willThrow(new MailSendException(Map.<Object, Exception>of(mimeMessage2, new MessagingException("수신 거부"))))
+                .given(javaMailSender).send(mimeMessage1, mimeMessage2);
+
+        // when
+        final List<MailSendResult> results = emailSender.sendAll(List.of(mail1, mail2));
+
+        // then
+        assertThat(results).containsExactly(MailSendResult.success(mail1), MailSendResult.failure(mail2));
+    }
+
+    @Test
+    @DisplayName("일괄 발송 자체가 실패하면 모든 메일을 실패로 반환한다")
+    void sendAll_connectionFailure() {
+        // given
+        final OutgoingMail mail1 = OutgoingMail.of(Email.from("user1@test.com"), "제목", "<html>1</html>");
+        final OutgoingMail mail2 = OutgoingMail.of(Email.from("user2@test.com"), "제목", "<html>2</html>");
+        final MimeMessage mimeMessage1 = mock(MimeMessage.class);
+        final MimeMessage mimeMessage2 = mock(MimeMessage.class);
+
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage1, mimeMessage2);
+        willThrow(new MailAuthenticationException("인증 실패"))
+                .given(javaMailSender).send(mimeMessage1, mimeMessage2);
+
+        // when
+        final List<MailSendResult> results = emailSender.sendAll(List.of(mail1, mail2));
+
+        // then
+        assertThat(results).containsExactly(MailSendResult.failure(mail1), MailSendResult.failure(mail2));
+    }
 }
@@ -0,0 +1,114 @@
+package com.recyclestudy.email;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MailDispatcherTest {
+
+    @Test
+    @DisplayName("발송 결과에 따라 성공과 실패 대상을 나누어 반환한다")
+    void dispatch_partitionsResult() {
+        // given
+        final MailDispatcher mailDispatcher = new MailDispatcher(4, 0, true);
+        final List<Integer> targets = IntStream.rangeClosed(1, 10).boxed().toList();
+
+        // when
+        final MailDispatchResult<Integer> result = mailDispatcher.dispatch(targets, target -> target % 2 == 0);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.successCount()).isEqualTo(5);
+            softAssertions.assertThat(result.failCount()).isEqualTo(5);
+            softAssertions.assertThat(result.succeeded()).containsExactlyInAnyOrder(2, 4, 6, 8, 10);
+            softAssertions.assertThat(result.failed()).containsExactlyInAnyOrder(1, 3, 5, 7, 9);
+        });
+    }
+
+    @Test
+    @DisplayName("발송 작업에서 예외가 발생하면 실패로 집계한다")
+    void dispatch_exceptionCountsAsFailure() {
+        // given
+        final MailDispatcher mailDispatcher = new MailDispatcher(2, 0, false);
+        final List<Integer> targets = List.of(1, 2, 3);
+
+        // when
+        final MailDispatchResult<Integer> result = mailDispatcher.dispatch(targets, target -> {
+            if (target == 2) {
+                throw new IllegalStateException("SMTP 오류");
+            }
+            return true;
+        });
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.succeeded()).containsExactlyInAnyOrder(1, 3);
+            softAssertions.assertThat(result.failed()).containsExactly(2);
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 발송 작업 수는 설정한 동시성을 넘지 않는다")
+    void dispatch_boundedConcurrency() {
+        // given
+        final int concurrency = 3;
+        final MailDispatcher mailDispatcher = new MailDispatcher(concurrency, 0, true);
+        final List<Integer> targets = IntStream.range(0, 30).boxed().toList();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        // when
+        final MailDispatchResult<Integer> result = mailDispatcher.dispatch(targets, target -> {
+            final int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            try {
+                latch.await(5, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return true;
+        });
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.successCount()).isEqualTo(30);
+            softAssertions.assertThat(maxRunning.get()).isLessThanOrEqualTo(concurrency);
+        });
+    }
+
+    @Test
+    @DisplayName("초당 발송 수 제한에 맞추어 발송 간격을 둔다")
+    void dispatch_rateLimited() {
+        // given
+        final MailDispatcher mailDispatcher = new MailDispatcher(4, 20, true);
+        final List<Integer> targets = IntStream.range(0, 5).boxed().toList();
+        final long startedAt = System.nanoTime();
+
+        // when
+        mailDispatcher.dispatch(targets, target -> true);
+
+        // then
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("동시성이 1보다 작으면 예외를 던진다")
+    void throwExceptionWhenInvalidConcurrency() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> new MailDispatcher(0, 10, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,30 +1,38 @@
 package com.recyclestudy.email;
 
+import com.recyclestudy.email.template.MailTemplateRenderer;
 import com.recyclestudy.member.domain.Email;
-import com.recyclestudy.review.domain.NotificationStatus;
 import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetryClaim;
 import com.recyclestudy.review.service.NotificationHistoryService;
+import com.recyclestudy.review.service.NotificationRetryService;
 import com.recyclestudy.review.service.ReviewCycleService;
-import com.recyclestudy.review.service.output.ReviewSendOutput;
+import com.recyclestudy.review.service.ReviewDispatchWatermarkService;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import com.recyclestudy.review.service.input.ReviewSendChunkInput;
+import com.recyclestudy.review.service.output.NotificationRetryOutput;
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
 import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
-import java.time.Clock;
-import java.time.Instant;
-import java.time.ZoneId;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
@@ -34,11 +42,14 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class ReviewEmailSenderTest {
 
+    private static final ReviewDispatchRangeOutput RANGE = ReviewDispatchRangeOutput.of(
+            LocalDateTime.of(2025, 1, 1, 7, 59), LocalDateTime.of(2025, 1, 1, 8, 0));
+
     @Mock
     EmailSender emailSender;
 
     @Mock
-    TemplateEngine templateEngine;
+    MailTemplateRenderer mailTemplateRenderer;
 
     @Mock
     ReviewCycleService reviewCycleService;
@@ -46,16 +57,44 @@ class ReviewEmailSenderTest {
     @Mock
     NotificationHistoryService notificationHistoryService;
 
+    @Mock
+    NotificationRetryService notificationRetryService;
+
+    @Mock
+    ReviewDispatchWatermarkService reviewDispatchWatermarkService;
+
     @Spy
-    Clock clock = Clock.fixed(Instant.parse("2025-01-01T08:00:00Z"), ZoneId.of("UTC"));
+    MailDispatcher mailDispatcher = new MailDispatcher(2, 0, true);
 
     @InjectMocks
     ReviewEmailSender reviewEmailSender;
 
+    @Captor
+    ArgumentCaptor<List<OutgoingMail>> mailsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewEmailSender, "chunkSize", 2);
+        ReflectionTestUtils.setField(reviewEmailSender, "batchSize", 50);
+    }
+
+    private void givenClaimedRange() {
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.of(RANGE));
+        given(reviewDispatchWatermarkService.renew()).willReturn(true);
+    }
+
+    private void givenSendAllSucceeds() {
+        given(emailSender.sendAll(anyList())).willAnswer(invocation -> {
+            final List<OutgoingMail> mails = invocation.getArgument(0);
+            return mails.stream().map(MailSendResult::success).toList();
+        });
+    }
+
     @Test
     @DisplayName("복습 대상자에게 메일을 발송한다")
     void sendReviewMail_success() {
         // given
+        givenClaimedRange();
         final Email targetEmail = Email.from("user@test.com");
         final List<Long> reviewCycleIds = List.of(1L, 2L);
         final List<ReviewURL> targetUrls = List.of(
@@ -63,26 +102,28 @@ class ReviewEmailSenderTest {
                 ReviewURL.from("https://example.com/article2")
         );
         final ReviewSendElement element = ReviewSendElement.of(targetEmail, reviewCycleIds, targetUrls);
-        final ReviewSendOutput output = new ReviewSendOutput(List.of(element));
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element), 1L, false);
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
-        given(templateEngine.process(eq("review_email"), any(Context.class))).willReturn("<html>복습 목록</html>");
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html>복습 목록</html>");
+        givenSendAllSucceeds();
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(emailSender).send(
-                eq(targetEmail),
-                eq("[Recycle Study] 오늘의 복습 목록이 도착했습니다"),
-                eq("<html>복습 목록</html>")
-        );
+        verify(emailSender).sendAll(List.of(OutgoingMail.of(
+                targetEmail,
+                "[Recycle Study] 오늘의 복습 목록이 도착했습니다",
+                "<html>복습 목록</html>"
+        )));
     }
 
     @Test
     @DisplayName("여러 대상자에게 각각 메일을 발송한다")
     void sendReviewMail_multipleRecipients() {
         // given
+        givenClaimedRange();
         final ReviewSendElement element1 = ReviewSendElement.of(
                 Email.from("user1@test.com"),
                 List.of(1L),
@@ -93,59 +134,161 @@ class ReviewEmailSenderTest {
                 List.of(2L),
                 List.of(ReviewURL.from("https://example.com/2"))
         );
-        final ReviewSendOutput output = new ReviewSendOutput(List.of(element1, element2));
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element1, element2), 1L, false);
+
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
-        given(templateEngine.process(eq("review_email"), any(Context.class))).willReturn("<html></html>");
+        givenSendAllSucceeds();
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(emailSender, times(2)).send(any(Email.class), any(), any());
-        verify(emailSender).send(eq(Email.from("user1@test.com")), any(), any());
-        verify(emailSender).send(eq(Email.from("user2@test.com")), any(), any());
+        verify(emailSender).sendAll(mailsCaptor.capture());
+        assertThat(mailsCaptor.getValue())
+                .extracting(OutgoingMail::targetEmail)
+                .containsExactly(Email.from("user1@test.com"), Email.from("user2@test.com"));
     }
 
     @Test
     @DisplayName("복습 대상이 없으면 메일을 발송하지 않는다")
     void sendReviewMail_noRecipients() {
         // given
-        final ReviewSendOutput output = new ReviewSendOutput(List.of());
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.of(RANGE));
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.empty();
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(emailSender, never()).send(any(Email.class), any(), any());
+        verify(emailSender, never()).sendAll(anyList());
+        verify(notificationHistoryService, never()).saveAll(any(NotificationResultInput.class));
+    }
+
+    @Test
+    @DisplayName("점유한 발송 구간에 예약된 복습 사이클을 조회하고 발송 기준 시각을 갱신한다")
+    void sendReviewMail_claimedRange() {
+        // given
+        final ReviewDispatchRangeOutput range = ReviewDispatchRangeOutput.of(
+                LocalDateTime.of(2025, 1, 1, 9, 10), LocalDateTime.of(2025, 1, 1, 9, 17, 42));
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.of(range));
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(ReviewSendChunkOutput.empty());
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(reviewCycleService).findTargetReviewCycleChunk(ReviewSendChunkInput.first(range, 2));
+        verify(reviewDispatchWatermarkService).complete();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발송 구간을 점유 중이면 조회하거나 발송하지 않는다")
+    void sendReviewMail_claimedByOther() {
+        // given
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.empty());
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(reviewCycleService, never()).findTargetReviewCycleChunk(any());
+        verify(emailSender, never()).sendAll(anyList());
+        verify(reviewDispatchWatermarkService, never()).complete();
+    }
+
+    @Test
+    @DisplayName("발송 중 점유를 잃으면 남은 청크를 발송하지 않고 기준 시각을 갱신하지 않는다")
+    void sendReviewMail_leaseLost() {
+        // given
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.of(RANGE));
+        given(reviewDispatchWatermarkService.renew()).willReturn(false);
+        final ReviewSendElement element = ReviewSendElement.of(
+                Email.from("user@test.com"),
+                List.of(1L),
+                List.of(ReviewURL.from("https://example.com/1"))
+        );
+        given(reviewCycleService.findTargetReviewCycleChunk(any()))
+                .willReturn(ReviewSendChunkOutput.of(List.of(element), 10L, true));
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(reviewCycleService, times(1)).findTargetReviewCycleChunk(any());
+        verify(reviewDispatchWatermarkService, never()).complete();
+    }
+
+    @Test
+    @DisplayName("발송 중 예외가 발생하면 기준 시각을 갱신하지 않고 점유를 해제한다")
+    void sendReviewMail_failure_releasesClaim() {
+        // given
+        given(reviewDispatchWatermarkService.claim()).willReturn(Optional.of(RANGE));
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(reviewDispatchWatermarkService, never()).complete();
+        verify(reviewDispatchWatermarkService).release();
+    }
+
+    @Test
+    @DisplayName("이미 발송 기록이 있어 비어 있는 청크는 건너뛰고 다음 청크를 발송한다")
+    void sendReviewMail_skipAlreadyNotifiedChunk() {
+        // given
+        givenClaimedRange();
+        final ReviewSendElement element = ReviewSendElement.of(
+                Email.from("user@test.com"),
+                List.of(3L),
+                List.of(ReviewURL.from("https://example.com/3"))
+        );
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(
+                ReviewSendChunkOutput.of(List.of(), 10L, true),
+                ReviewSendChunkOutput.of(List.of(element), 20L, false)
+        );
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(emailSender, times(1)).sendAll(anyList());
+        verify(reviewCycleService).findTargetReviewCycleChunk(ReviewSendChunkInput.first(RANGE, 2).next(10L));
     }
 
     @Test
     @DisplayName("템플릿에 복습 URL 목록이 전달된다")
     void sendReviewMail_templateReceivesUrls() {
         // given
+        givenClaimedRange();
         final List<Long> reviewCycleIds = List.of(1L, 2L);
         final List<ReviewURL> targetUrls = List.of(
                 ReviewURL.from("https://example.com/article1"),
                 ReviewURL.from("https://example.com/article2")
         );
         final ReviewSendElement element = ReviewSendElement.of(Email.from("user@test.com"), reviewCycleIds, targetUrls);
-        final ReviewSendOutput output = new ReviewSendOutput(List.of(element));
-        final ArgumentCaptor<Context> contextCaptor = ArgumentCaptor.forClass(Context.class);
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element), 1L, false);
+        final ArgumentCaptor<List<ReviewURL>> urlsCaptor = ArgumentCaptor.forClass(List.class);
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
-        given(templateEngine.process(eq("review_email"), any(Context.class))).willReturn("<html></html>");
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(templateEngine).process(eq("review_email"), contextCaptor.capture());
+        verify(mailTemplateRenderer).renderReviewEmail(urlsCaptor.capture());
 
-        final Context capturedContext = contextCaptor.getValue();
-        final List<ReviewURL> capturedUrls = (List<ReviewURL>) capturedContext.getVariable("targetUrls");
+        final List<ReviewURL> capturedUrls = urlsCaptor.getValue();
 
         assertSoftly(softAssertions -> {
             softAssertions.assertThat(capturedUrls).hasSize(2);
@@ -158,44 +301,193 @@ class ReviewEmailSenderTest {
     @DisplayName("메일 발송 성공 시 SENT 상태로 저장한다")
     void sendReviewMail_success_savesSentStatus() {
         // given
+        givenClaimedRange();
         final List<Long> reviewCycleIds = List.of(1L, 2L);
         final ReviewSendElement element = ReviewSendElement.of(
                 Email.from("user@test.com"),
                 reviewCycleIds,
                 List.of(ReviewURL.from("https://example.com/article"))
         );
-        final ReviewSendOutput output = new ReviewSendOutput(List.of(element));
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element), 1L, false);
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
-        given(templateEngine.process(eq("review_email"), any(Context.class))).willReturn("<html></html>");
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(notificationHistoryService).saveAll(reviewCycleIds, NotificationStatus.SENT);
+        verify(notificationHistoryService).saveAll(NotificationResultInput.of(reviewCycleIds, List.of()));
     }
 
     @Test
     @DisplayName("메일 발송 실패 시 FAILED 상태로 저장한다")
     void sendReviewMail_failure_savesFailedStatus() {
         // given
+        givenClaimedRange();
         final List<Long> reviewCycleIds = List.of(1L, 2L);
         final ReviewSendElement element = ReviewSendElement.of(
                 Email.from("user@test.com"),
                 reviewCycleIds,
                 List.of(ReviewURL.from("https://example.com/article"))
         );
-        final ReviewSendOutput output = new ReviewSendOutput(List.of(element));
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element), 1L, false);
+
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        given(emailSender.sendAll(anyList())).willAnswer(invocation -> {
+            final List<OutgoingMail> mails = invocation.getArgument(0);
+            return mails.stream().map(MailSendResult::failure).toList();
+        });
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(notificationHistoryService).saveAll(NotificationResultInput.of(List.of(), reviewCycleIds));
+    }
+
+    @Test
+    @DisplayName("배치 발송 자체가 실패하면 배치 전체를 FAILED 상태로 저장한다")
+    void sendReviewMail_batchException_savesFailedStatus() {
+        // given
+        givenClaimedRange();
+        final ReviewSendElement element1 = ReviewSendElement.of(
+                Email.from("user1@test.com"),
+                List.of(1L),
+                List.of(ReviewURL.from("https://example.com/1"))
+        );
+        final ReviewSendElement element2 = ReviewSendElement.of(
+                Email.from("user2@test.com"),
+                List.of(2L),
+                List.of(ReviewURL.from("https://example.com/2"))
+        );
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element1, element2), 1L, false);
 
-        given(reviewCycleService.findTargetReviewCycle(any())).willReturn(output);
-        given(templateEngine.process(eq("review_email"), any(Context.class))).willReturn("<html></html>");
-        willThrow(new RuntimeException("메일 발송 실패")).given(emailSender).send(any(), any(), any());
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        willThrow(new RuntimeException("메일 발송 실패")).given(emailSender).sendAll(anyList());
 
         // when
         reviewEmailSender.sendReviewMail();
 
         // then
-        verify(notificationHistoryService).saveAll(reviewCycleIds, NotificationStatus.FAILED);
+        verify(notificationHistoryService).saveAll(NotificationResultInput.of(List.of(), List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("배치 내 일부 메일만 실패하면 대상별로 SENT, FAILED 상태를 나누어 저장한다")
+    void sendReviewMail_partialFailure() {
+        // given
+        givenClaimedRange();
+        final ReviewSendElement element1 = ReviewSendElement.of(
+                Email.from("user1@test.com"),
+                List.of(1L),
+                List.of(ReviewURL.from("https://example.com/1"))
+        );
+        final ReviewSendElement element2 = ReviewSendElement.of(
+                Email.from("user2@test.com"),
+                List.of(2L),
+                List.of(ReviewURL.from("https://example.com/2"))
+        );
+        final ReviewSendChunkOutput output = ReviewSendChunkOutput.of(List.of(element1, element2), 1L, false);
+
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(output);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        given(emailSender.sendAll(anyList())).willAnswer(invocation -> {
+            final List<OutgoingMail> mails = invocation.getArgument(0);
+            return List.of(MailSendResult.success(mails.getFirst()), MailSendResult.failure(mails.get(1)));
+        });
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(notificationHistoryService).saveAll(NotificationResultInput.of(List.of(1L), List.of(2L)));
+    }
+
+    @Test
+    @DisplayName("다음 청크가 있으면 마지막 멤버 id 이후부터 이어서 조회하여 발송한다")
+    void sendReviewMail_multipleChunks() {
+        // given
+        givenClaimedRange();
+        final ReviewSendElement element1 = ReviewSendElement.of(
+                Email.from("user1@test.com"),
+                List.of(1L),
+                List.of(ReviewURL.from("https://example.com/1"))
+        );
+        final ReviewSendElement element2 = ReviewSendElement.of(
+                Email.from("user2@test.com"),
+                List.of(2L),
+                List.of(ReviewURL.from("https://example.com/2"))
+        );
+        final ReviewSendChunkOutput firstChunk = ReviewSendChunkOutput.of(List.of(element1), 10L, true);
+        final ReviewSendChunkOutput secondChunk = ReviewSendChunkOutput.of(List.of(element2), 20L, false);
+        final ArgumentCaptor<ReviewSendChunkInput> inputCaptor = ArgumentCaptor.forClass(ReviewSendChunkInput.class);
+
+        given(reviewCycleService.findTargetReviewCycleChunk(any())).willReturn(firstChunk, secondChunk);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
+
+        // when
+        reviewEmailSender.sendReviewMail();
+
+        // then
+        verify(reviewCycleService, times(2)).findTargetReviewCycleChunk(inputCaptor.capture());
+        verify(notificationHistoryService, times(2)).saveAll(any(NotificationResultInput.class));
+        verify(emailSender, times(2)).sendAll(mailsCaptor.capture());
+        assertThat(mailsCaptor.getAllValues())
+                .flatExtracting(mails -> mails.stream().map(OutgoingMail::targetEmail).toList())
+                .containsExactly(Email.from("user1@test.com"), Email.from("user2@test.com"));
+
+        final List<ReviewSendChunkInput> inputs = inputCaptor.getAllValues();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(inputs.getFirst().lastMemberId()).isZero();
+            softAssertions.assertThat(inputs.get(1).lastMemberId()).isEqualTo(10L);
+            softAssertions.assertThat(inputs).allMatch(input -> input.size() == 2);
+        });
+    }
+
+    @Test
+    @DisplayName("재시도 대상 메일을 다시 발송하고 결과를 반영한다")
+    void retryFailedReviewMail() {
+        // given
+        final ReviewSendElement element = ReviewSendElement.of(
+                Email.from("user@test.com"),
+                List.of(1L, 2L),
+                List.of(ReviewURL.from("https://example.com/1"), ReviewURL.from("https://example.com/2"))
+        );
+        final NotificationRetryOutput retry = NotificationRetryOutput.of(
+                List.of(
+                        NotificationRetryClaim.of(10L, LocalDateTime.of(2025, 1, 1, 8, 0), 1L, 0),
+                        NotificationRetryClaim.of(11L, LocalDateTime.of(2025, 1, 1, 8, 0), 2L, 0)
+                ),
+                List.of(element)
+        );
+
+        given(notificationRetryService.claimDueRetries()).willReturn(retry);
+        given(mailTemplateRenderer.renderReviewEmail(anyList())).willReturn("<html></html>");
+        givenSendAllSucceeds();
+
+        // when
+        reviewEmailSender.retryFailedReviewMail();
+
+        // then
+        verify(notificationRetryService).completeRetries(retry, NotificationResultInput.of(List.of(1L, 2L), List.of()));
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 없으면 메일을 발송하지 않는다")
+    void retryFailedReviewMail_empty() {
+        // given
+        given(notificationRetryService.claimDueRetries()).willReturn(NotificationRetryOutput.empty());
+
+        // when
+        reviewEmailSender.retryFailedReviewMail();
+
+        // then
+        verify(emailSender, never()).sendAll(anyList());
+        verify(notificationRetryService, never()).completeRetries(any(), any());
     }
 }
@@ -0,0 +1,146 @@
+package com.recyclestudy.email;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.service.DispatchShardLeaseService;
+import com.recyclestudy.review.service.ReviewCycleService;
+import com.recyclestudy.review.service.input.ReviewShardChunkInput;
+import com.recyclestudy.review.service.output.DispatchShardOutput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
+import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedReviewDispatcherTest {
+
+    private static final LocalDateTime DISPATCHED_UNTIL = LocalDateTime.of(2025, 1, 1, 7, 59);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Mock
+    DispatchShardLeaseService dispatchShardLeaseService;
+
+    @Mock
+    ReviewCycleService reviewCycleService;
+
+    @Mock
+    ReviewEmailSender reviewEmailSender;
+
+    @InjectMocks
+    ShardedReviewDispatcher shardedReviewDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(shardedReviewDispatcher, "chunkSize", 1);
+    }
+
+    @Test
+    @DisplayName("점유한 샤드의 대상만 청크 단위로 발송하고 커서를 저장한 뒤 완료 처리한다")
+    void dispatch() {
+        // given
+        final DispatchShardOutput shard = DispatchShardOutput.of(0, 2, DISPATCHED_UNTIL, NOW, 0L);
+        final ReviewSendElement element = new ReviewSendElement(
+                Email.from("user@test.com"), List.of(1L), List.of(ReviewURL.from("https://example.com")));
+        final ReviewSendChunkOutput chunk = ReviewSendChunkOutput.of(List.of(element), 2L, true);
+
+        given(dispatchShardLeaseService.shardCount()).willReturn(2);
+        given(dispatchShardLeaseService.acquire(0)).willReturn(Optional.of(shard));
+        given(dispatchShardLeaseService.acquire(1)).willReturn(Optional.empty());
+        given(reviewCycleService.findTargetReviewCycleShardChunk(any(ReviewShardChunkInput.class)))
+                .willReturn(chunk, ReviewSendChunkOutput.empty());
+        given(reviewEmailSender.sendChunk(chunk)).willReturn(MailDispatchResult.of(List.of(element), List.of()));
+        given(dispatchShardLeaseService.checkpoint(0, 2L)).willReturn(true);
+
+        // when
+        shardedReviewDispatcher.dispatch();
+
+        // then
+        verify(dispatchShardLeaseService).ensureShards();
+        verify(reviewCycleService).findTargetReviewCycleShardChunk(new ReviewShardChunkInput(
+                DISPATCHED_UNTIL, NOW, 2, 0, 0L, 1));
+        verify(reviewCycleService).findTargetReviewCycleShardChunk(new ReviewShardChunkInput(
+                DISPATCHED_UNTIL, NOW, 2, 0, 2L, 1));
+        verify(dispatchShardLeaseService).complete(0);
+        verify(dispatchShardLeaseService, never()).complete(1);
+    }
+
+    @Test
+    @DisplayName("이미 발송 기록이 있어 비어 있는 청크는 발송 없이 커서만 저장하고 다음 청크로 진행한다")
+    void dispatch_skipAlreadyNotifiedChunk() {
+        // given
+        final DispatchShardOutput shard = DispatchShardOutput.of(0, 1, DISPATCHED_UNTIL, NOW, 0L);
+        final ReviewSendChunkOutput notifiedChunk = ReviewSendChunkOutput.of(List.of(), 2L, true);
+
+        given(dispatchShardLeaseService.shardCount()).willReturn(1);
+        given(dispatchShardLeaseService.acquire(0)).willReturn(Optional.of(shard));
+        given(reviewCycleService.findTargetReviewCycleShardChunk(any(ReviewShardChunkInput.class)))
+                .willReturn(notifiedChunk, ReviewSendChunkOutput.empty());
+        given(dispatchShardLeaseService.checkpoint(0, 2L)).willReturn(true);
+
+        // when
+        shardedReviewDispatcher.dispatch();
+
+        // then
+        verify(reviewEmailSender, never()).sendChunk(any());
+        verify(reviewCycleService).findTargetReviewCycleShardChunk(new ReviewShardChunkInput(
+                DISPATCHED_UNTIL, NOW, 1, 0, 2L, 1));
+        verify(dispatchShardLeaseService).complete(0);
+    }
+
+    @Test
+    @DisplayName("발송 도중 점유를 잃으면 완료 처리하지 않고 중단한다")
+    void dispatch_leaseLost() {
+        // given
+        final DispatchShardOutput shard = DispatchShardOutput.of(0, 1, DISPATCHED_UNTIL, NOW, 0L);
+        final ReviewSendElement element = new ReviewSendElement(
+                Email.from("user@test.com"), List.of(1L), List.of(ReviewURL.from("https://example.com")));
+        final ReviewSendChunkOutput chunk = ReviewSendChunkOutput.of(List.of(element), 2L, true);
+
+        given(dispatchShardLeaseService.shardCount()).willReturn(1);
+        given(dispatchShardLeaseService.acquire(0)).willReturn(Optional.of(shard));
+        given(reviewCycleService.findTargetReviewCycleShardChunk(any(ReviewShardChunkInput.class)))
+                .willReturn(chunk);
+        given(reviewEmailSender.sendChunk(chunk)).willReturn(MailDispatchResult.of(List.of(element), List.of()));
+        given(dispatchShardLeaseService.checkpoint(0, 2L)).willReturn(false);
+
+        // when
+        shardedReviewDispatcher.dispatch();
+
+        // then
+        verify(dispatchShardLeaseService, never()).complete(anyInt());
+    }
+
+    @Test
+    @DisplayName("발송 중 예외가 발생하면 샤드 점유를 해제한다")
+    void dispatch_release() {
+        // given
+        final DispatchShardOutput shard = DispatchShardOutput.of(0, 1, DISPATCHED_UNTIL, NOW, 0L);
+
+        given(dispatchShardLeaseService.shardCount()).willReturn(1);
+        given(dispatchShardLeaseService.acquire(0)).willReturn(Optional.of(shard));
+        given(reviewCycleService.findTargetReviewCycleShardChunk(any(ReviewShardChunkInput.class)))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        shardedReviewDispatcher.dispatch();
+
+        // then
+        verify(dispatchShardLeaseService).release(0);
+        verify(dispatchShardLeaseService, never()).complete(anyInt());
+    }
+}
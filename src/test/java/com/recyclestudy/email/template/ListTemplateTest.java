@@ -0,0 +1,48 @@
+package com.recyclestudy.email.template;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListTemplateTest {
+
+    private static final ListTemplate TEMPLATE = ListTemplate.of(
+            "<ul>",
+            SlotTemplate.parse("<li><a href=\"SLOT\">SLOT</a></li>", "SLOT"),
+            "\n",
+            "</ul>"
+    );
+    private static final List<String> VALUES = List.of("https://a.com", "https://b.com/long-path", "x");
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    @DisplayName("미리 계산한 길이는 렌더링 결과의 길이와 같다")
+    void renderedLength(final int count) {
+        // given
+        final List<String> values = VALUES.subList(0, count);
+        final StringBuilder out = new StringBuilder();
+
+        // when
+        TEMPLATE.writeTo(out, values);
+
+        // then
+        assertThat(TEMPLATE.renderedLength(values)).isEqualTo(out.length());
+    }
+
+    @Test
+    @DisplayName("값을 구분자로 이어 항목마다 슬롯에 채운다")
+    void writeTo() {
+        // given
+        final StringBuilder out = new StringBuilder();
+
+        // when
+        TEMPLATE.writeTo(out, List.of("a", "b"));
+
+        // then
+        assertThat(out.toString()).isEqualTo("<ul><li><a href=\"a\">a</a></li>\n<li><a href=\"b\">b</a></li></ul>");
+    }
+}
@@ -0,0 +1,92 @@
+package com.recyclestudy.email.template;
+
+import com.recyclestudy.review.domain.ReviewURL;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MailTemplateRendererTest {
+
+    private TemplateEngine templateEngine;
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    @BeforeEach
+    void setUp() {
+        final ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+    }
+
+    @Test
+    @DisplayName("사전 컴파일한 복습 메일은 템플릿 엔진과 같은 결과를 만든다")
+    void renderReviewEmail() {
+        // given
+        final List<ReviewURL> targetUrls = List.of(
+                ReviewURL.from("https://example.com/a?x=1&y=2"),
+                ReviewURL.from("https://example.com/<script>"),
+                ReviewURL.from("https://example.com/b")
+        );
+
+        // when
+        final String actual = mailTemplateRenderer.renderReviewEmail(targetUrls);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(mailTemplateRenderer.isPrecompiled()).isTrue();
+            softAssertions.assertThat(actual).isEqualTo(processReviewEmail(targetUrls));
+            softAssertions.assertThat(actual).contains("https://example.com/a?x=1&amp;y=2");
+            softAssertions.assertThat(actual).doesNotContain("<script>");
+        });
+    }
+
+    @Test
+    @DisplayName("복습 목록이 하나이거나 비어 있어도 템플릿 엔진과 같은 결과를 만든다")
+    void renderReviewEmail_smallList() {
+        // given
+        final List<ReviewURL> single = List.of(ReviewURL.from("https://example.com/only"));
+
+        // when
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(mailTemplateRenderer.renderReviewEmail(single))
+                    .isEqualTo(processReviewEmail(single));
+            softAssertions.assertThat(mailTemplateRenderer.renderReviewEmail(List.of()))
+                    .isEqualTo(processReviewEmail(List.of()));
+        });
+    }
+
+    @Test
+    @DisplayName("사전 컴파일한 인증 메일은 템플릿 엔진과 같은 결과를 만든다")
+    void renderAuthEmail() {
+        // given
+        final String authUrl = "https://example.com/api/v1/device/auth?email=test@test.com&identifier=device-123";
+        final Context context = new Context();
+        context.setVariable("authUrl", authUrl);
+
+        // when
+        final String actual = mailTemplateRenderer.renderAuthEmail(authUrl);
+
+        // then
+        assertThat(actual).isEqualTo(templateEngine.process("auth_email", context));
+    }
+
+    private String processReviewEmail(final List<ReviewURL> targetUrls) {
+        final Context context = new Context();
+        context.setVariable("targetUrls", targetUrls);
+        return templateEngine.process("review_email", context);
+    }
+}
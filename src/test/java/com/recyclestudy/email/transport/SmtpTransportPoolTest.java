@@ -0,0 +1,141 @@
+package com.recyclestudy.email.transport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SmtpTransportPoolTest {
+
+    @Test
+    @DisplayName("반납된 연결은 다음 대여 시 재사용된다")
+    void borrow_reusesReleasedTransport() throws MessagingException {
+        // given
+        final Transport transport = mock(Transport.class);
+        final SmtpTransportPool pool = createPool(() -> transport, 2, 100, Duration.ofMinutes(1));
+
+        // when
+        final PooledTransport first = pool.borrow();
+        pool.release(first, false);
+        final PooledTransport second = pool.borrow();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(second).isSameAs(first);
+            softAssertions.assertThat(pool.getCreatedCount()).isEqualTo(1L);
+            softAssertions.assertThat(pool.getActiveCount()).isEqualTo(1);
+        });
+        verify(transport, never()).isConnected();
+    }
+
+    @Test
+    @DisplayName("검증 주기가 지난 유휴 연결이 끊어져 있으면 새 연결을 생성한다")
+    void borrow_validatesIdleTransport() throws MessagingException {
+        // given
+        final Transport staleTransport = mock(Transport.class);
+        final Transport freshTransport = mock(Transport.class);
+        given(staleTransport.isConnected()).willReturn(false);
+
+        final Transport[] transports = {staleTransport, freshTransport};
+        final int[] index = {0};
+        final SmtpTransportPool pool = createPool(() -> transports[index[0]++], 2, 100, Duration.ZERO);
+
+        // when
+        final PooledTransport first = pool.borrow();
+        pool.release(first, false);
+        final PooledTransport second = pool.borrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(staleTransport).close();
+    }
+
+    @Test
+    @DisplayName("연결당 최대 발송 수에 도달한 연결은 반납 시 종료된다")
+    void release_recyclesExhaustedTransport() throws MessagingException {
+        // given
+        final Transport transport = mock(Transport.class);
+        final SmtpTransportPool pool = createPool(() -> transport, 1, 1, Duration.ofMinutes(1));
+        final MimeMessage mimeMessage = mock(MimeMessage.class);
+
+        // when
+        final PooledTransport pooledTransport = pool.borrow();
+        pooledTransport.send(mimeMessage);
+        pool.release(pooledTransport, false);
+
+        // then
+        assertThat(pool.getIdleCount()).isZero();
+        verify(transport).sendMessage(any(), any());
+        verify(transport).close();
+    }
+
+    @Test
+    @DisplayName("최대 연결 수를 모두 사용 중이면 대기 시간 초과 후 예외를 던진다")
+    void borrow_failsWhenExhausted() throws MessagingException {
+        // given
+        final SmtpTransportPool pool = new SmtpTransportPool(
+                () -> mock(Transport.class), 1, 100, Duration.ofMinutes(1), Duration.ofMillis(10));
+        pool.borrow();
+
+        // when
+        // then
+        assertThatThrownBy(pool::borrow)
+                .isInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    @DisplayName("연결 생성에 실패하면 대여 허용 수를 돌려준다")
+    void borrow_releasesPermitWhenConnectFails() {
+        // given
+        final SmtpTransportPool pool = createPool(() -> {
+            throw new MessagingException("연결 실패");
+        }, 1, 100, Duration.ofMinutes(1));
+
+        // when
+        // then
+        assertThatThrownBy(pool::borrow).isInstanceOf(MessagingException.class);
+        assertThatThrownBy(pool::borrow)
+                .isInstanceOf(MessagingException.class)
+                .hasMessage("연결 실패");
+    }
+
+    @Test
+    @DisplayName("풀 상태를 메트릭으로 노출한다")
+    void bindTo_registersMetrics() throws MessagingException {
+        // given
+        final SmtpTransportPool pool = createPool(() -> mock(Transport.class), 2, 100, Duration.ofMinutes(1));
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pool.bindTo(registry);
+
+        // when
+        pool.borrow();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(registry.get("mail.smtp.pool.active").gauge().value()).isEqualTo(1.0);
+            softAssertions.assertThat(registry.get("mail.smtp.pool.created").functionCounter().count()).isEqualTo(1.0);
+        });
+    }
+
+    private SmtpTransportPool createPool(
+            final TransportConnector connector,
+            final int maxSize,
+            final int maxMessagesPerConnection,
+            final Duration validationInterval
+    ) {
+        return new SmtpTransportPool(
+                connector, maxSize, maxMessagesPerConnection, validationInterval, Duration.ofSeconds(1));
+    }
+}
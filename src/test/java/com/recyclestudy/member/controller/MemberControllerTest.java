@@ -1,17 +1,22 @@
 package com.recyclestudy.member.controller;
 
-import com.recyclestudy.email.DeviceAuthEmailSender;
 import com.recyclestudy.exception.NotFoundException;
 import com.recyclestudy.exception.UnauthorizedException;
+import com.recyclestudy.member.controller.request.DeliveryPreferenceUpdateRequest;
 import com.recyclestudy.member.controller.request.MemberSaveRequest;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import com.recyclestudy.member.service.DeviceAuthCache;
 import com.recyclestudy.member.service.MemberService;
+import com.recyclestudy.member.service.output.DeliveryPreferenceUpdateOutput;
 import com.recyclestudy.member.service.output.MemberFindOutput;
 import com.recyclestudy.member.service.output.MemberSaveOutput;
 import com.recyclestudy.restdocs.APIBaseTest;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -26,7 +31,6 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
@@ -38,7 +42,7 @@ class MemberControllerTest extends APIBaseTest {
     private MemberService memberService;
 
     @MockitoBean
-    private DeviceAuthEmailSender deviceAuthEmailSender;
+    private DeviceAuthCache deviceAuthCache;
 
     @Test
     @DisplayName("이메일을 통해 새로운 디바이스를 저장한다")
@@ -75,8 +79,6 @@ class MemberControllerTest extends APIBaseTest {
                 .statusCode(HttpStatus.CREATED.value())
                 .body("email", equalTo(email))
                 .body("identifier", equalTo(identifier));
-
-        verify(deviceAuthEmailSender).sendDeviceAuthMail(Email.from(email), DeviceIdentifier.from(identifier));
     }
 
     @Test
@@ -470,4 +472,86 @@ class MemberControllerTest extends APIBaseTest {
                 .statusCode(HttpStatus.OK.value())
                 .body("devices", hasSize(2));
     }
+
+    @Test
+    @DisplayName("멤버의 메일 발송 선호 시각과 시간대를 변경한다")
+    void updateDeliveryPreference() {
+        // given
+        final String identifier = "device-id";
+        final DeliveryPreferenceUpdateRequest request
+                = new DeliveryPreferenceUpdateRequest("07:30", "America/New_York");
+        final DeviceAuthInfo device = new DeviceAuthInfo(1L, 1L, Email.from("test@test.com"), true);
+
+        given(deviceAuthCache.find(DeviceIdentifier.from(identifier))).willReturn(Optional.of(device));
+        given(memberService.updateDeliveryPreference(any()))
+                .willReturn(new DeliveryPreferenceUpdateOutput(LocalTime.of(7, 30), "America/New_York"));
+
+        // when
+        // then
+        given(this.spec)
+                .filter(document(DEFAULT_REST_DOC_PATH,
+                        builder()
+                                .tag("Member")
+                                .summary("메일 발송 선호 시각 변경")
+                                .description("멤버의 메일 발송 선호 시각과 시간대를 변경한다")
+                                .requestHeaders(
+                                        headerWithName("X-Device-Id").description("디바이스 식별자")
+                                )
+                                .requestFields(
+                                        fieldWithPath("deliveryTime").type(JsonFieldType.STRING).optional()
+                                                .description("발송 시각 (HH:mm), 비우면 기본 발송 시각을 사용"),
+                                        fieldWithPath("timeZone").type(JsonFieldType.STRING)
+                                                .description("시간대 (IANA)")
+                                )
+                                .responseFields(
+                                        fieldWithPath("deliveryTime").type(JsonFieldType.STRING).optional()
+                                                .description("발송 시각, 설정하지 않았으면 null"),
+                                        fieldWithPath("timeZone").type(JsonFieldType.STRING).description("시간대")
+                                )
+                ))
+                .header("X-Device-Id", identifier)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when()
+                .put("/api/v1/members/delivery-preference")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("deliveryTime", equalTo("07:30:00"))
+                .body("timeZone", equalTo("America/New_York"));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 시간대로 변경 요청 시 400 응답을 반환한다")
+    void updateDeliveryPreference_InvalidTimeZone() {
+        // given
+        final String identifier = "device-id";
+        final DeliveryPreferenceUpdateRequest request = new DeliveryPreferenceUpdateRequest("07:30", "Mars/Olympus");
+        final DeviceAuthInfo device = new DeviceAuthInfo(1L, 1L, Email.from("test@test.com"), true);
+
+        given(deviceAuthCache.find(DeviceIdentifier.from(identifier))).willReturn(Optional.of(device));
+
+        // when
+        // then
+        given(this.spec)
+                .filter(document(DEFAULT_REST_DOC_PATH,
+                        builder()
+                                .tag("Member")
+                                .summary("메일 발송 선호 시각 변경")
+                                .description("유효하지 않은 시간대로 변경 요청 시 400 응답을 반환한다")
+                                .requestHeaders(
+                                        headerWithName("X-Device-Id").description("디바이스 식별자")
+                                )
+                                .responseFields(
+                                        fieldWithPath("message").type(JsonFieldType.STRING).description("에러 메시지")
+                                )
+                ))
+                .header("X-Device-Id", identifier)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when()
+                .put("/api/v1/members/delivery-preference")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", equalTo("유효하지 않은 시간대입니다: Mars/Olympus"));
+    }
 }
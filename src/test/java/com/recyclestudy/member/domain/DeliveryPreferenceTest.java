@@ -0,0 +1,117 @@
+package com.recyclestudy.member.domain;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DeliveryPreferenceTest {
+
+    @Test
+    @DisplayName("기본 선호 설정은 발송 시각이 없고 서울 시간대를 사용한다")
+    void defaultPreference() {
+        // given
+        // when
+        final DeliveryPreference actual = DeliveryPreference.defaultPreference();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.getDeliveryTime()).isNull();
+            softAssertions.assertThat(actual.zoneId()).isEqualTo(ZoneId.of("Asia/Seoul"));
+            softAssertions.assertThat(actual.deliveryTimeOr(LocalTime.of(8, 15))).isEqualTo(LocalTime.of(8, 15));
+        });
+    }
+
+    @Test
+    @DisplayName("발송 시각은 분 단위로 절삭하여 저장한다")
+    void of_truncateSeconds() {
+        // given
+        final LocalTime deliveryTime = LocalTime.of(7, 30, 45);
+
+        // when
+        final DeliveryPreference actual = DeliveryPreference.of(deliveryTime, "America/New_York");
+
+        // then
+        assertThat(actual.deliveryTimeOr(LocalTime.of(8, 0))).isEqualTo(LocalTime.of(7, 30));
+    }
+
+    @Test
+    @DisplayName("발송 시각 없이 생성하면 기본 발송 시각을 사용한다")
+    void of_withoutDeliveryTime() {
+        // given
+        // when
+        final DeliveryPreference actual = DeliveryPreference.of(null, "America/New_York");
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.getDeliveryTime()).isNull();
+            softAssertions.assertThat(actual.zoneId()).isEqualTo(ZoneId.of("America/New_York"));
+            softAssertions.assertThat(actual.deliveryTimeOr(LocalTime.of(8, 15))).isEqualTo(LocalTime.of(8, 15));
+        });
+    }
+
+    @Test
+    @DisplayName("시간대 없이 생성 시 예외를 던진다")
+    void of_fail_nullTimeZone() {
+        // given
+        final LocalTime deliveryTime = LocalTime.of(7, 30);
+
+        // when
+        // then
+        assertThatThrownBy(() -> DeliveryPreference.of(deliveryTime, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("null이 될 수 없습니다: timeZone");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 시간대로 생성 시 예외를 던진다")
+    void of_fail_invalidTimeZone() {
+        // given
+        final LocalTime deliveryTime = LocalTime.of(7, 30);
+
+        // when
+        // then
+        assertThatThrownBy(() -> DeliveryPreference.of(deliveryTime, "Mars/Olympus"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 시간대입니다: Mars/Olympus");
+    }
+
+    @Test
+    @DisplayName("멤버 시간대의 시각을 UTC로 변환하고 다시 되돌릴 수 있다")
+    void toUtc_fromUtc() {
+        // given
+        final DeliveryPreference preference = DeliveryPreference.of(LocalTime.of(8, 0), "Asia/Seoul");
+        final LocalDateTime local = LocalDateTime.of(2025, 1, 2, 8, 0);
+
+        // when
+        final LocalDateTime utc = preference.toUtc(local);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(utc).isEqualTo(LocalDateTime.of(2025, 1, 1, 23, 0));
+            softAssertions.assertThat(preference.fromUtc(utc)).isEqualTo(local);
+        });
+    }
+
+    @Test
+    @DisplayName("오늘 날짜는 멤버 시간대를 기준으로 계산한다")
+    void today() {
+        // given
+        final Clock clock = Clock.fixed(Instant.parse("2025-01-01T20:00:00Z"), ZoneId.of("UTC"));
+        final DeliveryPreference preference = DeliveryPreference.of(LocalTime.of(8, 0), "Asia/Seoul");
+
+        // when
+        final LocalDate actual = preference.today(clock);
+
+        // then
+        assertThat(actual).isEqualTo(LocalDate.of(2025, 1, 2));
+    }
+}
@@ -0,0 +1,99 @@
+package com.recyclestudy.member.domain;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DeviceAuthMailOutboxTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("생성 시 즉시 발송 가능한 PENDING 상태가 된다")
+    void withoutId() {
+        // when
+        final DeviceAuthMailOutbox outbox = createOutbox();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            softAssertions.assertThat(outbox.getAttemptCount()).isZero();
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    @DisplayName("null로 생성 시도 시, 예외를 던진다")
+    void throwExceptionWhenNull() {
+        // when & then
+        assertThatThrownBy(() -> DeviceAuthMailOutbox.withoutId(null, DeviceIdentifier.from("device-id"), NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다음 시도 시각이 null이면 nextAttemptAt 필드 이름으로 예외를 던진다")
+    void throwExceptionWhenNextAttemptAtNull() {
+        // when & then
+        assertThatThrownBy(() -> DeviceAuthMailOutbox.withoutId(
+                Email.from("user@test.com"), DeviceIdentifier.from("device-id"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("null이 될 수 없습니다: nextAttemptAt");
+    }
+
+    @Test
+    @DisplayName("발송 성공 시 SENT 상태가 되고 다음 시도가 없어진다")
+    void markSent() {
+        // given
+        final DeviceAuthMailOutbox outbox = createOutbox();
+
+        // when
+        outbox.markSent();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+            softAssertions.assertThat(outbox.getAttemptCount()).isEqualTo(1);
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 다음 시도 시각이 있으면 PENDING 상태를 유지한다")
+    void markFailed_retryable() {
+        // given
+        final DeviceAuthMailOutbox outbox = createOutbox();
+
+        // when
+        outbox.markFailed(NOW.plusMinutes(1));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            softAssertions.assertThat(outbox.getAttemptCount()).isEqualTo(1);
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(1));
+        });
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 다음 시도 시각이 없으면 FAILED 상태가 된다")
+    void markFailed_exhausted() {
+        // given
+        final DeviceAuthMailOutbox outbox = createOutbox();
+
+        // when
+        outbox.markFailed(null);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isNull();
+        });
+    }
+
+    private DeviceAuthMailOutbox createOutbox() {
+        return DeviceAuthMailOutbox.withoutId(Email.from("test@test.com"), DeviceIdentifier.from("device-id"), NOW);
+    }
+}
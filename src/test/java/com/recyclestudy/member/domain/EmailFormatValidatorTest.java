@@ -0,0 +1,178 @@
+package com.recyclestudy.member.domain;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailFormatValidatorTest {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
+    );
+    private static final String LETTERS = "abcxyzABCXYZ";
+    private static final String LOCAL_PART_CHARS = "aZ09_+&*-";
+    private static final String DOMAIN_CHARS = "aZ09-";
+    private static final String ALPHABET = "aZ09_+&*-.@ é\n";
+    private static final String[] FRAGMENTS = {
+            "a", "Z", "9", "-", "_", "+", "&", "*", ".", "@", "..", ".@", "@.", "com", "co.kr", "commmmmm", " ", "\n", "é"
+    };
+    private static final int SAMPLE_COUNT = 100_000;
+    private static final long SEED = 20260301L;
+
+    @Test
+    @DisplayName("임의로 생성한 입력에 대해 기존 정규식과 같은 결과를 반환한다")
+    void matchesLegacyPattern() {
+        // given
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            final String input = randomInput(random);
+            final boolean expected = input.length() <= EmailFormatValidator.MAX_LENGTH
+                    && LEGACY_PATTERN.matcher(input).matches();
+
+            // when
+            final boolean actual = EmailFormatValidator.isValid(input);
+
+            // then
+            assertThat(actual).as("input: [%s]", input).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a@b.cd",
+            "first.last@sub.domain.co.kr",
+            "a+b&c*d-e_f@x-y.example.museum",
+            "1.2.3@4-5.ab"
+    })
+    @DisplayName("올바른 형식의 이메일은 통과한다")
+    void isValid(final String value) {
+        // given
+        // when
+        final boolean actual = EmailFormatValidator.isValid(value);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            ".a@b.cd",
+            "a.@b.cd",
+            "a..b@b.cd",
+            "a@@b.cd",
+            "a@b@c.cd",
+            "a@.b.cd",
+            "a@b..cd",
+            "a@b.cd.",
+            "a@cd",
+            "a@b.c1",
+            "a@b.cd\n"
+    })
+    @DisplayName("형식에 맞지 않는 이메일은 통과하지 못한다")
+    void isInvalid(final String value) {
+        // given
+        // when
+        final boolean actual = EmailFormatValidator.isValid(value);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 이메일은 통과하지 못한다")
+    void isInvalidWhenTooLong() {
+        // given
+        final String domain = "@example.com";
+        final String maxLength = "a".repeat(EmailFormatValidator.MAX_LENGTH - domain.length()) + domain;
+        final String tooLong = "a" + maxLength;
+
+        // when
+        // then
+        assertThat(EmailFormatValidator.isValid(maxLength)).isTrue();
+        assertThat(EmailFormatValidator.isValid(tooLong)).isFalse();
+    }
+
+    @Test
+    @DisplayName("역추적을 유발하는 긴 입력도 즉시 거부한다")
+    void rejectPathologicalInput() {
+        // given
+        final String input = "a.".repeat(EmailFormatValidator.MAX_LENGTH / 2) + "@" + "a-.".repeat(1_000) + "!";
+
+        // when
+        final boolean actual = EmailFormatValidator.isValid(input);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    private static String randomInput(final Random random) {
+        if (random.nextBoolean()) {
+            return mutate(random, emailShapedInput(random));
+        }
+        final StringBuilder builder = new StringBuilder();
+        final int pieces = random.nextInt(12);
+        for (int i = 0; i < pieces; i++) {
+            if (random.nextBoolean()) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                continue;
+            }
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        if (random.nextInt(20) == 0) {
+            builder.insert(0, "a".repeat(EmailFormatValidator.MAX_LENGTH - 10 + random.nextInt(20)));
+        }
+        return builder.toString();
+    }
+
+    private static String emailShapedInput(final Random random) {
+        final StringBuilder builder = new StringBuilder();
+        appendSegments(random, builder, LOCAL_PART_CHARS, 1 + random.nextInt(3));
+        builder.append('@');
+        appendSegments(random, builder, DOMAIN_CHARS, 1 + random.nextInt(3));
+        builder.append('.');
+        final int topLevelDomainLength = 1 + random.nextInt(8);
+        for (int i = 0; i < topLevelDomainLength; i++) {
+            builder.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return builder.toString();
+    }
+
+    private static void appendSegments(
+            final Random random,
+            final StringBuilder builder,
+            final String chars,
+            final int segmentCount
+    ) {
+        for (int segment = 0; segment < segmentCount; segment++) {
+            if (segment > 0) {
+                builder.append('.');
+            }
+            final int segmentLength = 1 + random.nextInt(5);
+            for (int i = 0; i < segmentLength; i++) {
+                builder.append(chars.charAt(random.nextInt(chars.length())));
+            }
+        }
+    }
+
+    private static String mutate(final Random random, final String input) {
+        if (random.nextBoolean()) {
+            return input;
+        }
+        final StringBuilder builder = new StringBuilder(input);
+        final int position = random.nextInt(builder.length());
+        final char replacement = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        switch (random.nextInt(3)) {
+            case 0 -> builder.setCharAt(position, replacement);
+            case 1 -> builder.insert(position, replacement);
+            default -> builder.deleteCharAt(position);
+        }
+        return builder.toString();
+    }
+}
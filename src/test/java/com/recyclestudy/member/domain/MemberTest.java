@@ -1,5 +1,6 @@
 package com.recyclestudy.member.domain;
 
+import java.time.LocalTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -58,4 +59,18 @@ class MemberTest {
         // then
         assertThat(actual).isFalse();
     }
+
+    @Test
+    @DisplayName("메일 발송 선호 설정을 변경할 수 있다")
+    void changeDeliveryPreference() {
+        // given
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final DeliveryPreference preference = DeliveryPreference.of(LocalTime.of(7, 30), "Europe/London");
+
+        // when
+        member.changeDeliveryPreference(preference);
+
+        // then
+        assertThat(member.getDeliveryPreference()).isEqualTo(preference);
+    }
 }
@@ -0,0 +1,129 @@
+package com.recyclestudy.member.repository;
+
+import com.recyclestudy.member.domain.ActivationExpiredDateTime;
+import com.recyclestudy.member.domain.DeliveryPreference;
+import com.recyclestudy.member.domain.Device;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.Member;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DataJpaTest
+@Import(MemberDeviceQueryRepository.class)
+class MemberDeviceQueryRepositoryTest {
+
+    @Autowired
+    MemberDeviceQueryRepository memberDeviceQueryRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    Email ownerEmail;
+    Email otherEmail;
+    Email emptyEmail;
+
+    @BeforeEach
+    void setUp() {
+        final ActivationExpiredDateTime expiredDateTime = ActivationExpiredDateTime.create(LocalDateTime.now());
+        ownerEmail = Email.from("owner@test.com");
+        otherEmail = Email.from("other@test.com");
+        emptyEmail = Email.from("empty@test.com");
+
+        final Member owner = entityManager.persist(Member.withoutId(ownerEmail));
+        final Member other = entityManager.persist(Member.withoutId(otherEmail));
+        entityManager.persist(Member.withoutId(emptyEmail));
+
+        entityManager.persist(Device.withoutId(owner, DeviceIdentifier.from("owner-1"), true, expiredDateTime));
+        entityManager.persist(Device.withoutId(owner, DeviceIdentifier.from("owner-2"), false, expiredDateTime));
+        entityManager.persist(Device.withoutId(other, DeviceIdentifier.from("other-1"), true, expiredDateTime));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("이메일의 디바이스와 요청 디바이스를 한 번에 조회한다")
+    void findByEmailOrIdentifier() {
+        // when
+        final List<MemberDeviceRow> rows = memberDeviceQueryRepository
+                .findByEmailOrIdentifier(ownerEmail, DeviceIdentifier.from("other-1"));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(rows).hasSize(3);
+            softAssertions.assertThat(rows.stream().filter(row -> row.isOwnedBy(ownerEmail)))
+                    .extracting(MemberDeviceRow::identifier)
+                    .containsExactlyInAnyOrder(DeviceIdentifier.from("owner-1"), DeviceIdentifier.from("owner-2"));
+            softAssertions.assertThat(rows.stream().filter(row -> row.isDevice(DeviceIdentifier.from("other-1"))))
+                    .singleElement()
+                    .satisfies(row -> {
+                        assertThat(row.email()).isEqualTo(otherEmail);
+                        assertThat(row.active()).isTrue();
+                    });
+        });
+    }
+
+    @Test
+    @DisplayName("디바이스가 없는 멤버도 빈 디바이스 행으로 조회한다")
+    void findByEmailOrIdentifier_memberWithoutDevice() {
+        // when
+        final List<MemberDeviceRow> rows = memberDeviceQueryRepository
+                .findByEmailOrIdentifier(emptyEmail, DeviceIdentifier.from("owner-1"));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(rows).hasSize(2);
+            softAssertions.assertThat(rows).anySatisfy(row -> {
+                assertThat(row.email()).isEqualTo(emptyEmail);
+                assertThat(row.hasDevice()).isFalse();
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 이메일과 디바이스는 아무것도 조회하지 않는다")
+    void findByEmailOrIdentifier_notExisted() {
+        // when
+        final List<MemberDeviceRow> rows = memberDeviceQueryRepository
+                .findByEmailOrIdentifier(Email.from("none@test.com"), DeviceIdentifier.from("none"));
+
+        // then
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UTC로 저장된 디바이스 생성 시각을 멤버의 시간대로 변환해 조회한다")
+    void findByEmailOrIdentifier_memberTimeZone() {
+        // given
+        final Email email = Email.from("zone@test.com");
+        final Member member = Member.withoutId(email);
+        member.changeDeliveryPreference(DeliveryPreference.of(null, "America/New_York"));
+        entityManager.persist(member);
+        final Device device = entityManager.persist(Device.withoutId(member, DeviceIdentifier.from("zone-1"), true,
+                ActivationExpiredDateTime.create(LocalDateTime.now())));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final List<MemberDeviceRow> rows = memberDeviceQueryRepository
+                .findByEmailOrIdentifier(email, DeviceIdentifier.from("zone-1"));
+
+        // then
+        assertThat(rows).extracting(MemberDeviceRow::createdAt)
+                .containsOnly(device.getCreatedAt().atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(ZoneId.of("America/New_York"))
+                        .toLocalDateTime());
+    }
+}
@@ -0,0 +1,118 @@
+package com.recyclestudy.member.service;
+
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import com.recyclestudy.member.repository.DeviceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceAuthCacheTest {
+
+    private static final DeviceIdentifier IDENTIFIER = DeviceIdentifier.from("device-id");
+    private static final DeviceAuthInfo AUTH_INFO
+            = new DeviceAuthInfo(1L, 10L, Email.from("test@test.com"), true);
+
+    @Mock
+    DeviceRepository deviceRepository;
+
+    DeviceAuthCache deviceAuthCache;
+
+    @BeforeEach
+    void setUp() {
+        deviceAuthCache = new DeviceAuthCache(deviceRepository, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("같은 디바이스를 반복 조회하면 저장소는 한 번만 조회한다")
+    void find_cached() {
+        // given
+        given(deviceRepository.findAuthInfoByIdentifier(IDENTIFIER)).willReturn(Optional.of(AUTH_INFO));
+
+        // when
+        final Optional<DeviceAuthInfo> first = deviceAuthCache.find(IDENTIFIER);
+        final Optional<DeviceAuthInfo> second = deviceAuthCache.find(IDENTIFIER);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(first).contains(AUTH_INFO);
+            softAssertions.assertThat(second).contains(AUTH_INFO);
+        });
+        verify(deviceRepository, times(1)).findAuthInfoByIdentifier(IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 디바이스는 캐시하지 않는다")
+    void find_notCachedWhenAbsent() {
+        // given
+        given(deviceRepository.findAuthInfoByIdentifier(IDENTIFIER)).willReturn(Optional.empty());
+
+        // when
+        deviceAuthCache.find(IDENTIFIER);
+        final Optional<DeviceAuthInfo> actual = deviceAuthCache.find(IDENTIFIER);
+
+        // then
+        assertThat(actual).isEmpty();
+        verify(deviceRepository, times(2)).findAuthInfoByIdentifier(IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 끝난 뒤에 캐시를 무효화한다")
+    void evictAfterCommit() {
+        // given
+        given(deviceRepository.findAuthInfoByIdentifier(IDENTIFIER)).willReturn(Optional.of(AUTH_INFO));
+        deviceAuthCache.find(IDENTIFIER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            deviceAuthCache.evictAfterCommit(IDENTIFIER);
+            deviceAuthCache.find(IDENTIFIER);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        deviceAuthCache.find(IDENTIFIER);
+
+        // then
+        verify(deviceRepository, times(2)).findAuthInfoByIdentifier(IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("캐시 적중과 미스 횟수를 메트릭으로 노출한다")
+    void bindTo() {
+        // given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        deviceAuthCache.bindTo(registry);
+        given(deviceRepository.findAuthInfoByIdentifier(IDENTIFIER)).willReturn(Optional.of(AUTH_INFO));
+
+        // when
+        deviceAuthCache.find(IDENTIFIER);
+        deviceAuthCache.find(IDENTIFIER);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(registry.get("cache.gets").tag("cache", "device_auth").tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1.0);
+            softAssertions.assertThat(registry.get("cache.gets").tag("cache", "device_auth").tag("result", "miss")
+                    .functionCounter().count()).isEqualTo(1.0);
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.recyclestudy.member.service;
+
+import com.recyclestudy.common.retry.ExponentialBackoff;
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.OutboxStatus;
+import com.recyclestudy.member.repository.DeviceAuthMailOutboxRepository;
+import com.recyclestudy.member.service.output.DeviceAuthMailOutboxOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceAuthMailOutboxServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    DeviceAuthMailOutboxRepository deviceAuthMailOutboxRepository;
+
+    @Mock
+    ExponentialBackoff deviceAuthMailRetryBackoff;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    DeviceAuthMailOutboxService deviceAuthMailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deviceAuthMailOutboxService, "batchSize", 100);
+        ReflectionTestUtils.setField(deviceAuthMailOutboxService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(deviceAuthMailOutboxService, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 아웃박스를 선점하고 임대 시간만큼 다음 시도를 미룬다")
+    void claimDue() {
+        // given
+        final DeviceAuthMailOutbox outbox = createOutbox(1L);
+
+        given(deviceAuthMailOutboxRepository.findDueForUpdate(eq(OutboxStatus.PENDING), eq(NOW), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+
+        // when
+        final List<DeviceAuthMailOutboxOutput> result = deviceAuthMailOutboxService.claimDue();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result)
+                    .containsExactly(new DeviceAuthMailOutboxOutput(
+                            1L, Email.from("test@test.com"), DeviceIdentifier.from("device-id")));
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(5));
+        });
+    }
+
+    @Test
+    @DisplayName("발송 결과에 따라 성공 건은 SENT로, 실패 건은 백오프 후 재시도로 예약한다")
+    void complete() {
+        // given
+        final DeviceAuthMailOutbox sent = createOutbox(1L);
+        final DeviceAuthMailOutbox failed = createOutbox(2L);
+
+        given(deviceAuthMailOutboxRepository.findAllById(List.of(1L))).willReturn(List.of(sent));
+        given(deviceAuthMailOutboxRepository.findAllById(List.of(2L))).willReturn(List.of(failed));
+        given(deviceAuthMailRetryBackoff.delayFor(1)).willReturn(Duration.ofSeconds(30));
+
+        // when
+        deviceAuthMailOutboxService.complete(List.of(1L), List.of(2L));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(sent.getStatus()).isEqualTo(OutboxStatus.SENT);
+            softAssertions.assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            softAssertions.assertThat(failed.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        });
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 FAILED 상태로 종료한다")
+    void complete_exhausted() {
+        // given
+        final DeviceAuthMailOutbox failed = createOutbox(1L);
+        failed.markFailed(NOW);
+
+        given(deviceAuthMailOutboxRepository.findAllById(List.of())).willReturn(List.of());
+        given(deviceAuthMailOutboxRepository.findAllById(List.of(1L))).willReturn(List.of(failed));
+
+        // when
+        deviceAuthMailOutboxService.complete(List.of(), List.of(1L));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+            softAssertions.assertThat(failed.getAttemptCount()).isEqualTo(2);
+        });
+    }
+
+    private DeviceAuthMailOutbox createOutbox(final Long id) {
+        final DeviceAuthMailOutbox outbox = DeviceAuthMailOutbox.withoutId(
+                Email.from("test@test.com"), DeviceIdentifier.from("device-id"), NOW);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
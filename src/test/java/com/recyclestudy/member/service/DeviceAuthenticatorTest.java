@@ -0,0 +1,99 @@
+package com.recyclestudy.member.service;
+
+import com.recyclestudy.common.auth.AuthenticatedDevice;
+import com.recyclestudy.exception.UnauthorizedException;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceAuthenticatorTest {
+
+    private static final DeviceIdentifier IDENTIFIER = DeviceIdentifier.from("device-id");
+    private static final Email EMAIL = Email.from("test@test.com");
+
+    @Mock
+    DeviceAuthCache deviceAuthCache;
+
+    @InjectMocks
+    DeviceAuthenticator deviceAuthenticator;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 디바이스 인증 정보를 한 번만 조회한다")
+    void authenticate_oncePerRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(deviceAuthCache.find(IDENTIFIER)).willReturn(Optional.of(new DeviceAuthInfo(1L, 10L, EMAIL, true)));
+
+        // when
+        final AuthenticatedDevice first = deviceAuthenticator.authenticate(IDENTIFIER);
+        final AuthenticatedDevice second = deviceAuthenticator.authenticate(IDENTIFIER);
+
+        // then
+        assertThat(second).isSameAs(first)
+                .isEqualTo(new AuthenticatedDevice(1L, 10L, EMAIL, IDENTIFIER));
+        verify(deviceAuthCache, times(1)).find(IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖에서는 매번 인증 정보를 조회한다")
+    void authenticate_withoutRequest() {
+        // given
+        given(deviceAuthCache.find(IDENTIFIER)).willReturn(Optional.of(new DeviceAuthInfo(1L, 10L, EMAIL, true)));
+
+        // when
+        deviceAuthenticator.authenticate(IDENTIFIER);
+        deviceAuthenticator.authenticate(IDENTIFIER);
+
+        // then
+        verify(deviceAuthCache, times(2)).find(IDENTIFIER);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 디바이스일 경우 예외를 던진다")
+    void authenticate_fail_notFound() {
+        // given
+        given(deviceAuthCache.find(IDENTIFIER)).willReturn(Optional.empty());
+
+        // when
+        // then
+        assertThatThrownBy(() -> deviceAuthenticator.authenticate(IDENTIFIER))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("유효하지 않은 디바이스입니다");
+    }
+
+    @Test
+    @DisplayName("활성화되지 않은 디바이스일 경우 예외를 던진다")
+    void authenticate_fail_inactive() {
+        // given
+        given(deviceAuthCache.find(IDENTIFIER)).willReturn(Optional.of(new DeviceAuthInfo(1L, 10L, EMAIL, false)));
+
+        // when
+        // then
+        assertThatThrownBy(() -> deviceAuthenticator.authenticate(IDENTIFIER))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("인증되지 않은 디바이스입니다");
+    }
+}
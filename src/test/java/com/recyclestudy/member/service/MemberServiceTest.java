@@ -4,20 +4,29 @@ import com.recyclestudy.exception.BadRequestException;
 import com.recyclestudy.exception.NotFoundException;
 import com.recyclestudy.exception.UnauthorizedException;
 import com.recyclestudy.member.domain.ActivationExpiredDateTime;
+import com.recyclestudy.member.domain.DeliveryPreference;
 import com.recyclestudy.member.domain.Device;
+import com.recyclestudy.member.domain.DeviceAuthMailOutbox;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
 import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.member.domain.OutboxStatus;
+import com.recyclestudy.member.repository.DeviceAuthMailOutboxRepository;
 import com.recyclestudy.member.repository.DeviceRepository;
+import com.recyclestudy.member.repository.MemberDeviceQueryRepository;
+import com.recyclestudy.member.repository.MemberDeviceRow;
 import com.recyclestudy.member.repository.MemberRepository;
+import com.recyclestudy.member.service.input.DeliveryPreferenceUpdateInput;
 import com.recyclestudy.member.service.input.DeviceDeleteInput;
 import com.recyclestudy.member.service.input.MemberFindInput;
 import com.recyclestudy.member.service.input.MemberSaveInput;
+import com.recyclestudy.member.service.output.DeliveryPreferenceUpdateOutput;
 import com.recyclestudy.member.service.output.MemberFindOutput;
 import com.recyclestudy.member.service.output.MemberSaveOutput;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +35,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -47,6 +57,15 @@ class MemberServiceTest {
     @Mock
     DeviceRepository deviceRepository;
 
+    @Mock
+    DeviceAuthMailOutboxRepository deviceAuthMailOutboxRepository;
+
+    @Mock
+    MemberDeviceQueryRepository memberDeviceQueryRepository;
+
+    @Mock
+    DeviceAuthCache deviceAuthCache;
+
     @Spy
     Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
 
@@ -83,6 +102,33 @@ class MemberServiceTest {
         verify(deviceRepository).save(any(Device.class));
     }
 
+    @Test
+    @DisplayName("디바이스 저장 시 인증 메일 발송 요청을 아웃박스에 함께 저장한다")
+    void saveDevice_savesAuthMailOutbox() {
+        // given
+        final MemberSaveInput input = MemberSaveInput.from("new@test.com");
+        final Member member = Member.withoutId(input.email());
+        final Device device = Device.withoutId(member, DeviceIdentifier.create(), false,
+                ActivationExpiredDateTime.create(now));
+        final ArgumentCaptor<DeviceAuthMailOutbox> outboxCaptor = ArgumentCaptor.forClass(DeviceAuthMailOutbox.class);
+
+        given(memberRepository.findByEmail(any(Email.class))).willReturn(Optional.of(member));
+        given(deviceRepository.save(any(Device.class))).willReturn(device);
+
+        // when
+        memberService.saveDevice(input);
+
+        // then
+        verify(deviceAuthMailOutboxRepository).save(outboxCaptor.capture());
+
+        final DeviceAuthMailOutbox outbox = outboxCaptor.getValue();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(outbox.getEmail()).isEqualTo(input.email());
+            softAssertions.assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            softAssertions.assertThat(outbox.getNextAttemptAt()).isEqualTo(now);
+        });
+    }
+
     @Test
     @DisplayName("이미 저장된 이메일일 경우 기존 멤버로 새로운 디바이스 id를 저장한다")
     void saveDevice_existedMember() {
@@ -112,21 +158,24 @@ class MemberServiceTest {
         final String email = "existed@test.com";
         final String identifier = "device-id";
         final MemberFindInput input = MemberFindInput.from(email, identifier);
-        final Member existedMember = Member.withoutId(input.email());
-        final Device device = Device.withoutId(existedMember, input.deviceIdentifier(), true,
-                ActivationExpiredDateTime.create(now));
+        final DeviceIdentifier otherIdentifier = DeviceIdentifier.from("other-device-id");
+        final List<MemberDeviceRow> rows = List.of(
+                MemberDeviceRow.of(input.email(), input.deviceIdentifier(), now, true),
+                MemberDeviceRow.of(input.email(), otherIdentifier, now.plusDays(1), false),
+                MemberDeviceRow.of(input.email(), input.deviceIdentifier(), now, true)
+        );
 
-        given(memberRepository.existsByEmail(any(Email.class))).willReturn(true);
-        given(deviceRepository.findByIdentifier(any(DeviceIdentifier.class))).willReturn(Optional.of(device));
-        given(deviceRepository.findAllByMemberEmail(any(Email.class))).willReturn(List.of(device));
+        given(memberDeviceQueryRepository.findByEmailOrIdentifier(input.email(), input.deviceIdentifier()))
+                .willReturn(rows);
 
         // when
         final MemberFindOutput actual = memberService.findAllMemberDevices(input);
 
         // then
         SoftAssertions.assertSoftly(softAssertions -> {
-            softAssertions.assertThat(actual.elements()).hasSize(1);
+            softAssertions.assertThat(actual.elements()).hasSize(2);
             softAssertions.assertThat(actual.elements().getFirst().identifier()).isEqualTo(input.deviceIdentifier());
+            softAssertions.assertThat(actual.elements().getLast().createdAt()).isEqualTo(now.plusDays(1));
         });
     }
 
@@ -137,13 +186,13 @@ class MemberServiceTest {
         final String email = "existed@test.com";
         final String identifier = "device-id";
         final MemberFindInput input = MemberFindInput.from(email, identifier);
-        final Member existedMember = Member.withoutId(input.email());
-        final Device device = Device.withoutId(existedMember, input.deviceIdentifier(), true,
-                ActivationExpiredDateTime.create(now));
+        final List<MemberDeviceRow> rows = List.of(
+                MemberDeviceRow.of(input.email(), null, null, false),
+                MemberDeviceRow.of(Email.from("other@test.com"), input.deviceIdentifier(), now, true)
+        );
 
-        given(memberRepository.existsByEmail(any(Email.class))).willReturn(true);
-        given(deviceRepository.findByIdentifier(any(DeviceIdentifier.class))).willReturn(Optional.of(device));
-        given(deviceRepository.findAllByMemberEmail(any(Email.class))).willReturn(List.of());
+        given(memberDeviceQueryRepository.findByEmailOrIdentifier(input.email(), input.deviceIdentifier()))
+                .willReturn(rows);
 
         // when
         final MemberFindOutput actual = memberService.findAllMemberDevices(input);
@@ -159,13 +208,18 @@ class MemberServiceTest {
         final String notExistedEmailValue = "notExisted@test.com";
         final String identifier = "device-id";
         final MemberFindInput input = MemberFindInput.from(notExistedEmailValue, identifier);
+        final List<MemberDeviceRow> rows = List.of(
+                MemberDeviceRow.of(Email.from("other@test.com"), input.deviceIdentifier(), now, true)
+        );
 
-        given(memberRepository.existsByEmail(any(Email.class))).willReturn(false);
+        given(memberDeviceQueryRepository.findByEmailOrIdentifier(input.email(), input.deviceIdentifier()))
+                .willReturn(rows);
 
         // when
         // then
         assertThatThrownBy(() -> memberService.findAllMemberDevices(input))
-                .isInstanceOf(NotFoundException.class);
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 멤버입니다");
     }
 
     @Test
@@ -175,14 +229,18 @@ class MemberServiceTest {
         final String email = "existed@test.com";
         final String identifier = "not-existed-device-id";
         final MemberFindInput input = MemberFindInput.from(email, identifier);
+        final List<MemberDeviceRow> rows = List.of(
+                MemberDeviceRow.of(input.email(), DeviceIdentifier.from("device-id"), now, true)
+        );
 
-        given(memberRepository.existsByEmail(any(Email.class))).willReturn(true);
-        given(deviceRepository.findByIdentifier(any(DeviceIdentifier.class))).willReturn(Optional.empty());
+        given(memberDeviceQueryRepository.findByEmailOrIdentifier(input.email(), input.deviceIdentifier()))
+                .willReturn(rows);
 
         // when
         // then
         assertThatThrownBy(() -> memberService.findAllMemberDevices(input))
-                .isInstanceOf(NotFoundException.class);
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 디바이스 아이디입니다");
     }
 
     @Test
@@ -192,12 +250,12 @@ class MemberServiceTest {
         final String email = "existed@test.com";
         final String identifier = "inactive-device-id";
         final MemberFindInput input = MemberFindInput.from(email, identifier);
-        final Member existedMember = Member.withoutId(input.email());
-        final Device inactiveDevice = Device.withoutId(existedMember, input.deviceIdentifier(), false,
-                ActivationExpiredDateTime.create(now));
+        final List<MemberDeviceRow> rows = List.of(
+                MemberDeviceRow.of(input.email(), input.deviceIdentifier(), now, false)
+        );
 
-        given(memberRepository.existsByEmail(any(Email.class))).willReturn(true);
-        given(deviceRepository.findByIdentifier(any(DeviceIdentifier.class))).willReturn(Optional.of(inactiveDevice));
+        given(memberDeviceQueryRepository.findByEmailOrIdentifier(input.email(), input.deviceIdentifier()))
+                .willReturn(rows);
 
         // when
         // then
@@ -222,6 +280,7 @@ class MemberServiceTest {
 
         // then
         assertThat(device.isActive()).isTrue();
+        verify(deviceAuthCache).evictAfterCommit(deviceIdentifier);
     }
 
     @Test
@@ -300,6 +359,7 @@ class MemberServiceTest {
 
         // then
         verify(deviceRepository).deleteByIdentifier(targetDeviceIdentifier);
+        verify(deviceAuthCache).evictAfterCommit(targetDeviceIdentifier);
     }
 
     @Test
@@ -339,4 +399,45 @@ class MemberServiceTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("디바이스 소유자가 아닙니다.");
     }
+
+    @Test
+    @DisplayName("디바이스 소유 멤버의 메일 발송 선호 설정을 변경한다")
+    void updateDeliveryPreference() {
+        // given
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final DeliveryPreferenceUpdateInput input
+                = DeliveryPreferenceUpdateInput.of(1L, "07:30", "America/New_York");
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+        // when
+        final DeliveryPreferenceUpdateOutput actual = memberService.updateDeliveryPreference(input);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.deliveryTime()).isEqualTo(LocalTime.of(7, 30));
+            softAssertions.assertThat(actual.timeZone()).isEqualTo("America/New_York");
+            softAssertions.assertThat(member.getDeliveryPreference()).isEqualTo(input.deliveryPreference());
+        });
+    }
+
+    @Test
+    @DisplayName("발송 시각을 비워 보내면 설정된 발송 시각을 지운다")
+    void updateDeliveryPreference_clearDeliveryTime() {
+        // given
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        member.changeDeliveryPreference(DeliveryPreference.of(LocalTime.of(7, 30), "Asia/Seoul"));
+        final DeliveryPreferenceUpdateInput input = DeliveryPreferenceUpdateInput.of(1L, " ", "Asia/Seoul");
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+        // when
+        final DeliveryPreferenceUpdateOutput actual = memberService.updateDeliveryPreference(input);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.deliveryTime()).isNull();
+            softAssertions.assertThat(member.getDeliveryPreference().getDeliveryTime()).isNull();
+        });
+    }
 }
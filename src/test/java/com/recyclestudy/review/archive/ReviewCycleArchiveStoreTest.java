@@ -0,0 +1,155 @@
+package com.recyclestudy.review.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.recyclestudy.review.archive.ArchivedReviewCycle.ArchivedNotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ReviewCycleArchiveStoreTest {
+
+    @TempDir
+    Path directory;
+
+    ReviewCycleArchiveStore reviewCycleArchiveStore;
+
+    @BeforeEach
+    void setUp() {
+        final ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .build();
+        reviewCycleArchiveStore = new ReviewCycleArchiveStore(objectMapper, directory.toString());
+    }
+
+    @Test
+    @DisplayName("아카이브한 복습 주기를 그대로 다시 읽는다")
+    void writeAndRead() {
+        // given
+        final ArchivedReviewCycle cycle = createArchivedCycle(1L, 10L, 100L);
+
+        // when
+        final Path archive = reviewCycleArchiveStore.write("20260101000000-0000", List.of(cycle));
+        final List<ArchivedReviewCycle> result = reviewCycleArchiveStore.read(archive);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(archive.getFileName().toString())
+                    .isEqualTo("review-cycle-20260101000000-0000.ndjson.gz");
+            softAssertions.assertThat(result).containsExactly(cycle);
+        });
+    }
+
+    @Test
+    @DisplayName("작성이 끝난 아카이브 파일만 남기고 임시 파일은 남기지 않는다")
+    void write_leavesNoTempFile() throws Exception {
+        // when
+        reviewCycleArchiveStore.write("20260101000000-0000", List.of(createArchivedCycle(1L, 10L, 100L)));
+
+        // then
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactly("review-cycle-20260101000000-0000.ndjson.gz");
+        }
+    }
+
+    @Test
+    @DisplayName("여러 아카이브 파일에서 리뷰 id로 복습 주기를 찾는다")
+    void findByReviewId() {
+        // given
+        final ArchivedReviewCycle target1 = createArchivedCycle(1L, 10L, 100L);
+        final ArchivedReviewCycle other = createArchivedCycle(2L, 20L, 100L);
+        final ArchivedReviewCycle target2 = createArchivedCycle(3L, 10L, 100L);
+        reviewCycleArchiveStore.write("20260101000000-0000", List.of(target1, other));
+        reviewCycleArchiveStore.write("20260101000000-0001", List.of(target2));
+
+        // when
+        final List<ArchivedReviewCycle> result = reviewCycleArchiveStore.findByReviewId(10L);
+
+        // then
+        assertThat(result).containsExactly(target1, target2);
+    }
+
+    @Test
+    @DisplayName("같은 이름으로 다시 아카이브하면 기존 파일을 덮어써 중복 기록하지 않는다")
+    void write_overwritesSameArchive() {
+        // given
+        final ArchivedReviewCycle cycle = createArchivedCycle(1L, 10L, 100L);
+        reviewCycleArchiveStore.write("000000000010-000000000010", List.of(cycle));
+
+        // when
+        reviewCycleArchiveStore.write("000000000010-000000000010", List.of(cycle));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(reviewCycleArchiveStore.findArchives()).hasSize(1);
+            softAssertions.assertThat(reviewCycleArchiveStore.findByReviewId(10L)).containsExactly(cycle);
+        });
+    }
+
+    @Test
+    @DisplayName("여러 아카이브 파일에 같은 복습 주기가 있으면 한 번만 반환한다")
+    void findByMemberId_distinctCycles() {
+        // given
+        final ArchivedReviewCycle cycle = createArchivedCycle(1L, 10L, 100L);
+        reviewCycleArchiveStore.write("000000000010-000000000010", List.of(cycle));
+        reviewCycleArchiveStore.write("000000000010-000000000020", List.of(cycle));
+
+        // when & then
+        assertThat(reviewCycleArchiveStore.findByMemberId(100L)).containsExactly(cycle);
+    }
+
+    @Test
+    @DisplayName("아카이브 디렉터리가 없으면 만들어 빈 목록을 반환한다")
+    void findByMemberId_noDirectory() {
+        // given
+        final ReviewCycleArchiveStore emptyStore = new ReviewCycleArchiveStore(
+                JsonMapper.builder().addModule(new JavaTimeModule()).build(),
+                directory.resolve("missing").toString()
+        );
+
+        // when & then
+        assertThat(emptyStore.findByMemberId(100L)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "archive/review-cycle"})
+    @DisplayName("아카이브 디렉터리가 없거나 상대 경로이면 예외를 발생한다")
+    void throwExceptionWhenDirectoryInvalid(final String invalidDirectory) {
+        // given
+        final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+        // when & then
+        assertThatThrownBy(() -> new ReviewCycleArchiveStore(objectMapper, invalidDirectory))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ArchivedReviewCycle createArchivedCycle(final Long cycleId, final Long reviewId, final Long memberId) {
+        final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 30, 15, 123_000_000);
+        return new ArchivedReviewCycle(
+                cycleId,
+                reviewId,
+                memberId,
+                "https://example.com/" + cycleId,
+                LocalDateTime.of(2025, 7, 1, 8, 0),
+                createdAt,
+                List.of(
+                        new ArchivedNotificationHistory(cycleId * 10, NotificationStatus.PENDING, createdAt),
+                        new ArchivedNotificationHistory(cycleId * 10 + 1, NotificationStatus.SENT, createdAt.plusDays(1))
+                )
+        );
+    }
+}
@@ -1,13 +1,21 @@
 package com.recyclestudy.review.controller;
 
 import com.recyclestudy.exception.UnauthorizedException;
+import com.recyclestudy.member.domain.DeviceIdentifier;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.repository.DeviceAuthInfo;
+import com.recyclestudy.member.service.DeviceAuthCache;
 import com.recyclestudy.restdocs.APIBaseTest;
 import com.recyclestudy.review.controller.request.ReviewSaveRequest;
 import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.service.ReviewImportService;
 import com.recyclestudy.review.service.ReviewService;
+import com.recyclestudy.review.service.output.ReviewImportOutput;
+import com.recyclestudy.review.service.output.ReviewImportOutput.ReviewImportElement;
 import com.recyclestudy.review.service.output.ReviewSaveOutput;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -29,6 +37,12 @@ class ReviewControllerTest extends APIBaseTest {
     @MockitoBean
     private ReviewService reviewService;
 
+    @MockitoBean
+    private ReviewImportService reviewImportService;
+
+    @MockitoBean
+    private DeviceAuthCache deviceAuthCache;
+
     @Test
     @DisplayName("리뷰를 저장하면 201 응답을 반환한다")
     void saveReview() {
@@ -184,4 +198,64 @@ class ReviewControllerTest extends APIBaseTest {
                 .statusCode(HttpStatus.CREATED.value())
                 .body("url", equalTo(url));
     }
+
+    @Test
+    @DisplayName("NDJSON 본문으로 리뷰를 일괄 가져오면 항목별 결과와 함께 200 응답을 반환한다")
+    void importReviews() {
+        // given
+        final String identifier = "device-id";
+        final String body = """
+                {"targetUrl": "https://a.com"}
+                {"targetUrl": "https://a.com"}
+                """;
+        final DeviceAuthInfo device = new DeviceAuthInfo(1L, 1L, Email.from("test@test.com"), true);
+        final ReviewImportOutput output = ReviewImportOutput.of(List.of(
+                ReviewImportElement.saved(0, "https://a.com"),
+                ReviewImportElement.duplicated(1, "https://a.com", "요청 안에서 중복된 URL입니다")
+        ), false);
+
+        given(deviceAuthCache.find(DeviceIdentifier.from(identifier))).willReturn(Optional.of(device));
+        given(reviewImportService.importReviews(any())).willReturn(output);
+
+        // when
+        // then
+        given(this.spec)
+                .filter(document(DEFAULT_REST_DOC_PATH,
+                        builder()
+                                .tag("Review")
+                                .summary("리뷰 일괄 가져오기")
+                                .description("JSON 배열 또는 NDJSON 본문의 URL을 일괄 저장하고 항목별 결과를 반환한다")
+                                .requestHeaders(
+                                        headerWithName("X-Device-Id").description("디바이스 식별자")
+                                )
+                                .responseFields(
+                                        fieldWithPath("total").type(JsonFieldType.NUMBER).description("전체 항목 수"),
+                                        fieldWithPath("saved").type(JsonFieldType.NUMBER).description("저장된 항목 수"),
+                                        fieldWithPath("duplicated").type(JsonFieldType.NUMBER)
+                                                .description("요청 안에서 중복된 항목 수"),
+                                        fieldWithPath("invalid").type(JsonFieldType.NUMBER)
+                                                .description("유효하지 않은 항목 수"),
+                                        fieldWithPath("failed").type(JsonFieldType.NUMBER)
+                                                .description("읽기 또는 저장에 실패한 항목 수"),
+                                        fieldWithPath("truncated").type(JsonFieldType.BOOLEAN)
+                                                .description("최대 개수 초과 또는 실패로 남은 항목을 처리하지 않았는지 여부"),
+                                        fieldWithPath("items[].index").type(JsonFieldType.NUMBER)
+                                                .description("요청 본문에서의 순서"),
+                                        fieldWithPath("items[].url").type(JsonFieldType.STRING).description("URL"),
+                                        fieldWithPath("items[].status").type(JsonFieldType.STRING)
+                                                .description("처리 결과 (SAVED, DUPLICATED, INVALID, FAILED)"),
+                                        fieldWithPath("items[].message").type(JsonFieldType.STRING).optional()
+                                                .description("처리 결과 사유")
+                                )
+                ))
+                .header("X-Device-Id", identifier)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .body(body)
+                .when()
+                .post("/api/v1/reviews/bulk")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("saved", equalTo(1))
+                .body("items[1].status", equalTo("DUPLICATED"));
+    }
 }
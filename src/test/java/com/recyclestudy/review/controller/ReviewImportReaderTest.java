@@ -0,0 +1,85 @@
+package com.recyclestudy.review.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recyclestudy.exception.BadRequestException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewImportReaderTest {
+
+    private final ReviewImportReader reviewImportReader = new ReviewImportReader(new ObjectMapper());
+
+    @Test
+    @DisplayName("JSON 배열의 문자열과 객체에서 URL을 순서대로 읽는다")
+    void read_array() {
+        // given
+        final String body = """
+                ["https://a.com", {"targetUrl": "https://b.com", "memo": {"tags": ["x"]}}, "https://c.com"]
+                """;
+
+        // when
+        final List<String> actual = readAll(body);
+
+        // then
+        assertThat(actual).containsExactly("https://a.com", "https://b.com", "https://c.com");
+    }
+
+    @Test
+    @DisplayName("NDJSON 본문의 각 줄에서 URL을 읽는다")
+    void read_ndjson() {
+        // given
+        final String body = """
+                {"targetUrl": "https://a.com"}
+                {"targetUrl": "https://b.com"}
+                "https://c.com"
+                """;
+
+        // when
+        final List<String> actual = readAll(body);
+
+        // then
+        assertThat(actual).containsExactly("https://a.com", "https://b.com", "https://c.com");
+    }
+
+    @Test
+    @DisplayName("URL을 찾을 수 없는 항목은 null로 읽는다")
+    void read_invalidItem() {
+        // given
+        final String body = """
+                [1, {"memo": "no url"}, ["https://a.com"], "https://b.com"]
+                """;
+
+        // when
+        final List<String> actual = readAll(body);
+
+        // then
+        assertThat(actual).containsExactly(null, null, null, "https://b.com");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 본문이면 예외를 던진다")
+    void read_malformed() {
+        // given
+        final String body = "[\"https://a.com\", ";
+
+        // when
+        // then
+        assertThatThrownBy(() -> readAll(body))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<String> readAll(final String body) {
+        final InputStream inputStream = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        try (Stream<String> urls = reviewImportReader.read(inputStream)) {
+            return urls.toList();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.recyclestudy.review.domain;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryWindowTest {
+
+    @Test
+    @DisplayName("같은 멤버는 항상 같은 발송 시각을 받는다")
+    void timeFor_stable() {
+        // given
+        final DeliveryWindow window = DeliveryWindow.of(LocalTime.of(8, 0), Duration.ofHours(12));
+
+        // when
+        final LocalTime first = window.timeFor(42L);
+        final LocalTime second = window.timeFor(42L);
+
+        // then
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("멤버별 발송 시각은 구간 안의 분 단위 시각으로 분산된다")
+    void timeFor_spread() {
+        // given
+        final DeliveryWindow window = DeliveryWindow.of(LocalTime.of(8, 0), Duration.ofHours(1));
+
+        // when
+        final Set<LocalTime> actual = LongStream.rangeClosed(1, 1000)
+                .mapToObj(window::timeFor)
+                .collect(Collectors.toSet());
+
+        // then
+        assertThat(actual)
+                .hasSize(60)
+                .allMatch(time -> !time.isBefore(LocalTime.of(8, 0)) && time.isBefore(LocalTime.of(9, 0)))
+                .allMatch(time -> time.getSecond() == 0);
+    }
+
+    @Test
+    @DisplayName("구간이 1분이면 모든 멤버가 시작 시각을 받는다")
+    void timeFor_singleBucket() {
+        // given
+        final DeliveryWindow window = DeliveryWindow.of(LocalTime.of(8, 0), Duration.ofMinutes(1));
+
+        // when
+        final LocalTime actual = window.timeFor(7L);
+
+        // then
+        assertThat(actual).isEqualTo(LocalTime.of(8, 0));
+    }
+
+    @Test
+    @DisplayName("구간 길이가 1분 미만이면 예외를 던진다")
+    void of_fail_tooShort() {
+        // given
+        final LocalTime start = LocalTime.of(8, 0);
+        final Duration length = Duration.ofSeconds(30);
+
+        // when
+        // then
+        assertThatThrownBy(() -> DeliveryWindow.of(start, length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.recyclestudy.review.domain;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberIdStripeTest {
+
+    @Test
+    @DisplayName("커서가 샤드 소유 구간 안에 있으면 구간 끝까지 이어서 조회한다")
+    void after_withinOwnedStripe() {
+        // given
+        // when
+        final MemberIdStripe actual = MemberIdStripe.after(1_005L, 1, 4, 1_000L);
+
+        // then
+        assertThat(actual).isEqualTo(new MemberIdStripe(1_005L, 1_999L));
+    }
+
+    @Test
+    @DisplayName("커서가 다른 샤드 구간에 있으면 다음 소유 구간의 시작으로 건너뛴다")
+    void after_skipsForeignStripes() {
+        // given
+        // when
+        final MemberIdStripe actual = MemberIdStripe.after(1_999L, 1, 4, 1_000L);
+
+        // then
+        assertThat(actual).isEqualTo(new MemberIdStripe(4_999L, 5_999L));
+    }
+
+    @Test
+    @DisplayName("모든 샤드의 구간을 합치면 멤버 id를 빠짐없이 한 번씩 포함한다")
+    void after_coversAllMemberIdsOnce() {
+        // given
+        final int shardCount = 3;
+        final long stripeSize = 7L;
+        final long maxMemberId = 200L;
+        final Set<Long> covered = new HashSet<>();
+
+        // when
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            long cursor = 0L;
+            MemberIdStripe stripe = MemberIdStripe.after(cursor, shardNo, shardCount, stripeSize);
+            while (!stripe.startsAfter(maxMemberId)) {
+                for (long id = stripe.fromExclusive() + 1; id <= stripe.toInclusive(); id++) {
+                    assertThat(covered.add(id)).as("member id %d", id).isTrue();
+                }
+                cursor = stripe.toInclusive();
+                stripe = MemberIdStripe.after(cursor, shardNo, shardCount, stripeSize);
+            }
+        }
+
+        // then
+        for (long id = 1L; id <= maxMemberId; id++) {
+            assertThat(covered).contains(id);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 번호가 샤드 수를 벗어나면 예외를 발생한다")
+    void throwExceptionWhenShardNoOutOfRange() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> MemberIdStripe.after(0L, 4, 4, 1_000L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 class ReviewURLTest {
 
@@ -30,4 +31,64 @@ class ReviewURLTest {
         assertThatThrownBy(() -> ReviewURL.from(null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("스킴과 호스트의 대소문자, 기본 포트, 프래그먼트를 정규화한다")
+    void canonicalValue() {
+        // given
+        final ReviewURL url = ReviewURL.from("  HTTPS://Example.COM:443?page=1#section ");
+
+        // when
+        final String actual = url.canonicalValue();
+
+        // then
+        assertThat(actual).isEqualTo("https://example.com/?page=1");
+    }
+
+    @Test
+    @DisplayName("URI로 해석할 수 없으면 앞뒤 공백만 제거한다")
+    void canonicalValue_notUri() {
+        // given
+        final ReviewURL url = ReviewURL.from(" not a url ");
+
+        // when
+        final String actual = url.canonicalValue();
+
+        // then
+        assertThat(actual).isEqualTo("not a url");
+    }
+
+    @Test
+    @DisplayName("정규화한 값이 같으면 같은 해시를 가진다")
+    void hash() {
+        // given
+        final ReviewURL url = ReviewURL.from("https://example.com/post");
+        final ReviewURL sameUrl = ReviewURL.from("https://EXAMPLE.com:443/post#comments");
+        final ReviewURL otherUrl = ReviewURL.from("https://example.com/Post");
+
+        // when
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(url.hash()).hasSize(64).isEqualTo(sameUrl.hash());
+            softAssertions.assertThat(url.hash()).isNotEqualTo(otherUrl.hash());
+        });
+    }
+
+    @Test
+    @DisplayName("해시는 한 번만 계산해 재사용하고 동등성 비교에는 영향을 주지 않는다")
+    void hash_cached() {
+        // given
+        final ReviewURL url = ReviewURL.from("https://example.com/post");
+        final String hash = url.hash();
+
+        // when
+        final String actual = url.hash();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual).isSameAs(hash);
+            softAssertions.assertThat(url).isEqualTo(ReviewURL.from("https://example.com/post"));
+            softAssertions.assertThat(url).hasSameHashCodeAs(ReviewURL.from("https://example.com/post"));
+        });
+    }
 }
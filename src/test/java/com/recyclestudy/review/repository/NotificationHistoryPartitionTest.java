@@ -0,0 +1,44 @@
+package com.recyclestudy.review.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class NotificationHistoryPartitionTest {
+
+    @Test
+    @DisplayName("월 단위 파티션 이름과 상한 날짜를 만든다")
+    void of() {
+        // given
+        final NotificationHistoryPartition partition = NotificationHistoryPartition.of(YearMonth.of(2026, 12));
+
+        // when & then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(partition.name()).isEqualTo("p202612");
+            softAssertions.assertThat(partition.upperBound()).isEqualTo(LocalDate.of(2027, 1, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("파티션 이름에서 월을 읽는다")
+    void parse() {
+        // when & then
+        assertThat(NotificationHistoryPartition.parse("p202603"))
+                .contains(NotificationHistoryPartition.of(YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    @DisplayName("월 단위 파티션이 아니면 빈 값을 반환한다")
+    void parse_notMonthly() {
+        // when & then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(NotificationHistoryPartition.parse("p_future")).isEmpty();
+            softAssertions.assertThat(NotificationHistoryPartition.parse("p_legacy")).isEmpty();
+            softAssertions.assertThat(NotificationHistoryPartition.parse(null)).isEmpty();
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.recyclestudy.review.repository;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.domain.Review;
+import com.recyclestudy.review.domain.ReviewCycle;
+import com.recyclestudy.review.domain.ReviewURL;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DataJpaTest
+class NotificationHistoryRepositoryTest {
+
+    @Autowired
+    NotificationHistoryRepository notificationHistoryRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    ReviewCycle sentCycle;
+    ReviewCycle failedCycle;
+
+    @BeforeEach
+    void setUp() {
+        final LocalDateTime scheduledAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final Member member = entityManager.persist(Member.withoutId(Email.from("user@test.com")));
+        final Review review = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com")));
+        sentCycle = entityManager.persist(ReviewCycle.withoutId(review, scheduledAt));
+        failedCycle = entityManager.persist(ReviewCycle.withoutId(review, scheduledAt.plusDays(1)));
+
+        entityManager.persist(NotificationHistory.withoutId(sentCycle, NotificationStatus.PENDING));
+        entityManager.persist(NotificationHistory.withoutId(failedCycle, NotificationStatus.PENDING));
+        entityManager.persist(NotificationHistory.withoutId(sentCycle, NotificationStatus.FAILED));
+        entityManager.persist(NotificationHistory.withoutId(sentCycle, NotificationStatus.SENT));
+        entityManager.persist(NotificationHistory.withoutId(failedCycle, NotificationStatus.FAILED));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("사이클별 가장 최근 알림 상태만 조회한다")
+    void findLatestStatusesByReviewCycleIds() {
+        // when
+        final List<LatestNotificationStatus> result = notificationHistoryRepository
+                .findLatestStatusesByReviewCycleIds(List.of(sentCycle.getId(), failedCycle.getId()));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result)
+                    .extracting(LatestNotificationStatus::reviewCycleId)
+                    .containsExactly(sentCycle.getId(), failedCycle.getId());
+            softAssertions.assertThat(result)
+                    .extracting(LatestNotificationStatus::status)
+                    .containsExactly(NotificationStatus.SENT, NotificationStatus.FAILED);
+        });
+    }
+
+    @Test
+    @DisplayName("기간 내 최근 상태가 주어진 상태인 사이클만 조회한다")
+    void findLatestStatusesByStatusAndCreatedAtRange() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+
+        // when
+        final List<LatestNotificationStatus> result = notificationHistoryRepository
+                .findLatestStatusesByStatusAndCreatedAtRange(
+                        NotificationStatus.FAILED, now.minusDays(1), now.plusDays(1), Pageable.ofSize(10));
+
+        // then
+        assertThat(result)
+                .extracting(LatestNotificationStatus::reviewCycleId)
+                .containsExactly(failedCycle.getId());
+    }
+
+    @Test
+    @DisplayName("기간 밖의 알림 이력은 조회하지 않는다")
+    void findLatestStatusesByStatusAndCreatedAtRange_outOfRange() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+
+        // when
+        final List<LatestNotificationStatus> result = notificationHistoryRepository
+                .findLatestStatusesByStatusAndCreatedAtRange(
+                        NotificationStatus.FAILED, now.plusDays(1), now.plusDays(2), Pageable.ofSize(10));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태와 기간으로 알림 이력 수를 센다")
+    void countByStatusAndCreatedAtRange() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+
+        // when
+        final long count = notificationHistoryRepository
+                .countByStatusAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                        NotificationStatus.FAILED, now.minusDays(1), now.plusDays(1));
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+}
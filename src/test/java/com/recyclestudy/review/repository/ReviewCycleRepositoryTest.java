@@ -0,0 +1,139 @@
+package com.recyclestudy.review.repository;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.domain.Review;
+import com.recyclestudy.review.domain.ReviewCycle;
+import com.recyclestudy.review.domain.ReviewURL;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DataJpaTest
+class ReviewCycleRepositoryTest {
+
+    @Autowired
+    ReviewCycleRepository reviewCycleRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("발송 대상 조회 시 회원 이메일과 URL을 사이클 id와 함께 한 번에 조회한다")
+    void findSendTargetsInRangeByMemberIds() {
+        // given
+        final LocalDateTime scheduledAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final Member member = entityManager.persist(Member.withoutId(Email.from("user@test.com")));
+        final Review review1 = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com/1")));
+        final Review review2 = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com/2")));
+        final ReviewCycle cycle1 = entityManager.persist(ReviewCycle.withoutId(review1, scheduledAt));
+        final ReviewCycle cycle2 = entityManager.persist(ReviewCycle.withoutId(review2, scheduledAt));
+        entityManager.persist(ReviewCycle.withoutId(review1, scheduledAt.plusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final List<ReviewCycleSendTarget> targets = reviewCycleRepository
+                .findSendTargetsInRangeByMemberIds(scheduledAt.minusMinutes(1), scheduledAt, List.of(member.getId()));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(targets)
+                    .extracting(ReviewCycleSendTarget::reviewCycleId)
+                    .containsExactly(cycle1.getId(), cycle2.getId());
+            softAssertions.assertThat(targets)
+                    .extracting(ReviewCycleSendTarget::email)
+                    .containsOnly(Email.from("user@test.com"));
+            softAssertions.assertThat(targets)
+                    .extracting(ReviewCycleSendTarget::url)
+                    .containsExactly(ReviewURL.from("https://example.com/1"), ReviewURL.from("https://example.com/2"));
+        });
+    }
+
+    @Test
+    @DisplayName("멤버 id 구간 안에서 발송 구간에 복습 사이클이 있는 멤버만 조회한다")
+    void findTargetMemberIdsInRange() {
+        // given
+        final LocalDateTime scheduledAfter = LocalDateTime.of(2025, 1, 1, 7, 59);
+        final LocalDateTime scheduledUntil = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final Member first = entityManager.persist(Member.withoutId(Email.from("first@test.com")));
+        final Member second = entityManager.persist(Member.withoutId(Email.from("second@test.com")));
+        final Member third = entityManager.persist(Member.withoutId(Email.from("third@test.com")));
+        final List<Member> members = List.of(first, second, third);
+        for (int i = 0; i < members.size(); i++) {
+            final Review review = entityManager.persist(
+                    Review.withoutId(members.get(i), ReviewURL.from("https://example.com/" + i)));
+            entityManager.persist(ReviewCycle.withoutId(review, scheduledUntil));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final List<Long> memberIds = reviewCycleRepository.findTargetMemberIdsInRange(
+                scheduledAfter, scheduledUntil, first.getId(), third.getId(), PageRequest.ofSize(10));
+        final Long maxMemberId = reviewCycleRepository.findMaxTargetMemberId(scheduledAfter, scheduledUntil);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(memberIds).containsExactly(second.getId(), third.getId());
+            softAssertions.assertThat(maxMemberId).isEqualTo(third.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("발송 결과가 기록된 복습 사이클은 구간 발송 대상에서 제외한다")
+    void findSendTargetsInRangeByMemberIds_excludeNotified() {
+        // given
+        final LocalDateTime scheduledAfter = LocalDateTime.of(2025, 1, 1, 7, 59);
+        final LocalDateTime scheduledUntil = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final Member member = entityManager.persist(Member.withoutId(Email.from("user@test.com")));
+        final Review review1 = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com/1")));
+        final Review review2 = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com/2")));
+        final Review review3 = entityManager.persist(Review.withoutId(member, ReviewURL.from("https://example.com/3")));
+        final ReviewCycle sentCycle = entityManager.persist(ReviewCycle.withoutId(review1, scheduledUntil));
+        final ReviewCycle pendingCycle = entityManager.persist(ReviewCycle.withoutId(review2, scheduledUntil));
+        final ReviewCycle newCycle = entityManager.persist(ReviewCycle.withoutId(review3, scheduledUntil));
+        entityManager.persist(NotificationHistory.withoutId(sentCycle, NotificationStatus.SENT));
+        entityManager.persist(NotificationHistory.withoutId(pendingCycle, NotificationStatus.PENDING));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final List<ReviewCycleSendTarget> targets = reviewCycleRepository.findSendTargetsInRangeByMemberIds(
+                scheduledAfter, scheduledUntil, List.of(member.getId()));
+
+        // then
+        assertThat(targets)
+                .extracting(ReviewCycleSendTarget::reviewCycleId)
+                .containsExactly(pendingCycle.getId(), newCycle.getId());
+    }
+
+    @Test
+    @DisplayName("scheduled_at 조건 조회는 (scheduled_at, review_id) 인덱스를 사용한다")
+    void scheduledAtLookup_usesIndex() {
+        // given
+        final String explainSql = """
+                EXPLAIN SELECT rc.id, rc.review_id
+                FROM review_cycle rc
+                WHERE rc.scheduled_at = TIMESTAMP '2025-01-01 08:00:00'
+                """;
+
+        // when
+        final String plan = String.valueOf(entityManager.getEntityManager()
+                .createNativeQuery(explainSql)
+                .getSingleResult());
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_review_cycle_scheduled_at_review_id");
+    }
+}
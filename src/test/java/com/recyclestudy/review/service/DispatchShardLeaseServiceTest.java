@@ -0,0 +1,115 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.review.repository.DispatchShardLease;
+import com.recyclestudy.review.repository.DispatchShardLeaseRepository;
+import com.recyclestudy.review.service.output.DispatchShardOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchShardLeaseServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final LocalDateTime DISPATCHED_UNTIL = LocalDateTime.of(2025, 1, 1, 7, 59);
+
+    @Mock
+    DispatchShardLeaseRepository dispatchShardLeaseRepository;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2025-01-01T08:00:00Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    DispatchShardLeaseService dispatchShardLeaseService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatchShardLeaseService, "shardCount", 4);
+        ReflectionTestUtils.setField(dispatchShardLeaseService, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("샤드를 점유하면 이전 발송 시각부터 현재까지의 구간을 새로 시작한다")
+    void acquire_begin() {
+        // given
+        given(dispatchShardLeaseRepository.tryAcquire(eq(1), anyString(), eq(NOW), eq(NOW.plusMinutes(5))))
+                .willReturn(true);
+        given(dispatchShardLeaseRepository.findByShardNo(1))
+                .willReturn(Optional.of(new DispatchShardLease(1, DISPATCHED_UNTIL, null, 0L)));
+
+        // when
+        final Optional<DispatchShardOutput> actual = dispatchShardLeaseService.acquire(1);
+
+        // then
+        assertThat(actual).contains(DispatchShardOutput.of(1, 4, DISPATCHED_UNTIL, NOW, 0L));
+        verify(dispatchShardLeaseRepository).begin(eq(1), anyString(), eq(NOW), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("중단된 샤드를 점유하면 남은 커서부터 같은 구간을 이어서 발송한다")
+    void acquire_resume() {
+        // given
+        final LocalDateTime dispatchingUntil = NOW.minusMinutes(10);
+        given(dispatchShardLeaseRepository.tryAcquire(eq(2), anyString(), eq(NOW), eq(NOW.plusMinutes(5))))
+                .willReturn(true);
+        given(dispatchShardLeaseRepository.findByShardNo(2))
+                .willReturn(Optional.of(new DispatchShardLease(2, DISPATCHED_UNTIL, dispatchingUntil, 42L)));
+
+        // when
+        final Optional<DispatchShardOutput> actual = dispatchShardLeaseService.acquire(2);
+
+        // then
+        assertThat(actual).contains(DispatchShardOutput.of(2, 4, DISPATCHED_UNTIL, dispatchingUntil, 42L));
+        verify(dispatchShardLeaseRepository, never()).begin(anyInt(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유 중인 샤드는 점유하지 않는다")
+    void acquire_occupied() {
+        // given
+        given(dispatchShardLeaseRepository.tryAcquire(eq(3), anyString(), eq(NOW), eq(NOW.plusMinutes(5))))
+                .willReturn(false);
+
+        // when
+        final Optional<DispatchShardOutput> actual = dispatchShardLeaseService.acquire(3);
+
+        // then
+        assertThat(actual).isEmpty();
+        verify(dispatchShardLeaseRepository, never()).findByShardNo(anyInt());
+    }
+
+    @Test
+    @DisplayName("커서를 저장하며 점유 기간을 연장한다")
+    void checkpoint() {
+        // given
+        given(dispatchShardLeaseRepository.checkpoint(eq(1), anyString(), eq(42L), eq(NOW.plusMinutes(5)), eq(NOW)))
+                .willReturn(true);
+
+        // when
+        final boolean actual = dispatchShardLeaseService.checkpoint(1, 42L);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+}
@@ -0,0 +1,133 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.review.repository.NotificationHistoryPartition;
+import com.recyclestudy.review.repository.NotificationHistoryPartitionRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationHistoryPartitionServiceTest {
+
+    @Mock
+    NotificationHistoryPartitionRepository partitionRepository;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2026-06-15T00:00:00Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    NotificationHistoryPartitionService notificationHistoryPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationHistoryPartitionService, "monthsAhead", 2);
+        ReflectionTestUtils.setField(notificationHistoryPartitionService, "retentionMonths", 3);
+        ReflectionTestUtils.setField(notificationHistoryPartitionService, "retentionEnabled", true);
+    }
+
+    @Test
+    @DisplayName("마지막 파티션 이후부터 미리 생성할 달까지 순서대로 파티션을 추가한다")
+    void maintainPartitions_createsUpcomingPartitions() {
+        // given
+        given(partitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                NotificationHistoryPartition.of(YearMonth.of(2026, 5)),
+                NotificationHistoryPartition.of(YearMonth.of(2026, 6))
+        ));
+        given(partitionRepository.isFutureEmpty()).willReturn(true);
+
+        // when
+        notificationHistoryPartitionService.maintainPartitions();
+
+        // then
+        final InOrder inOrder = inOrder(partitionRepository);
+        inOrder.verify(partitionRepository).addBeforeFuture(NotificationHistoryPartition.of(YearMonth.of(2026, 7)));
+        inOrder.verify(partitionRepository).addBeforeFuture(NotificationHistoryPartition.of(YearMonth.of(2026, 8)));
+        verify(partitionRepository, never()).drop(any());
+    }
+
+    @Test
+    @DisplayName("이미 미리 생성된 파티션이 충분하면 추가하지 않는다")
+    void maintainPartitions_alreadyCreated() {
+        // given
+        given(partitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                NotificationHistoryPartition.of(YearMonth.of(2026, 8))
+        ));
+
+        // when
+        notificationHistoryPartitionService.maintainPartitions();
+
+        // then
+        verify(partitionRepository, never()).addBeforeFuture(any());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션을 삭제한다")
+    void maintainPartitions_dropsExpiredPartitions() {
+        // given
+        final NotificationHistoryPartition expired = NotificationHistoryPartition.of(YearMonth.of(2026, 2));
+        final NotificationHistoryPartition retained = NotificationHistoryPartition.of(YearMonth.of(2026, 3));
+        given(partitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                expired,
+                retained,
+                NotificationHistoryPartition.of(YearMonth.of(2026, 8))
+        ));
+
+        // when
+        notificationHistoryPartitionService.maintainPartitions();
+
+        // then
+        verify(partitionRepository).drop(expired);
+        verify(partitionRepository, never()).drop(retained);
+    }
+
+    @Test
+    @DisplayName("p_future 파티션에 데이터가 있으면 파티션을 분할하지 않는다")
+    void maintainPartitions_futureNotEmpty() {
+        // given
+        given(partitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                NotificationHistoryPartition.of(YearMonth.of(2026, 6))
+        ));
+        given(partitionRepository.isFutureEmpty()).willReturn(false);
+
+        // when
+        notificationHistoryPartitionService.maintainPartitions();
+
+        // then
+        verify(partitionRepository, never()).addBeforeFuture(any());
+    }
+
+    @Test
+    @DisplayName("보관 기간 삭제가 비활성화되어 있으면 파티션을 삭제하지 않는다")
+    void maintainPartitions_retentionDisabled() {
+        // given
+        ReflectionTestUtils.setField(notificationHistoryPartitionService, "retentionEnabled", false);
+        given(partitionRepository.findMonthlyPartitions()).willReturn(List.of(
+                NotificationHistoryPartition.of(YearMonth.of(2026, 2)),
+                NotificationHistoryPartition.of(YearMonth.of(2026, 8))
+        ));
+
+        // when
+        notificationHistoryPartitionService.maintainPartitions();
+
+        // then
+        verify(partitionRepository, never()).drop(any());
+    }
+}
@@ -1,15 +1,15 @@
 package com.recyclestudy.review.service;
 
-import com.recyclestudy.member.domain.Email;
-import com.recyclestudy.member.domain.Member;
-import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.common.retry.ExponentialBackoff;
 import com.recyclestudy.review.domain.NotificationStatus;
-import com.recyclestudy.review.domain.Review;
-import com.recyclestudy.review.domain.ReviewCycle;
-import com.recyclestudy.review.domain.ReviewURL;
-import com.recyclestudy.review.repository.NotificationHistoryRepository;
-import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -28,57 +28,52 @@ import static org.mockito.Mockito.verify;
 class NotificationHistoryServiceTest {
 
     @Mock
-    NotificationHistoryRepository notificationHistoryRepository;
+    NotificationHistoryBulkRepository notificationHistoryBulkRepository;
 
     @Mock
-    ReviewCycleRepository reviewCycleRepository;
+    ExponentialBackoff notificationRetryBackoff;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2025-01-01T08:00:00Z"), ZoneId.of("UTC"));
 
     @InjectMocks
     NotificationHistoryService notificationHistoryService;
 
     @Test
-    @DisplayName("ReviewCycle ID 목록으로 NotificationHistory를 저장한다")
+    @DisplayName("청크의 발송 결과를 상태별 알림 이력으로 한 번에 저장하고 실패 건은 재시도 시각을 예약한다")
     void saveAll() {
         // given
-        final List<Long> reviewCycleIds = List.of(1L, 2L);
-        final NotificationStatus status = NotificationStatus.SENT;
-
-        final Member member = Member.withoutId(Email.from("test@test.com"));
-        final Review review = Review.withoutId(member, ReviewURL.from("https://test.com"));
-        final ReviewCycle cycle1 = ReviewCycle.withoutId(review, LocalDateTime.now());
-        final ReviewCycle cycle2 = ReviewCycle.withoutId(review, LocalDateTime.now().plusDays(1));
+        final NotificationResultInput input = NotificationResultInput.of(List.of(1L, 2L), List.of(3L));
+        final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
 
-        given(reviewCycleRepository.findAllById(reviewCycleIds)).willReturn(List.of(cycle1, cycle2));
+        given(notificationRetryBackoff.delayFor(0)).willReturn(Duration.ofMinutes(1));
 
         // when
-        notificationHistoryService.saveAll(reviewCycleIds, status);
+        notificationHistoryService.saveAll(input);
 
         // then
-        final ArgumentCaptor<List<NotificationHistory>> captor = ArgumentCaptor.forClass(List.class);
-        verify(notificationHistoryRepository).saveAll(captor.capture());
-
-        final List<NotificationHistory> savedHistories = captor.getValue();
-        assertSoftly(softAssertions -> {
-            softAssertions.assertThat(savedHistories).hasSize(2);
-            softAssertions.assertThat(savedHistories).allMatch(h -> h.getStatus() == NotificationStatus.SENT);
-        });
+        final ArgumentCaptor<List<NotificationHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationHistoryBulkRepository).insertAll(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(
+                NotificationHistoryRow.of(1L, NotificationStatus.SENT, now),
+                NotificationHistoryRow.of(2L, NotificationStatus.SENT, now),
+                NotificationHistoryRow.retryable(3L, NotificationStatus.FAILED, now.plusMinutes(1), now)
+        );
     }
 
     @Test
-    @DisplayName("빈 ID 목록이면 빈 NotificationHistory 목록을 저장한다")
-    void saveAll_emptyIds() {
+    @DisplayName("발송 결과가 없으면 빈 목록을 전달한다")
+    void saveAll_empty() {
         // given
-        final List<Long> reviewCycleIds = List.of();
-        final NotificationStatus status = NotificationStatus.SENT;
-
-        given(reviewCycleRepository.findAllById(reviewCycleIds)).willReturn(List.of());
+        final NotificationResultInput input = NotificationResultInput.of(List.of(), List.of());
 
         // when
-        notificationHistoryService.saveAll(reviewCycleIds, status);
+        notificationHistoryService.saveAll(input);
 
         // then
-        final ArgumentCaptor<List<NotificationHistory>> captor = ArgumentCaptor.forClass(List.class);
-        verify(notificationHistoryRepository).saveAll(captor.capture());
+        final ArgumentCaptor<List<NotificationHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationHistoryBulkRepository).insertAll(captor.capture());
 
         assertThat(captor.getValue()).isEmpty();
     }
@@ -0,0 +1,144 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.common.retry.ExponentialBackoff;
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
+import com.recyclestudy.review.repository.NotificationRetryRepository;
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetryClaim;
+import com.recyclestudy.review.repository.NotificationRetryRepository.NotificationRetrySchedule;
+import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import com.recyclestudy.review.service.input.NotificationResultInput;
+import com.recyclestudy.review.service.output.NotificationRetryOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime FAILED_AT = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Mock
+    NotificationRetryRepository notificationRetryRepository;
+
+    @Mock
+    NotificationHistoryBulkRepository notificationHistoryBulkRepository;
+
+    @Mock
+    ReviewCycleRepository reviewCycleRepository;
+
+    @Mock
+    ExponentialBackoff notificationRetryBackoff;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2025-01-01T09:00:00Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    NotificationRetryService notificationRetryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationRetryService, "batchSize", 100);
+        ReflectionTestUtils.setField(notificationRetryService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(notificationRetryService, "lease", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("재시도 시각이 지난 알림을 선점하고 임대 시간만큼 다음 시도를 미룬다")
+    void claimDueRetries() {
+        // given
+        final NotificationRetryClaim claim = NotificationRetryClaim.of(10L, FAILED_AT, 1L, 0);
+        final ReviewCycleSendTarget target = new ReviewCycleSendTarget(
+                1L, 100L, Email.from("user@test.com"), ReviewURL.from("https://example.com"));
+
+        given(notificationRetryRepository.findDueForUpdate(NOW, 100)).willReturn(List.of(claim));
+        given(reviewCycleRepository.findSendTargetsByReviewCycleIds(List.of(1L))).willReturn(List.of(target));
+
+        // when
+        final NotificationRetryOutput result = notificationRetryService.claimDueRetries();
+
+        // then
+        verify(notificationRetryRepository).updateSchedules(
+                List.of(NotificationRetrySchedule.of(claim, 0, NOW.plusMinutes(10))), NOW);
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.claims()).containsExactly(claim);
+            softAssertions.assertThat(result.elements()).hasSize(1);
+            softAssertions.assertThat(result.elements().getFirst().reviewCycleIds()).containsExactly(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 없으면 빈 결과를 반환한다")
+    void claimDueRetries_empty() {
+        // given
+        given(notificationRetryRepository.findDueForUpdate(NOW, 100)).willReturn(List.of());
+
+        // when
+        final NotificationRetryOutput result = notificationRetryService.claimDueRetries();
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+        verify(notificationRetryRepository, never()).updateSchedules(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("재발송 성공 건은 재시도를 종료하고 SENT 이력을 남기며, 실패 건은 백오프 후로 다시 예약한다")
+    void completeRetries() {
+        // given
+        final NotificationRetryClaim sentClaim = NotificationRetryClaim.of(10L, FAILED_AT, 1L, 0);
+        final NotificationRetryClaim failedClaim = NotificationRetryClaim.of(11L, FAILED_AT, 2L, 1);
+        final NotificationRetryOutput retry = NotificationRetryOutput.of(List.of(sentClaim, failedClaim), List.of());
+
+        given(notificationRetryBackoff.delayFor(2)).willReturn(Duration.ofMinutes(4));
+
+        // when
+        notificationRetryService.completeRetries(retry, NotificationResultInput.of(List.of(1L), List.of(2L)));
+
+        // then
+        verify(notificationRetryRepository).updateSchedules(List.of(
+                NotificationRetrySchedule.of(sentClaim, 1, null),
+                NotificationRetrySchedule.of(failedClaim, 2, NOW.plusMinutes(4))
+        ), NOW);
+        verify(notificationHistoryBulkRepository).insertAll(
+                List.of(NotificationHistoryRow.of(1L, NotificationStatus.SENT, NOW)));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 더 이상 재시도를 예약하지 않는다")
+    void completeRetries_exhausted() {
+        // given
+        final NotificationRetryClaim claim = NotificationRetryClaim.of(10L, FAILED_AT, 1L, 2);
+        final NotificationRetryOutput retry = NotificationRetryOutput.of(List.of(claim), List.of());
+
+        // when
+        notificationRetryService.completeRetries(retry, NotificationResultInput.of(List.of(), List.of(1L)));
+
+        // then
+        verify(notificationRetryRepository).updateSchedules(List.of(NotificationRetrySchedule.of(claim, 3, null)), NOW);
+    }
+}
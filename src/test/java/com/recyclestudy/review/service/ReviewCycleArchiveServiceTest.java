@@ -0,0 +1,131 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.member.domain.Email;
+import com.recyclestudy.member.domain.Member;
+import com.recyclestudy.review.archive.ArchivedReviewCycle;
+import com.recyclestudy.review.archive.ReviewCycleArchiveStore;
+import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.review.domain.NotificationStatus;
+import com.recyclestudy.review.domain.Review;
+import com.recyclestudy.review.domain.ReviewCycle;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.NotificationHistoryRepository;
+import com.recyclestudy.review.repository.ReviewCycleRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCycleArchiveServiceTest {
+
+    @Mock
+    ReviewCycleRepository reviewCycleRepository;
+
+    @Mock
+    NotificationHistoryRepository notificationHistoryRepository;
+
+    @Mock
+    ReviewCycleArchiveStore reviewCycleArchiveStore;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2026-01-10T00:00:00Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    ReviewCycleArchiveService reviewCycleArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewCycleArchiveService, "batchSize", 100);
+        ReflectionTestUtils.setField(reviewCycleArchiveService, "gracePeriod", Duration.ofDays(7));
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            final TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("완료된 복습 주기를 파일로 아카이브한 뒤 이력과 함께 삭제한다")
+    void archiveFinishedCycles() {
+        // given
+        final LocalDateTime cutoff = LocalDateTime.of(2026, 1, 3, 0, 0);
+        final ReviewCycle cycle = createCycle(1L);
+        final NotificationHistory history = NotificationHistory.withoutId(cycle, NotificationStatus.SENT);
+        final ArgumentCaptor<List<ArchivedReviewCycle>> archivedCaptor = ArgumentCaptor.forClass(List.class);
+
+        given(reviewCycleRepository.findFinishedReviewIds(eq(cutoff), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(10L));
+        given(reviewCycleRepository.findFinishedReviewIds(eq(cutoff), eq(10L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(reviewCycleRepository.findAllWithReviewAndMemberByReviewIds(List.of(10L))).willReturn(List.of(cycle));
+        given(notificationHistoryRepository.findAllByReviewCycleIds(List.of(1L))).willReturn(List.of(history));
+
+        // when
+        reviewCycleArchiveService.archiveFinishedCycles();
+
+        // then
+        verify(reviewCycleArchiveStore).write(eq("000000000010-000000000010"), archivedCaptor.capture());
+        verify(notificationHistoryRepository).deleteAllByReviewCycleIds(List.of(1L));
+        verify(reviewCycleRepository).deleteAllByIdInBatch(List.of(1L));
+
+        final List<ArchivedReviewCycle> archived = archivedCaptor.getValue();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(archived).hasSize(1);
+            softAssertions.assertThat(archived.getFirst().reviewCycleId()).isEqualTo(1L);
+            softAssertions.assertThat(archived.getFirst().histories())
+                    .extracting(ArchivedReviewCycle.ArchivedNotificationHistory::status)
+                    .containsExactly(NotificationStatus.SENT);
+        });
+    }
+
+    @Test
+    @DisplayName("완료된 복습이 없으면 아카이브하지 않는다")
+    void archiveFinishedCycles_nothingToArchive() {
+        // given
+        given(reviewCycleRepository.findFinishedReviewIds(any(), any(), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        reviewCycleArchiveService.archiveFinishedCycles();
+
+        // then
+        verify(reviewCycleArchiveStore, never()).write(anyString(), anyList());
+        verify(reviewCycleRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private ReviewCycle createCycle(final Long id) {
+        final Member member = Member.withoutId(Email.from("user@test.com"));
+        ReflectionTestUtils.setField(member, "id", 100L);
+        final Review review = Review.withoutId(member, ReviewURL.from("https://example.com"));
+        ReflectionTestUtils.setField(review, "id", 10L);
+        final ReviewCycle cycle = ReviewCycle.withoutId(review, LocalDateTime.of(2025, 7, 1, 8, 0));
+        ReflectionTestUtils.setField(cycle, "id", id);
+        return cycle;
+    }
+}
@@ -6,7 +6,12 @@ import com.recyclestudy.review.domain.Review;
 import com.recyclestudy.review.domain.ReviewCycle;
 import com.recyclestudy.review.domain.ReviewURL;
 import com.recyclestudy.review.repository.ReviewCycleRepository;
+import com.recyclestudy.review.repository.ReviewCycleSendTarget;
+import com.recyclestudy.review.service.input.ReviewSendChunkInput;
 import com.recyclestudy.review.service.input.ReviewSendInput;
+import com.recyclestudy.review.service.input.ReviewShardChunkInput;
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import com.recyclestudy.review.service.output.ReviewSendChunkOutput;
 import com.recyclestudy.review.service.output.ReviewSendOutput;
 import com.recyclestudy.review.service.output.ReviewSendOutput.ReviewSendElement;
 import java.time.LocalDate;
@@ -19,10 +24,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -146,4 +157,148 @@ class ReviewCycleServiceTest {
             );
         });
     }
+
+    @Test
+    @DisplayName("청크 단위로 마지막 멤버 id 이후의 복습 사이클을 조회하여 그룹화한다")
+    void findTargetReviewCycleChunk_success() {
+        // given
+        final ReviewDispatchRangeOutput range = ReviewDispatchRangeOutput.of(
+                LocalDateTime.of(2025, 1, 1, 7, 55), LocalDateTime.of(2025, 1, 1, 8, 0));
+        final ReviewSendChunkInput input = ReviewSendChunkInput.first(range, 2);
+
+        final ReviewCycleSendTarget target1 = new ReviewCycleSendTarget(
+                10L, 3L, Email.from("user1@test.com"), ReviewURL.from("https://example.com/article1"));
+        final ReviewCycleSendTarget target2 = new ReviewCycleSendTarget(
+                11L, 3L, Email.from("user1@test.com"), ReviewURL.from("https://example.com/article2"));
+        final ReviewCycleSendTarget target3 = new ReviewCycleSendTarget(
+                12L, 7L, Email.from("user2@test.com"), ReviewURL.from("https://example.com/article3"));
+
+        given(reviewCycleRepository.findTargetMemberIds(
+                eq(range.scheduledAfter()), eq(range.scheduledUntil()), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(3L, 7L));
+        given(reviewCycleRepository.findSendTargetsInRangeByMemberIds(
+                range.scheduledAfter(), range.scheduledUntil(), List.of(3L, 7L)))
+                .willReturn(List.of(target1, target2, target3));
+
+        // when
+        final ReviewSendChunkOutput result = reviewCycleService.findTargetReviewCycleChunk(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.elements()).hasSize(2);
+            softAssertions.assertThat(result.elements().getFirst().email()).isEqualTo(Email.from("user1@test.com"));
+            softAssertions.assertThat(result.elements().getFirst().reviewCycleIds()).containsExactly(10L, 11L);
+            softAssertions.assertThat(result.elements().get(1).reviewCycleIds()).containsExactly(12L);
+            softAssertions.assertThat(result.lastMemberId()).isEqualTo(7L);
+            softAssertions.assertThat(result.hasNext()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("조회된 멤버 수가 청크 크기보다 작으면 다음 청크가 없다")
+    void findTargetReviewCycleChunk_lastChunk() {
+        // given
+        final ReviewDispatchRangeOutput range = ReviewDispatchRangeOutput.of(
+                LocalDateTime.of(2025, 1, 1, 7, 55), LocalDateTime.of(2025, 1, 1, 8, 0));
+        final ReviewSendChunkInput input = ReviewSendChunkInput.first(range, 2).next(7L);
+
+        final ReviewCycleSendTarget target = new ReviewCycleSendTarget(
+                20L, 9L, Email.from("user@test.com"), ReviewURL.from("https://example.com/article"));
+
+        given(reviewCycleRepository.findTargetMemberIds(
+                eq(range.scheduledAfter()), eq(range.scheduledUntil()), eq(7L), any(Pageable.class)))
+                .willReturn(List.of(9L));
+        given(reviewCycleRepository.findSendTargetsInRangeByMemberIds(
+                range.scheduledAfter(), range.scheduledUntil(), List.of(9L)))
+                .willReturn(List.of(target));
+
+        // when
+        final ReviewSendChunkOutput result = reviewCycleService.findTargetReviewCycleChunk(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.elements()).hasSize(1);
+            softAssertions.assertThat(result.lastMemberId()).isEqualTo(9L);
+            softAssertions.assertThat(result.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("청크 조회 대상 멤버가 없으면 복습 사이클을 조회하지 않고 빈 결과를 반환한다")
+    void findTargetReviewCycleChunk_empty() {
+        // given
+        final ReviewDispatchRangeOutput range = ReviewDispatchRangeOutput.of(
+                LocalDateTime.of(2025, 1, 1, 7, 55), LocalDateTime.of(2025, 1, 1, 8, 0));
+        final ReviewSendChunkInput input = ReviewSendChunkInput.first(range, 2);
+
+        given(reviewCycleRepository.findTargetMemberIds(
+                eq(range.scheduledAfter()), eq(range.scheduledUntil()), eq(0L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        final ReviewSendChunkOutput result = reviewCycleService.findTargetReviewCycleChunk(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.elements()).isEmpty();
+            softAssertions.assertThat(result.hasNext()).isFalse();
+        });
+        verify(reviewCycleRepository, never()).findSendTargetsInRangeByMemberIds(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("샤드에 속한 멤버 id 구간의 발송 구간 내 복습 사이클을 청크 단위로 조회한다")
+    void findTargetReviewCycleShardChunk_success() {
+        // given
+        ReflectionTestUtils.setField(reviewCycleService, "stripeSize", 10L);
+        final LocalDateTime scheduledAfter = LocalDateTime.of(2025, 1, 1, 7, 59);
+        final LocalDateTime scheduledUntil = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final ReviewShardChunkInput input = new ReviewShardChunkInput(scheduledAfter, scheduledUntil, 4, 1, 0L, 2);
+
+        final ReviewCycleSendTarget target = new ReviewCycleSendTarget(
+                10L, 15L, Email.from("user@test.com"), ReviewURL.from("https://example.com/article"));
+
+        given(reviewCycleRepository.findMaxTargetMemberId(scheduledAfter, scheduledUntil)).willReturn(60L);
+        given(reviewCycleRepository.findTargetMemberIdsInRange(
+                eq(scheduledAfter), eq(scheduledUntil), eq(9L), eq(19L), any(Pageable.class)))
+                .willReturn(List.of(15L));
+        given(reviewCycleRepository.findTargetMemberIdsInRange(
+                eq(scheduledAfter), eq(scheduledUntil), eq(49L), eq(59L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(reviewCycleRepository.findSendTargetsInRangeByMemberIds(scheduledAfter, scheduledUntil, List.of(15L)))
+                .willReturn(List.of(target));
+
+        // when
+        final ReviewSendChunkOutput result = reviewCycleService.findTargetReviewCycleShardChunk(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.elements()).hasSize(1);
+            softAssertions.assertThat(result.elements().getFirst().reviewCycleIds()).containsExactly(10L);
+            softAssertions.assertThat(result.lastMemberId()).isEqualTo(15L);
+            softAssertions.assertThat(result.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("발송 구간에 복습 사이클이 없으면 멤버 구간을 조회하지 않는다")
+    void findTargetReviewCycleShardChunk_noTarget() {
+        // given
+        ReflectionTestUtils.setField(reviewCycleService, "stripeSize", 10L);
+        final LocalDateTime scheduledAfter = LocalDateTime.of(2025, 1, 1, 7, 59);
+        final LocalDateTime scheduledUntil = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final ReviewShardChunkInput input = new ReviewShardChunkInput(scheduledAfter, scheduledUntil, 4, 1, 0L, 2);
+
+        given(reviewCycleRepository.findMaxTargetMemberId(scheduledAfter, scheduledUntil)).willReturn(null);
+
+        // when
+        final ReviewSendChunkOutput result = reviewCycleService.findTargetReviewCycleShardChunk(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.elements()).isEmpty();
+            softAssertions.assertThat(result.hasNext()).isFalse();
+        });
+        verify(reviewCycleRepository, never()).findTargetMemberIdsInRange(any(), any(), any(), any(), any());
+    }
 }
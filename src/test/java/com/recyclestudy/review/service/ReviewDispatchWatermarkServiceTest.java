@@ -0,0 +1,119 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.review.repository.ReviewDispatchWatermarkRepository;
+import com.recyclestudy.review.service.output.ReviewDispatchRangeOutput;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewDispatchWatermarkServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 8, 0, 30);
+    private static final LocalDateTime DISPATCHED_UNTIL = LocalDateTime.of(2025, 1, 1, 7, 52, 30);
+
+    @Mock
+    ReviewDispatchWatermarkRepository reviewDispatchWatermarkRepository;
+
+    @Spy
+    Clock clock = Clock.fixed(Instant.parse("2025-01-01T08:00:30Z"), ZoneId.of("UTC"));
+
+    @InjectMocks
+    ReviewDispatchWatermarkService reviewDispatchWatermarkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewDispatchWatermarkService, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("발송 구간을 점유하면 마지막 발송 기준 시각부터 현재까지를 발송 구간으로 반환한다")
+    void claim() {
+        // given
+        given(reviewDispatchWatermarkRepository.tryClaim(eq(1), anyString(), eq(NOW), eq(NOW.plusMinutes(5))))
+                .willReturn(true);
+        given(reviewDispatchWatermarkRepository.findDispatchedUntil(eq(1), anyString()))
+                .willReturn(Optional.of(DISPATCHED_UNTIL));
+
+        // when
+        final Optional<ReviewDispatchRangeOutput> actual = reviewDispatchWatermarkService.claim();
+
+        // then
+        assertThat(actual).contains(ReviewDispatchRangeOutput.of(DISPATCHED_UNTIL, NOW));
+        verify(reviewDispatchWatermarkRepository).insertIfAbsent(1, NOW, NOW);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 점유 중이면 발송 구간을 반환하지 않는다")
+    void claim_claimedByOther() {
+        // given
+        given(reviewDispatchWatermarkRepository.tryClaim(eq(1), anyString(), eq(NOW), eq(NOW.plusMinutes(5))))
+                .willReturn(false);
+
+        // when
+        final Optional<ReviewDispatchRangeOutput> actual = reviewDispatchWatermarkService.claim();
+
+        // then
+        assertThat(actual).isEmpty();
+        verify(reviewDispatchWatermarkRepository, never()).findDispatchedUntil(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("청크를 발송할 때마다 점유 기한을 연장한다")
+    void renew() {
+        // given
+        given(reviewDispatchWatermarkRepository.renew(eq(1), anyString(), eq(NOW.plusMinutes(5)), eq(NOW)))
+                .willReturn(true);
+
+        // when
+        final boolean actual = reviewDispatchWatermarkService.renew();
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("발송을 마치면 점유한 인스턴스만 기준 시각을 구간 끝으로 옮긴다")
+    void complete() {
+        // given
+        given(reviewDispatchWatermarkRepository.complete(eq(1), anyString(), eq(NOW))).willReturn(true);
+
+        // when
+        final boolean actual = reviewDispatchWatermarkService.complete();
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("발송이 실패하면 기준 시각은 두고 점유만 해제한다")
+    void release() {
+        // when
+        reviewDispatchWatermarkService.release();
+
+        // then
+        verify(reviewDispatchWatermarkRepository).release(eq(1), anyString(), eq(NOW));
+        verify(reviewDispatchWatermarkRepository, never()).complete(anyInt(), anyString(), any());
+    }
+}
@@ -0,0 +1,195 @@
+package com.recyclestudy.review.service;
+
+import com.recyclestudy.exception.BadRequestException;
+import com.recyclestudy.exception.ConflictException;
+import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.service.input.ReviewBulkSaveInput;
+import com.recyclestudy.review.service.input.ReviewImportInput;
+import com.recyclestudy.review.service.output.ReviewBulkSaveOutput;
+import com.recyclestudy.review.service.output.ReviewImportOutput;
+import com.recyclestudy.review.service.output.ReviewImportStatus;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewImportServiceTest {
+
+    @Mock
+    ReviewService reviewService;
+
+    @InjectMocks
+    ReviewImportService reviewImportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reviewImportService, "maxItems", 10);
+    }
+
+    @Test
+    @DisplayName("중복을 제거한 URL을 청크 단위로 저장하고 항목별 결과를 입력 순서대로 반환한다")
+    void importReviews() {
+        // given
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.of(
+                "https://a.com", "https://b.com", "https://A.com/#top", null, "https://c.com"));
+        given(reviewService.saveReviews(any(ReviewBulkSaveInput.class))).willReturn(ReviewBulkSaveOutput.of(List.of()));
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        final ArgumentCaptor<ReviewBulkSaveInput> captor = ArgumentCaptor.forClass(ReviewBulkSaveInput.class);
+        verify(reviewService, times(2)).saveReviews(captor.capture());
+
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(captor.getAllValues())
+                    .extracting(ReviewBulkSaveInput::urls)
+                    .containsExactly(
+                            List.of(ReviewURL.from("https://a.com"), ReviewURL.from("https://b.com")),
+                            List.of(ReviewURL.from("https://c.com"))
+                    );
+            softAssertions.assertThat(actual.elements())
+                    .extracting(element -> element.status())
+                    .containsExactly(
+                            ReviewImportStatus.SAVED,
+                            ReviewImportStatus.SAVED,
+                            ReviewImportStatus.DUPLICATED,
+                            ReviewImportStatus.INVALID,
+                            ReviewImportStatus.SAVED
+                    );
+            softAssertions.assertThat(actual.count(ReviewImportStatus.SAVED)).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("이미 등록된 URL은 중복 항목으로 반환한다")
+    void importReviews_alreadySaved() {
+        // given
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.of("https://a.com", "https://b.com"));
+        given(reviewService.saveReviews(any(ReviewBulkSaveInput.class)))
+                .willReturn(ReviewBulkSaveOutput.of(List.of(ReviewURL.from("https://a.com"))));
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.elements())
+                    .extracting(element -> element.status())
+                    .containsExactly(ReviewImportStatus.DUPLICATED, ReviewImportStatus.SAVED);
+            softAssertions.assertThat(actual.elements().getFirst().message()).isEqualTo("이미 등록된 URL입니다");
+        });
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 남은 항목을 읽지 않고 잘림 여부를 반환한다")
+    void importReviews_exceedMaxItems() {
+        // given
+        ReflectionTestUtils.setField(reviewImportService, "maxItems", 1);
+        final AtomicInteger readCount = new AtomicInteger();
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.iterate(0, i -> i + 1)
+                .peek(i -> readCount.incrementAndGet())
+                .map(i -> "https://a.com/" + i));
+        given(reviewService.saveReviews(any(ReviewBulkSaveInput.class))).willReturn(ReviewBulkSaveOutput.of(List.of()));
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        verify(reviewService).saveReviews(any(ReviewBulkSaveInput.class));
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.elements())
+                    .extracting(element -> element.status())
+                    .containsExactly(ReviewImportStatus.SAVED);
+            softAssertions.assertThat(actual.truncated()).isTrue();
+            softAssertions.assertThat(readCount).hasValue(2);
+        });
+    }
+
+    @Test
+    @DisplayName("본문을 읽다 실패하면 앞서 읽은 항목을 저장하고 실패 항목과 함께 반환한다")
+    void importReviews_readFailure() {
+        // given
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.of("https://a.com", "https://b.com", "broken")
+                .map(url -> {
+                    if (url.equals("broken")) {
+                        throw new BadRequestException("잘못된 형식의 요청 본문입니다");
+                    }
+                    return url;
+                }));
+        given(reviewService.saveReviews(any(ReviewBulkSaveInput.class))).willReturn(ReviewBulkSaveOutput.of(List.of()));
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.elements())
+                    .extracting(element -> element.status())
+                    .containsExactly(ReviewImportStatus.SAVED, ReviewImportStatus.SAVED, ReviewImportStatus.FAILED);
+            softAssertions.assertThat(actual.elements().getLast().index()).isEqualTo(2);
+            softAssertions.assertThat(actual.elements().getLast().message()).isEqualTo("잘못된 형식의 요청 본문입니다");
+            softAssertions.assertThat(actual.truncated()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("청크 저장에 실패하면 이전 청크 결과와 실패한 청크 항목을 반환하고 중단한다")
+    void importReviews_saveFailure() {
+        // given
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.of(
+                "https://a.com", "https://b.com", "https://c.com", "https://d.com", "https://e.com"));
+        given(reviewService.saveReviews(any(ReviewBulkSaveInput.class)))
+                .willReturn(ReviewBulkSaveOutput.of(List.of()))
+                .willThrow(new ConflictException("이미 등록된 복습 주제입니다"));
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        verify(reviewService, times(2)).saveReviews(any(ReviewBulkSaveInput.class));
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.elements())
+                    .extracting(element -> element.status())
+                    .containsExactly(
+                            ReviewImportStatus.SAVED,
+                            ReviewImportStatus.SAVED,
+                            ReviewImportStatus.FAILED,
+                            ReviewImportStatus.FAILED
+                    );
+            softAssertions.assertThat(actual.truncated()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("저장할 URL이 없으면 저장을 호출하지 않는다")
+    void importReviews_empty() {
+        // given
+        final ReviewImportInput input = ReviewImportInput.of(1L, Stream.empty());
+
+        // when
+        final ReviewImportOutput actual = reviewImportService.importReviews(input);
+
+        // then
+        verify(reviewService, never()).saveReviews(any());
+        assertThat(actual.elements()).isEmpty();
+    }
+}
@@ -1,25 +1,34 @@
 package com.recyclestudy.review.service;
 
+import com.recyclestudy.common.auth.AuthenticatedDevice;
+import com.recyclestudy.exception.ConflictException;
 import com.recyclestudy.exception.UnauthorizedException;
-import com.recyclestudy.member.domain.ActivationExpiredDateTime;
-import com.recyclestudy.member.domain.Device;
+import com.recyclestudy.member.domain.DeliveryPreference;
 import com.recyclestudy.member.domain.DeviceIdentifier;
 import com.recyclestudy.member.domain.Email;
 import com.recyclestudy.member.domain.Member;
-import com.recyclestudy.member.repository.DeviceRepository;
-import com.recyclestudy.review.domain.NotificationHistory;
+import com.recyclestudy.member.repository.MemberRepository;
+import com.recyclestudy.member.service.DeviceAuthenticator;
+import com.recyclestudy.review.domain.DeliveryWindow;
+import com.recyclestudy.review.domain.DuplicateReviewPolicy;
 import com.recyclestudy.review.domain.NotificationStatus;
 import com.recyclestudy.review.domain.Review;
 import com.recyclestudy.review.domain.ReviewCycle;
 import com.recyclestudy.review.domain.ReviewURL;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository;
+import com.recyclestudy.review.repository.NotificationHistoryBulkRepository.NotificationHistoryRow;
 import com.recyclestudy.review.repository.NotificationHistoryRepository;
 import com.recyclestudy.review.repository.ReviewCycleRepository;
 import com.recyclestudy.review.repository.ReviewRepository;
+import com.recyclestudy.review.service.input.ReviewBulkSaveInput;
 import com.recyclestudy.review.service.input.ReviewSaveInput;
+import com.recyclestudy.review.service.output.ReviewBulkSaveOutput;
 import com.recyclestudy.review.service.output.ReviewSaveOutput;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
@@ -32,12 +41,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,11 +63,20 @@ class ReviewServiceTest {
     ReviewCycleRepository reviewCycleRepository;
 
     @Mock
-    DeviceRepository deviceRepository;
+    MemberRepository memberRepository;
+
+    @Mock
+    DeviceAuthenticator deviceAuthenticator;
 
     @Mock
     NotificationHistoryRepository notificationHistoryRepository;
 
+    @Mock
+    NotificationHistoryBulkRepository notificationHistoryBulkRepository;
+
+    @Mock
+    DeliveryWindow deliveryWindow;
+
     @Spy
     Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
 
@@ -66,6 +88,7 @@ class ReviewServiceTest {
     @BeforeEach
     void setUp() {
         now = LocalDateTime.now(clock);
+        ReflectionTestUtils.setField(reviewService, "duplicatePolicy", DuplicateReviewPolicy.REJECT);
     }
 
     @Test
@@ -76,38 +99,149 @@ class ReviewServiceTest {
         final String urlValue = "https://test.com";
         final ReviewSaveInput input = ReviewSaveInput.of(identifier, urlValue);
 
-        final Device device = Device.withoutId(
-                Member.withoutId(Email.from("test@test.com")),
-                DeviceIdentifier.from(identifier),
-                true,
-                ActivationExpiredDateTime.create(now)
-        );
-
         final Email email = Email.from("test@test.com");
+        final AuthenticatedDevice device
+                = new AuthenticatedDevice(1L, 1L, email, DeviceIdentifier.from(identifier));
         final Member member = Member.withoutId(email);
         final Review review = Review.withoutId(member, ReviewURL.from(urlValue));
         final ReviewCycle cycle = ReviewCycle.withoutId(review, now.plusDays(1));
+        ReflectionTestUtils.setField(cycle, "id", 1L);
 
-        given(deviceRepository.findByIdentifier(any())).willReturn(Optional.of(device));
-        given(reviewRepository.save(any(Review.class))).willReturn(review);
-        given(reviewCycleRepository.saveAll(anyList())).willReturn(List.of(cycle));
+        given(deviceAuthenticator.authenticate(DeviceIdentifier.from(identifier))).willReturn(device);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.saveAllAndFlush(anyList())).willReturn(List.of(review));
+        given(reviewCycleRepository.saveAllAndFlush(anyList())).willReturn(List.of(cycle));
+        given(deliveryWindow.timeFor(any())).willReturn(LocalTime.of(8, 37));
 
         // when
         final ReviewSaveOutput actual = reviewService.saveReview(input);
 
         // then
-        final ArgumentCaptor<List<NotificationHistory>> captor = ArgumentCaptor.forClass(List.class);
-        verify(notificationHistoryRepository).saveAll(captor.capture());
+        final ArgumentCaptor<List<NotificationHistoryRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationHistoryBulkRepository).insertAll(captor.capture());
+        final ArgumentCaptor<List<ReviewCycle>> cycleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCycleRepository).saveAllAndFlush(cycleCaptor.capture());
 
         assertSoftly(softAssertions -> {
             softAssertions.assertThat(actual.url()).isEqualTo(ReviewURL.from(urlValue));
             softAssertions.assertThat(actual.scheduledAts()).hasSize(1);
-            softAssertions.assertThat(captor.getValue()).allMatch(h -> h.getStatus() == NotificationStatus.PENDING);
+            softAssertions.assertThat(captor.getValue()).allMatch(row -> row.status() == NotificationStatus.PENDING);
+            softAssertions.assertThat(captor.getValue()).extracting(NotificationHistoryRow::reviewCycleId)
+                    .containsExactly(1L);
+            softAssertions.assertThat(cycleCaptor.getValue())
+                    .extracting(reviewCycle -> reviewCycle.getScheduledAt().toLocalTime())
+                    .containsOnly(LocalTime.of(23, 37));
         });
 
-        verify(deviceRepository).findByIdentifier(any());
-        verify(reviewRepository).save(any(Review.class));
-        verify(reviewCycleRepository).saveAll(anyList());
+        verify(reviewRepository).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("멤버의 선호 시각과 시간대로 복습 주기를 계산하여 UTC로 저장하고 멤버 시각으로 응답한다")
+    void saveReview_deliveryPreference() {
+        // given
+        final String identifier = "device-id";
+        final ReviewSaveInput input = ReviewSaveInput.of(identifier, "https://test.com");
+
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        member.changeDeliveryPreference(DeliveryPreference.of(LocalTime.of(7, 0), "America/New_York"));
+        final AuthenticatedDevice device
+                = new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from(identifier));
+        final Review review = Review.withoutId(member, ReviewURL.from("https://test.com"));
+
+        given(deviceAuthenticator.authenticate(DeviceIdentifier.from(identifier))).willReturn(device);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.saveAllAndFlush(anyList())).willReturn(List.of(review));
+        given(reviewCycleRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        final ReviewSaveOutput actual = reviewService.saveReview(input);
+
+        // then
+        final ArgumentCaptor<List<ReviewCycle>> cycleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCycleRepository).saveAllAndFlush(cycleCaptor.capture());
+
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(cycleCaptor.getValue().getFirst().getScheduledAt())
+                    .isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0));
+            softAssertions.assertThat(actual.scheduledAts().getFirst())
+                    .isEqualTo(LocalDateTime.of(2025, 1, 1, 7, 0));
+        });
+    }
+
+    @Test
+    @DisplayName("여러 리뷰를 한 번에 저장하고 리뷰마다 복습 주기와 전송 현황을 저장한다")
+    void saveReviews() {
+        // given
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final ReviewBulkSaveInput input = ReviewBulkSaveInput.of(1L,
+                List.of(ReviewURL.from("https://a.com"), ReviewURL.from("https://b.com")));
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(reviewCycleRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(deliveryWindow.timeFor(any())).willReturn(LocalTime.of(8, 0));
+
+        // when
+        reviewService.saveReviews(input);
+
+        // then
+        final ArgumentCaptor<List<ReviewCycle>> cycleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reviewCycleRepository).saveAllAndFlush(cycleCaptor.capture());
+        final ArgumentCaptor<List<NotificationHistoryRow>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationHistoryBulkRepository).insertAll(historyCaptor.capture());
+
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(cycleCaptor.getValue()).hasSize(10);
+            softAssertions.assertThat(cycleCaptor.getValue())
+                    .extracting(reviewCycle -> reviewCycle.getReview().getUrl())
+                    .containsOnly(ReviewURL.from("https://a.com"), ReviewURL.from("https://b.com"));
+            softAssertions.assertThat(historyCaptor.getValue()).hasSize(10);
+        });
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 이미 등록된 URL은 저장하지 않고 중복으로 반환한다")
+    void saveReviews_alreadySaved() {
+        // given
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final ReviewURL savedUrl = ReviewURL.from("https://a.com");
+        final ReviewBulkSaveInput input = ReviewBulkSaveInput.of(1L, List.of(savedUrl, ReviewURL.from("https://b.com")));
+
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.findUrlHashesByMemberIdAndUrlHashIn(any(), anyList()))
+                .willReturn(List.of(savedUrl.hash()));
+        given(reviewRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(reviewCycleRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(deliveryWindow.timeFor(any())).willReturn(LocalTime.of(8, 0));
+
+        // when
+        final ReviewBulkSaveOutput actual = reviewService.saveReviews(input);
+
+        // then
+        final ArgumentCaptor<List<Review>> reviewCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reviewRepository).saveAllAndFlush(reviewCaptor.capture());
+
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.duplicatedUrls()).containsExactly(savedUrl);
+            softAssertions.assertThat(reviewCaptor.getValue())
+                    .extracting(Review::getUrl)
+                    .containsExactly(ReviewURL.from("https://b.com"));
+        });
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 멤버가 존재하지 않으면 예외를 던진다")
+    void saveReviews_fail_notFoundMember() {
+        // given
+        final ReviewBulkSaveInput input = ReviewBulkSaveInput.of(1L, List.of(ReviewURL.from("https://a.com")));
+        given(memberRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.saveReviews(input))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -115,13 +249,15 @@ class ReviewServiceTest {
     void saveReview_fail_notFoundDevice() {
         // given
         final ReviewSaveInput input = ReviewSaveInput.of("not-found", "https://test.com");
-        given(deviceRepository.findByIdentifier(any())).willReturn(Optional.empty());
+        given(deviceAuthenticator.authenticate(any()))
+                .willThrow(new UnauthorizedException("유효하지 않은 디바이스입니다"));
 
         // when
         // then
         assertThatThrownBy(() -> reviewService.saveReview(input))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("유효하지 않은 디바이스입니다");
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
     }
 
     @Test
@@ -131,19 +267,129 @@ class ReviewServiceTest {
         final String identifier = "inactive-device";
         final ReviewSaveInput input = ReviewSaveInput.of(identifier, "https://test.com");
 
-        final Device inactiveDevice = Device.withoutId(
-                Member.withoutId(Email.from("test@test.com")),
-                DeviceIdentifier.from(identifier),
-                false,
-                ActivationExpiredDateTime.create(now)
-        );
-
-        given(deviceRepository.findByIdentifier(any())).willReturn(Optional.of(inactiveDevice));
+        given(deviceAuthenticator.authenticate(DeviceIdentifier.from(identifier)))
+                .willThrow(new UnauthorizedException("인증되지 않은 디바이스입니다"));
 
         // when
         // then
         assertThatThrownBy(() -> reviewService.saveReview(input))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("인증되지 않은 디바이스입니다");
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("동시 저장으로 URL 해시 유니크 제약을 위반하면 충돌 예외를 던진다")
+    void saveReview_fail_urlHashRace() {
+        // given
+        final ReviewSaveInput input = ReviewSaveInput.of("device-id", "https://test.com");
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+
+        given(deviceAuthenticator.authenticate(any()))
+                .willReturn(new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from("device-id")));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("duplicate",
+                new SQLIntegrityConstraintViolationException(
+                        "Duplicate entry '1-abc' for key 'review.uk_review_member_id_url_hash'")));
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.saveReview(input))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("이미 등록된 복습 주제입니다");
+    }
+
+    @Test
+    @DisplayName("URL 해시 유니크 제약이 아닌 무결성 위반은 그대로 던진다")
+    void saveReview_fail_otherIntegrityViolation() {
+        // given
+        final ReviewSaveInput input = ReviewSaveInput.of("device-id", "https://test.com");
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final DataIntegrityViolationException violation = new DataIntegrityViolationException("fk",
+                new SQLIntegrityConstraintViolationException("Cannot add or update a child row: fk_review_member"));
+
+        given(deviceAuthenticator.authenticate(any()))
+                .willReturn(new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from("device-id")));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.saveAllAndFlush(anyList())).willThrow(violation);
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.saveReview(input)).isSameAs(violation);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 URL이고 거절 정책이면 예외를 던진다")
+    void saveReview_duplicate_reject() {
+        // given
+        final ReviewSaveInput input = ReviewSaveInput.of("device-id", "https://test.com");
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final Review review = Review.withoutId(member, ReviewURL.from("https://test.com/"));
+
+        given(deviceAuthenticator.authenticate(any()))
+                .willReturn(new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from("device-id")));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.findByMemberIdAndUrlHash(any(), any())).willReturn(Optional.of(review));
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.saveReview(input))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("이미 등록된 복습 주제입니다");
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("이미 등록된 URL이고 재예약 정책이면 남은 복습 주기를 지우고 오늘부터 다시 예약한다")
+    void saveReview_duplicate_reschedule() {
+        // given
+        ReflectionTestUtils.setField(reviewService, "duplicatePolicy", DuplicateReviewPolicy.RESCHEDULE);
+        final ReviewSaveInput input = ReviewSaveInput.of("device-id", "https://test.com");
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final Review review = Review.withoutId(member, ReviewURL.from("https://test.com"));
+        final ReviewCycle upcomingCycle = ReviewCycle.withoutId(review, now.plusDays(3));
+        ReflectionTestUtils.setField(upcomingCycle, "id", 7L);
+
+        given(deviceAuthenticator.authenticate(any()))
+                .willReturn(new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from("device-id")));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.findByMemberIdAndUrlHash(any(), any())).willReturn(Optional.of(review));
+        given(reviewCycleRepository.findUpcomingByReviewId(any(), any())).willReturn(List.of(upcomingCycle));
+        given(reviewCycleRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(deliveryWindow.timeFor(any())).willReturn(LocalTime.of(8, 0));
+
+        // when
+        final ReviewSaveOutput actual = reviewService.saveReview(input);
+
+        // then
+        verify(notificationHistoryRepository).deleteAllByReviewCycleIds(List.of(7L));
+        verify(reviewCycleRepository).deleteAllInBatch(List.of(upcomingCycle));
+        verify(reviewRepository, never()).saveAllAndFlush(anyList());
+        verify(notificationHistoryBulkRepository).insertAll(anyList());
+        assertThat(actual.scheduledAts()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 URL이고 병합 정책이면 기존 복습 일정을 그대로 반환한다")
+    void saveReview_duplicate_merge() {
+        // given
+        ReflectionTestUtils.setField(reviewService, "duplicatePolicy", DuplicateReviewPolicy.MERGE);
+        final ReviewSaveInput input = ReviewSaveInput.of("device-id", "https://test.com");
+        final Member member = Member.withoutId(Email.from("test@test.com"));
+        final Review review = Review.withoutId(member, ReviewURL.from("https://test.com"));
+        final ReviewCycle upcomingCycle = ReviewCycle.withoutId(review, LocalDateTime.of(2025, 1, 4, 0, 0));
+
+        given(deviceAuthenticator.authenticate(any()))
+                .willReturn(new AuthenticatedDevice(1L, 1L, member.getEmail(), DeviceIdentifier.from("device-id")));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(reviewRepository.findByMemberIdAndUrlHash(any(), any())).willReturn(Optional.of(review));
+        given(reviewCycleRepository.findUpcomingByReviewId(any(), any())).willReturn(List.of(upcomingCycle));
+
+        // when
+        final ReviewSaveOutput actual = reviewService.saveReview(input);
+
+        // then
+        verify(reviewCycleRepository, never()).saveAllAndFlush(anyList());
+        assertThat(actual.scheduledAts()).containsExactly(LocalDateTime.of(2025, 1, 4, 9, 0));
     }
 }
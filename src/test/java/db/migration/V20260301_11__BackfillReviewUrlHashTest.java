@@ -0,0 +1,26 @@
+package db.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V20260301_11__BackfillReviewUrlHashTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "' HTTPS://Example.COM:443/path?q=1#frag ', 83a0d374c8ac3a9ac2aa54cd2a3d8794e428048d44a3869d29785f6d64fabba7",
+            "https://example.com/path?q=1, 83a0d374c8ac3a9ac2aa54cd2a3d8794e428048d44a3869d29785f6d64fabba7",
+            "not a url, d8b5bf9b9fd4760c61234d12614d80c96892c75fe92d8819c6320f1ca6b3533d"
+    })
+    @DisplayName("마이그레이션 시점의 정규화 규칙으로 URL 해시를 계산한다")
+    void hash(final String url, final String expected) {
+        // given
+        // when
+        final String actual = V20260301_11__BackfillReviewUrlHash.hash(url);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+}
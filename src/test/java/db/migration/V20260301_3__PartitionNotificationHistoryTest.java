@@ -0,0 +1,29 @@
+package db.migration;
+
+import java.time.YearMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V20260301_3__PartitionNotificationHistoryTest {
+
+    @Test
+    @DisplayName("마이그레이션 시점의 달에 미리 생성할 달을 더한 달까지 월 파티션을 만든다")
+    void partitionSql() {
+        // given
+        final YearMonth current = YearMonth.of(2026, 10);
+
+        // when
+        final String actual = V20260301_3__PartitionNotificationHistory.partitionSql(current);
+
+        // then
+        assertThat(actual)
+                .contains("PARTITION p_legacy VALUES LESS THAN ('2026-03-01')")
+                .contains("PARTITION p202603 VALUES LESS THAN ('2026-04-01')")
+                .contains("PARTITION p202610 VALUES LESS THAN ('2026-11-01')")
+                .contains("PARTITION p202701 VALUES LESS THAN ('2027-02-01')")
+                .doesNotContain("p202702")
+                .contains("PARTITION p_future VALUES LESS THAN (MAXVALUE)");
+    }
+}